@@ -6,6 +6,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.0"
     id("org.asciidoctor.jvm.convert") version "3.3.2"
     id("org.hibernate.orm") version "6.2.0.Final"
+    id("me.champeau.jmh") version "0.7.1"
 
     val kotlinVersion = "1.8.0"
     kotlin("jvm") version kotlinVersion
@@ -0,0 +1,81 @@
+package com.keeper.homepage.domain.post.application;
+
+import com.keeper.homepage.domain.post.application.PostSearchService.SearchType;
+import com.keeper.homepage.domain.post.dao.PostSearchDocument;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 게시글 내용 검색 시 {@code LIKE '%검색어%'} 처럼 모든 게시글을 훑는 방식과 {@link PostSearchIndex} 비교
+ * <p>
+ * {@code ./gradlew jmh} 로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostSearchBenchmark {
+
+  private static final long CATEGORY_ID = 1L;
+  private static final String SEARCH = "리버싱 포너블";
+  private static final String[] WORDS = {"보안", "해킹", "스터디", "세미나", "리버싱", "포너블", "웹", "암호", "포렌식", "CTF",
+      "동아리", "발표", "자료", "질문", "족보", "키퍼", "알고리즘", "네트워크", "시스템", "프로젝트"};
+
+  @Param({"3000", "30000"})
+  private int postCount;
+
+  private List<PostSearchDocument> documents;
+  private PostSearchIndex index;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    documents = new ArrayList<>();
+    index = new PostSearchIndex();
+    for (long id = 1; id <= postCount; id++) {
+      PostSearchDocument document = new PostSearchDocument(id, CATEGORY_ID, false, LocalDateTime.now(),
+          randomSentence(random, 5), randomSentence(random, 300), "작성자");
+      documents.add(document);
+      index.put(document);
+    }
+  }
+
+  @Benchmark
+  public List<Long> scan() {
+    String search = SEARCH.toLowerCase(Locale.ROOT);
+    return documents.stream()
+        .filter(document -> document.content().toLowerCase(Locale.ROOT).contains(search))
+        .map(PostSearchDocument::id)
+        .toList();
+  }
+
+  @Benchmark
+  public List<Long> index() {
+    return index.search(CATEGORY_ID, SearchType.CONTENT, SEARCH.toLowerCase(Locale.ROOT));
+  }
+
+  private static String randomSentence(Random random, int wordCount) {
+    StringBuilder sentence = new StringBuilder();
+    for (int i = 0; i < wordCount; i++) {
+      sentence.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+    }
+    return sentence.toString().trim();
+  }
+}
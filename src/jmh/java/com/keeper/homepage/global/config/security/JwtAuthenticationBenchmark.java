@@ -0,0 +1,100 @@
+package com.keeper.homepage.global.config.security;
+
+import static com.keeper.homepage.domain.member.entity.job.MemberJob.MemberJobType.ROLE_회원;
+import static com.keeper.homepage.global.config.security.data.JwtType.ACCESS_TOKEN;
+import static com.keeper.homepage.global.config.security.data.JwtType.REFRESH_TOKEN;
+
+import com.keeper.homepage.global.config.security.data.JwtPayload;
+import com.keeper.homepage.global.config.security.data.JwtUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 인증된 요청 한 번에 {@code RefreshTokenFilter} 가 토큰을 검증하는 비용 비교
+ * <p>
+ * 기존 방식은 access 토큰 검증 2회(유효성 확인, 인증 정보 생성)와 refresh 토큰 검증 1회를 매번 새 파서로 한다. 현재 방식은 토큰마다 한 번만
+ * 검증하고, 파서를 재사용하며, 같은 토큰은 검증 결과 캐시에서 꺼낸다. {@code cacheMiss} 는 캐시에 없는 토큰의 비용이다.
+ * <p>
+ * {@code ./gradlew jmh} 로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+  private static final String SECRET_KEY = "2B4B6250655368566D597133743677397A244326452948404D635166546A576E";
+
+  // 검증 결과 캐시 크기보다 많아야 매번 캐시에서 밀려난다.
+  private static final int COLD_TOKEN_COUNT = 30_000;
+
+  private JwtTokenProvider jwtTokenProvider;
+  private String accessToken;
+  private String refreshToken;
+  private String[] coldAccessTokens;
+  private String[] coldRefreshTokens;
+  private int coldIndex;
+
+  @Setup
+  public void setUp() {
+    jwtTokenProvider = new JwtTokenProvider(SECRET_KEY);
+    accessToken = jwtTokenProvider.createAccessToken(ACCESS_TOKEN, 1L, ROLE_회원);
+    refreshToken = jwtTokenProvider.createAccessToken(REFRESH_TOKEN, 1L, ROLE_회원);
+    coldAccessTokens = new String[COLD_TOKEN_COUNT];
+    coldRefreshTokens = new String[COLD_TOKEN_COUNT];
+    for (int i = 0; i < COLD_TOKEN_COUNT; i++) {
+      coldAccessTokens[i] = jwtTokenProvider.createAccessToken(ACCESS_TOKEN, (long) i, ROLE_회원);
+      coldRefreshTokens[i] = jwtTokenProvider.createAccessToken(REFRESH_TOKEN, (long) i, ROLE_회원);
+    }
+  }
+
+  @Benchmark
+  public Authentication legacy() {
+    legacyParse(accessToken);
+    legacyParse(refreshToken);
+    Claims claims = legacyParse(accessToken);
+    UserDetails userDetails = new JwtUserDetails(claims.getSubject(),
+        List.of(claims.get("roles").toString().split(",")));
+    return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+  }
+
+  private Claims legacyParse(String token) {
+    return Jwts.parserBuilder()
+        .setSigningKey(jwtTokenProvider.secretKey)
+        .build()
+        .parseClaimsJws(token)
+        .getBody();
+  }
+
+  @Benchmark
+  public Authentication parseOnce() {
+    JwtPayload accessPayload = jwtTokenProvider.verify(accessToken);
+    jwtTokenProvider.verify(refreshToken);
+    return jwtTokenProvider.getAuthentication(accessPayload);
+  }
+
+  @Benchmark
+  public Authentication cacheMiss() {
+    coldIndex = (coldIndex + 1) % COLD_TOKEN_COUNT;
+    JwtPayload accessPayload = jwtTokenProvider.verify(coldAccessTokens[coldIndex]);
+    jwtTokenProvider.verify(coldRefreshTokens[coldIndex]);
+    return jwtTokenProvider.getAuthentication(accessPayload);
+  }
+}
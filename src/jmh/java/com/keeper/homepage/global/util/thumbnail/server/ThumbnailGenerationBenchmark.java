@@ -0,0 +1,82 @@
+package com.keeper.homepage.global.util.thumbnail.server;
+
+import static java.awt.Image.SCALE_SMOOTH;
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+
+import com.keeper.homepage.global.util.thumbnail.ThumbnailType;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 기존 썸네일 생성 방식(전체 디코딩 2회 + {@code getScaledInstance})과 {@link ThumbnailServerGenerator} 비교
+ * <p>
+ * {@code ./gradlew jmh} 로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThumbnailGenerationBenchmark {
+
+  private static final ThumbnailType TYPE = ThumbnailType.DEFAULT;
+
+  @Param({"jpeg", "png"})
+  private String format;
+
+  @Param({"1024", "4096"})
+  private int size;
+
+  private byte[] imageData;
+
+  @Setup
+  public void setUp() throws IOException {
+    BufferedImage image = new BufferedImage(size, size * 3 / 4, TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setPaint(new GradientPaint(0, 0, Color.ORANGE, size, size, Color.BLUE));
+    graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+    graphics.dispose();
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ImageIO.write(image, format, outputStream);
+    imageData = outputStream.toByteArray();
+  }
+
+  @Benchmark
+  public BufferedImage legacy() throws IOException {
+    if (ImageIO.read(new ByteArrayInputStream(imageData)) == null) {
+      throw new IllegalArgumentException();
+    }
+    BufferedImage original = ImageIO.read(new ByteArrayInputStream(imageData));
+    Image scaledInstance = original.getScaledInstance(TYPE.getWidthPixel(), TYPE.getHeightPixel(), SCALE_SMOOTH);
+    BufferedImage outputImage = new BufferedImage(TYPE.getWidthPixel(), TYPE.getHeightPixel(), TYPE_INT_RGB);
+    outputImage.getGraphics().drawImage(scaledInstance, 0, 0, null);
+    return outputImage;
+  }
+
+  @Benchmark
+  public BufferedImage singleDecode() throws IOException {
+    return ThumbnailServerGenerator.generate(new ByteArrayInputStream(imageData), "benchmark." + format, TYPE,
+        ThumbnailServerValidator.DEFAULT_MAX_PIXELS);
+  }
+}
@@ -1,5 +1,11 @@
 package com.keeper.homepage.domain.auth.api;
 
+import static com.keeper.homepage.global.util.ratelimit.RateLimitPolicy.AUTH_CODE_CHECK_LOGIN_ID;
+import static com.keeper.homepage.global.util.ratelimit.RateLimitPolicy.AUTH_CODE_EMAIL;
+import static com.keeper.homepage.global.util.ratelimit.RateLimitPolicy.AUTH_CODE_IP;
+import static com.keeper.homepage.global.util.ratelimit.RateLimitPolicy.SIGN_IN_IP;
+import static com.keeper.homepage.global.util.ratelimit.RateLimitPolicy.SIGN_IN_LOGIN_ID;
+
 import com.keeper.homepage.domain.auth.application.SignInService;
 import com.keeper.homepage.domain.auth.dto.request.ChangePasswordForMissingRequest;
 import com.keeper.homepage.domain.auth.dto.request.FindLoginIdRequest;
@@ -10,6 +16,7 @@ import com.keeper.homepage.domain.auth.dto.response.EmailAuthResponse;
 import com.keeper.homepage.domain.auth.dto.response.SignInResponse;
 import com.keeper.homepage.domain.member.entity.embedded.EmailAddress;
 import com.keeper.homepage.domain.member.entity.embedded.LoginId;
+import com.keeper.homepage.global.util.ratelimit.RateLimiter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -29,10 +36,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class SignInController {
 
   private final SignInService signInService;
+  private final RateLimiter rateLimiter;
 
   @PostMapping
   public ResponseEntity<SignInResponse> signIn(@RequestBody @Valid SignInRequest request,
       HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+    String ip = httpRequest.getRemoteAddr();
+    rateLimiter.acquire(ip, SIGN_IN_LOGIN_ID.key(request.getLoginId()), SIGN_IN_IP.key(ip));
     return ResponseEntity.ok(
         signInService.signIn(
             LoginId.from(request.getLoginId()),
@@ -42,28 +52,36 @@ public class SignInController {
   }
 
   @PostMapping("/find-login-id")
-  public ResponseEntity<Void> findLoginId(@RequestBody @Email FindLoginIdRequest request) {
+  public ResponseEntity<Void> findLoginId(@RequestBody @Email FindLoginIdRequest request,
+      HttpServletRequest httpRequest) {
+    String ip = httpRequest.getRemoteAddr();
+    rateLimiter.acquire(ip, AUTH_CODE_EMAIL.key(request.getEmail()), AUTH_CODE_IP.key(ip));
     signInService.findLoginId(EmailAddress.from(request.getEmail()));
     return ResponseEntity.noContent().build();
   }
 
   @PostMapping("/send-password-change-auth-code")
   public ResponseEntity<EmailAuthResponse> sendPasswordChangeAuthCode(
-      @RequestBody @Valid MemberIdAndEmailRequest request) {
+      @RequestBody @Valid MemberIdAndEmailRequest request, HttpServletRequest httpRequest) {
+    String ip = httpRequest.getRemoteAddr();
+    rateLimiter.acquire(ip, AUTH_CODE_EMAIL.key(request.getEmail()), AUTH_CODE_IP.key(ip));
     int expiredSeconds = signInService.sendPasswordChangeAuthCode(EmailAddress.from(request.getEmail()),
         LoginId.from(request.getLoginId()));
     return ResponseEntity.ok(EmailAuthResponse.from(expiredSeconds));
   }
 
   @GetMapping("/check-auth-code")
-  public ResponseEntity<CheckAuthCodeResponse> checkAuthCode(String email, String loginId, String authCode) {
+  public ResponseEntity<CheckAuthCodeResponse> checkAuthCode(String email, String loginId, String authCode,
+      HttpServletRequest httpRequest) {
+    rateLimiter.acquire(httpRequest.getRemoteAddr(), AUTH_CODE_CHECK_LOGIN_ID.key(loginId));
     boolean isAuth = signInService.isAuthenticated(EmailAddress.from(email), LoginId.from(loginId), authCode);
     return ResponseEntity.ok(CheckAuthCodeResponse.from(isAuth));
   }
 
   @PatchMapping("/change-password-for-missing")
   public ResponseEntity<Void> changePassword(
-      @RequestBody @Valid ChangePasswordForMissingRequest request) {
+      @RequestBody @Valid ChangePasswordForMissingRequest request, HttpServletRequest httpRequest) {
+    rateLimiter.acquire(httpRequest.getRemoteAddr(), AUTH_CODE_CHECK_LOGIN_ID.key(request.getLoginId()));
     signInService.changePassword(request.getAuthCode(),
         LoginId.from(request.getLoginId()), EmailAddress.from(request.getEmail()), request.getRawPassword());
     return ResponseEntity.noContent().build();
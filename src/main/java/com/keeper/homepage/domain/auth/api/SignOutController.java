@@ -1,8 +1,11 @@
 package com.keeper.homepage.domain.auth.api;
 
+import static org.springframework.http.HttpHeaders.USER_AGENT;
+
 import com.keeper.homepage.domain.auth.application.SignOutService;
-import com.keeper.homepage.domain.member.entity.Member;
 import com.keeper.homepage.global.config.security.annotation.LoginMember;
+import com.keeper.homepage.global.config.security.data.MemberPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -18,9 +21,9 @@ public class SignOutController {
   private final SignOutService signOutService;
 
   @PostMapping
-  public ResponseEntity<Void> signOut(@LoginMember Member me,
-      HttpServletResponse httpServletResponse) {
-    signOutService.signOut(me, httpServletResponse);
+  public ResponseEntity<Void> signOut(@LoginMember MemberPrincipal me,
+      HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
+    signOutService.signOut(me.id(), httpServletRequest.getHeader(USER_AGENT), httpServletResponse);
     return ResponseEntity.noContent().build();
   }
 }
@@ -1,5 +1,9 @@
 package com.keeper.homepage.domain.auth.api;
 
+import static com.keeper.homepage.global.util.ratelimit.RateLimitPolicy.AUTH_CODE_EMAIL;
+import static com.keeper.homepage.global.util.ratelimit.RateLimitPolicy.AUTH_CODE_IP;
+import static com.keeper.homepage.global.util.ratelimit.RateLimitPolicy.SIGN_UP_IP;
+
 import com.keeper.homepage.domain.auth.application.CheckDuplicateService;
 import com.keeper.homepage.domain.auth.application.EmailAuthService;
 import com.keeper.homepage.domain.auth.application.SignUpService;
@@ -10,6 +14,8 @@ import com.keeper.homepage.domain.auth.dto.response.EmailAuthResponse;
 import com.keeper.homepage.domain.member.entity.embedded.EmailAddress;
 import com.keeper.homepage.domain.member.entity.embedded.LoginId;
 import com.keeper.homepage.domain.member.entity.embedded.StudentId;
+import com.keeper.homepage.global.util.ratelimit.RateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -30,15 +36,21 @@ public class SignUpController {
   private final SignUpService signUpService;
   private final EmailAuthService emailAuthService;
   private final CheckDuplicateService checkDuplicateService;
+  private final RateLimiter rateLimiter;
 
   @PostMapping
-  public ResponseEntity<Void> signUp(@RequestBody @Valid SignUpRequest request) {
+  public ResponseEntity<Void> signUp(@RequestBody @Valid SignUpRequest request, HttpServletRequest httpRequest) {
+    String ip = httpRequest.getRemoteAddr();
+    rateLimiter.acquire(ip, SIGN_UP_IP.key(ip));
     long memberId = signUpService.signUp(request.toMemberProfile(), request.getAuthCode());
     return ResponseEntity.created(URI.create("/members/" + memberId)).build();
   }
 
   @PostMapping("/email-auth")
-  public ResponseEntity<EmailAuthResponse> emailAuth(@RequestBody @Valid EmailAuthRequest request) {
+  public ResponseEntity<EmailAuthResponse> emailAuth(@RequestBody @Valid EmailAuthRequest request,
+      HttpServletRequest httpRequest) {
+    String ip = httpRequest.getRemoteAddr();
+    rateLimiter.acquire(ip, AUTH_CODE_EMAIL.key(request.getEmail()), AUTH_CODE_IP.key(ip));
     int expiredSeconds = emailAuthService.emailAuth(request.getEmail());
     return ResponseEntity.ok(EmailAuthResponse.from(expiredSeconds));
   }
@@ -1,7 +1,7 @@
 package com.keeper.homepage.domain.auth.api.test;
 
-import com.keeper.homepage.domain.member.entity.Member;
 import com.keeper.homepage.global.config.security.annotation.LoginMember;
+import com.keeper.homepage.global.config.security.data.MemberPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,14 +20,14 @@ public class AuthTestController {
 
   @Secured("ROLE_회원")
   @GetMapping("/user")
-  public String userToken(@LoginMember Member loginMember) {
-    return String.valueOf(loginMember.getId());
+  public String userToken(@LoginMember MemberPrincipal loginMember) {
+    return String.valueOf(loginMember.id());
   }
 
   @Secured("ROLE_회장")
   @GetMapping("/admin")
-  public String adminToken(@LoginMember Member loginMember) {
-    return String.valueOf(loginMember.getId());
+  public String adminToken(@LoginMember MemberPrincipal loginMember) {
+    return String.valueOf(loginMember.id());
   }
 
   @GetMapping("/refresh")
@@ -3,9 +3,12 @@ package com.keeper.homepage.domain.auth.application;
 import static com.keeper.homepage.global.config.security.data.JwtType.ACCESS_TOKEN;
 import static com.keeper.homepage.global.config.security.data.JwtType.REFRESH_TOKEN;
 
+import com.keeper.homepage.domain.auth.dao.redis.RefreshTokenRepository;
 import com.keeper.homepage.global.config.security.JwtTokenProvider;
-import com.keeper.homepage.global.util.redis.RedisUtil;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
@@ -15,17 +18,80 @@ import org.springframework.stereotype.Service;
 @Service
 public class AuthCookieService {
 
+  private static final int REVOKED_TOKEN_CACHE_SIZE = 10_000;
+  private static final long REVOKED_TOKEN_CACHE_TTL_MILLIS = 60 * 1000L;
+
   private final JwtTokenProvider jwtTokenProvider;
-  private final RedisUtil redisUtil;
+  private final RefreshTokenRepository refreshTokenRepository;
+
+  /**
+   * 폐기된 refresh token 과 폐기 시각. 같은 토큰으로 반복되는 재발급 요청은 Redis 를 거치지 않고 거절한다.
+   */
+  private final LinkedHashMap<String, Long> revokedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+      return size() > REVOKED_TOKEN_CACHE_SIZE;
+    }
+  };
 
   public void setNewCookieInResponse(String authId, String[] roles, String userAgent, HttpServletResponse response) {
     String newRefreshToken = jwtTokenProvider.createAccessToken(REFRESH_TOKEN, authId, roles);
-    setTokenInCookie(response, newRefreshToken, (int) REFRESH_TOKEN.getExpiredMillis() / 1000,
+    refreshTokenRepository.save(Long.parseLong(authId), userAgent, newRefreshToken);
+    setTokenCookies(response, newRefreshToken, jwtTokenProvider.createAccessToken(ACCESS_TOKEN, authId, roles));
+  }
+
+  /**
+   * 요청한 refresh token 을 새 토큰으로 교체하고 쿠키에 담는다. 이미 교체된 토큰을 유예 시간이 지나서 다시 쓰면 그 기기의 현재 토큰도 폐기된다.
+   *
+   * @return refresh token 이 이미 폐기되어 재발급하지 못했으면 false
+   */
+  public boolean reissueCookieInResponse(String authId, String[] roles, String userAgent, String refreshToken,
+      HttpServletResponse response) {
+    String newRefreshToken = jwtTokenProvider.createAccessToken(REFRESH_TOKEN, authId, roles);
+    Optional<String> currentRefreshToken = refreshTokenRepository.rotate(Long.parseLong(authId), userAgent,
+        refreshToken, newRefreshToken);
+    if (currentRefreshToken.isEmpty()) {
+      revoke(refreshToken);
+      return false;
+    }
+    setTokenCookies(response, currentRefreshToken.get(),
+        jwtTokenProvider.createAccessToken(ACCESS_TOKEN, authId, roles));
+    return true;
+  }
+
+  public boolean isRevoked(String refreshToken) {
+    synchronized (revokedTokens) {
+      Long revokedMillis = revokedTokens.get(refreshToken);
+      if (revokedMillis == null) {
+        return false;
+      }
+      if (revokedMillis + REVOKED_TOKEN_CACHE_TTL_MILLIS <= System.currentTimeMillis()) {
+        revokedTokens.remove(refreshToken);
+        return false;
+      }
+      return true;
+    }
+  }
+
+  /**
+   * 회원의 모든 기기에서 발급된 refresh token 을 폐기한다.
+   */
+  public void revokeAll(long memberId) {
+    refreshTokenRepository.deleteAll(memberId)
+        .forEach(this::revoke);
+  }
+
+  private void revoke(String refreshToken) {
+    synchronized (revokedTokens) {
+      revokedTokens.put(refreshToken, System.currentTimeMillis());
+    }
+  }
+
+  private void setTokenCookies(HttpServletResponse response, String refreshToken, String accessToken) {
+    setTokenInCookie(response, refreshToken, (int) REFRESH_TOKEN.getExpiredMillis() / 1000,
         REFRESH_TOKEN.getTokenName());
-    String newAccessToken = jwtTokenProvider.createAccessToken(ACCESS_TOKEN, authId, roles);
-    setTokenInCookie(response, newAccessToken, (int) REFRESH_TOKEN.getExpiredMillis() / 1000,
+    setTokenInCookie(response, accessToken, (int) REFRESH_TOKEN.getExpiredMillis() / 1000,
         ACCESS_TOKEN.getTokenName());
-    redisUtil.setDataExpire(JwtTokenProvider.getRefreshTokenKeyForRedis(authId, userAgent), newRefreshToken, REFRESH_TOKEN.getExpiredMillis());
   }
 
   private void setTokenInCookie(HttpServletResponse httpResponse, String token, int expiredSeconds, String cookieName) {
@@ -39,9 +105,10 @@ public class AuthCookieService {
     httpResponse.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
   }
 
-  public void setCookieExpiredWithRedis(String authId, HttpServletResponse response) {
+  public void setCookieExpiredWithRedis(long memberId, String userAgent, HttpServletResponse response) {
     setCookieExpired(response);
-    redisUtil.deleteData(authId);
+    refreshTokenRepository.delete(memberId, userAgent)
+        .ifPresent(this::revoke);
   }
 
   public void setCookieExpired(HttpServletResponse response) {
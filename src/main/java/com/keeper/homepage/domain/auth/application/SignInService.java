@@ -5,9 +5,11 @@ import com.keeper.homepage.domain.member.dao.MemberRepository;
 import com.keeper.homepage.domain.member.entity.Member;
 import com.keeper.homepage.domain.member.entity.embedded.EmailAddress;
 import com.keeper.homepage.domain.member.entity.embedded.LoginId;
+import com.keeper.homepage.domain.member.entity.embedded.Password;
 import com.keeper.homepage.domain.member.entity.job.MemberHasMemberJob;
 import com.keeper.homepage.domain.member.entity.job.MemberJob;
 import com.keeper.homepage.domain.member.entity.job.MemberJob.MemberJobType;
+import com.keeper.homepage.global.config.password.PasswordService;
 import com.keeper.homepage.global.error.BusinessException;
 import com.keeper.homepage.global.error.ErrorCode;
 import com.keeper.homepage.global.util.mail.MailUtil;
@@ -22,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -34,21 +37,36 @@ public class SignInService {
 
   private final MemberRepository memberRepository;
   private final AuthCookieService authCookieService;
+  private final PasswordService passwordService;
   private final RedisUtil redisUtil;
   private final MailUtil mailUtil;
+  private final TransactionTemplate transactionTemplate;
 
-  @Transactional
+  /**
+   * 해시 계산 대기열에서 기다리는 동안 DB 커넥션을 잡지 않도록 비밀번호 확인과 재해시는 트랜잭션 밖에서 하고, 재해시 저장과 세션 발급만 짧은
+   * 트랜잭션에서 처리한다.
+   */
   public SignInResponse signIn(LoginId loginId, String rawPassword, HttpServletRequest request,
       HttpServletResponse response) {
     Member member = memberRepository.findByProfileLoginId(loginId)
         .orElseThrow(
             () -> new BusinessException(loginId.get(), "loginId", ErrorCode.MEMBER_NOT_FOUND));
-    if (member.getProfile().getPassword().isWrongPassword(rawPassword)) {
+    Password password = member.getProfile().getPassword();
+    if (passwordService.isWrongPassword(password, rawPassword)) {
       throw new BusinessException(loginId.get(), "loginId", ErrorCode.MEMBER_WRONG_ID_OR_PASSWORD);
     }
-    authCookieService.setNewCookieInResponse(String.valueOf(member.getId()),
-        getRoles(member), request.getHeader(HttpHeaders.USER_AGENT), response);
-    return SignInResponse.of(member, Arrays.stream(getRoles(member)).toList());
+    Password rehashedPassword = password.needsRehash() ? passwordService.encode(rawPassword) : null;
+    return transactionTemplate.execute(status -> {
+      Member signInMember = memberRepository.findById(member.getId())
+          .orElseThrow(() -> new BusinessException(loginId.get(), "loginId", ErrorCode.MEMBER_NOT_FOUND));
+      // 확인하는 사이 비밀번호가 바뀌었다면 이전 비밀번호로 만든 해시로 덮어쓰지 않는다.
+      if (rehashedPassword != null && signInMember.getProfile().getPassword().equals(password)) {
+        signInMember.getProfile().changePassword(rehashedPassword);
+      }
+      authCookieService.setNewCookieInResponse(String.valueOf(signInMember.getId()),
+          getRoles(signInMember), request.getHeader(HttpHeaders.USER_AGENT), response);
+      return SignInResponse.of(signInMember, Arrays.stream(getRoles(signInMember)).toList());
+    });
   }
 
   private static String[] getRoles(Member member) {
@@ -106,5 +124,6 @@ public class SignInService {
     Member member = memberRepository.findByProfileEmailAddressAndProfileLoginId(email, loginId)
         .orElseThrow(() -> new BusinessException(email.get(), "email", ErrorCode.MEMBER_NOT_FOUND));
     member.getProfile().changePassword(rawPassword);
+    authCookieService.revokeAll(member.getId());
   }
 }
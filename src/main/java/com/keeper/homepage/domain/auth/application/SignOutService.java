@@ -1,6 +1,5 @@
 package com.keeper.homepage.domain.auth.application;
 
-import com.keeper.homepage.domain.member.entity.Member;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -11,7 +10,7 @@ public class SignOutService {
 
   private final AuthCookieService authCookieService;
 
-  public void signOut(Member me, HttpServletResponse response) {
-    authCookieService.setCookieExpiredWithRedis(String.valueOf(me.getId()), response);
+  public void signOut(long memberId, String userAgent, HttpServletResponse response) {
+    authCookieService.setCookieExpiredWithRedis(memberId, userAgent, response);
   }
 }
@@ -0,0 +1,204 @@
+package com.keeper.homepage.domain.auth.dao.redis;
+
+import static com.keeper.homepage.global.config.security.data.JwtType.REFRESH_TOKEN;
+
+import com.keeper.homepage.global.config.security.JwtTokenProvider;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원의 기기(User-Agent)별 refresh token 저장소.
+ * <p>
+ * 토큰은 {@code refreshToken:{회원 ID}:{base64 User-Agent}} 에 문자열 그대로 저장하고, 회원의 모든 기기 키를
+ * {@code refreshTokenSessions:{회원 ID}} Set 에 모아 둔다.
+ * <p>
+ * 교체된 토큰은 {@link #ROTATION_GRACE_MILLIS} 동안만 받아주고, 그 뒤에 다시 쓰이면 토큰이 탈취된 것으로 보고 그 기기의 현재 토큰까지 폐기한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepository {
+
+  private static final String SESSIONS_KEY_PREFIX = "refreshTokenSessions:";
+  private static final String PREVIOUS_TOKEN_KEY_SUFFIX = ":previous";
+  private static final int SCAN_COUNT = 1000;
+
+  /**
+   * 같은 refresh token 으로 동시에 재발급을 요청한 다른 탭이 새 토큰을 받아갈 수 있는 시간
+   */
+  private static final long ROTATION_GRACE_MILLIS = 10 * 1000L;
+
+  /**
+   * KEYS: 토큰 키, 이전 토큰 키, 기기 목록 키 / ARGV: 요청 토큰, 새 토큰, 토큰 만료 시간, 유예 시간
+   * <p>
+   * 요청 토큰이 현재 토큰이면 새 토큰으로 교체하고 새 토큰을, 방금 교체된 이전 토큰이면 현재 토큰을, 둘 다 아니면 nil 을 돌려준다. 기존에
+   * JSON 문자열로 저장된 토큰도 현재 토큰으로 인정한다.
+   * <p>
+   * 기기에 현재 토큰이 있는데 둘 다 아니면 유예 시간이 지난 뒤 교체된 토큰을 다시 쓴 것이므로, 현재 토큰도 지워 기기를 로그아웃시킨다.
+   */
+  private static final RedisScript<String> ROTATE_SCRIPT = RedisScript.of("""
+      local current = redis.call('GET', KEYS[1])
+      if current == ARGV[1] or current == '"' .. ARGV[1] .. '"' then
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[4])
+        redis.call('SADD', KEYS[3], KEYS[1])
+        redis.call('PEXPIRE', KEYS[3], ARGV[3])
+        return ARGV[2]
+      end
+      if current and redis.call('GET', KEYS[2]) == ARGV[1] then
+        return current
+      end
+      if current then
+        redis.call('DEL', KEYS[1], KEYS[2])
+        redis.call('SREM', KEYS[3], KEYS[1])
+      end
+      return false
+      """, String.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  public void save(long memberId, String userAgent, String refreshToken) {
+    String tokenKey = getTokenKey(memberId, userAgent);
+    String sessionsKey = getSessionsKey(memberId);
+    long expiredMillis = REFRESH_TOKEN.getExpiredMillis();
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      StringRedisConnection stringConnection = (StringRedisConnection) connection;
+      stringConnection.pSetEx(tokenKey, expiredMillis, refreshToken);
+      stringConnection.sAdd(sessionsKey, tokenKey);
+      stringConnection.pExpire(sessionsKey, expiredMillis);
+      return null;
+    });
+  }
+
+  /**
+   * @return 클라이언트가 앞으로 사용해야 할 refresh token. 요청 토큰이 이미 폐기되었으면 빈 값이고, 교체된 토큰을 다시 쓴 경우 그 기기의 현재
+   * 토큰도 폐기된다.
+   */
+  public Optional<String> rotate(long memberId, String userAgent, String refreshToken, String newRefreshToken) {
+    String tokenKey = getTokenKey(memberId, userAgent);
+    String result = redisTemplate.execute(ROTATE_SCRIPT,
+        List.of(tokenKey, tokenKey + PREVIOUS_TOKEN_KEY_SUFFIX, getSessionsKey(memberId)),
+        refreshToken, newRefreshToken, String.valueOf(REFRESH_TOKEN.getExpiredMillis()),
+        String.valueOf(ROTATION_GRACE_MILLIS));
+    return Optional.ofNullable(result);
+  }
+
+  /**
+   * @return 삭제된 refresh token
+   */
+  public Optional<String> delete(long memberId, String userAgent) {
+    String tokenKey = getTokenKey(memberId, userAgent);
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      StringRedisConnection stringConnection = (StringRedisConnection) connection;
+      stringConnection.get(tokenKey);
+      stringConnection.del(tokenKey, tokenKey + PREVIOUS_TOKEN_KEY_SUFFIX);
+      stringConnection.sRem(getSessionsKey(memberId), tokenKey);
+      return null;
+    });
+    return Optional.ofNullable((String) results.get(0));
+  }
+
+  /**
+   * @return 기기별 토큰 키와 refresh token. 이미 만료된 기기는 포함하지 않는다.
+   */
+  public Map<String, String> findAll(long memberId) {
+    List<String> tokenKeys = getTokenKeys(memberId);
+    List<Object> tokens = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      StringRedisConnection stringConnection = (StringRedisConnection) connection;
+      tokenKeys.forEach(stringConnection::get);
+      return null;
+    });
+    Map<String, String> result = new LinkedHashMap<>();
+    for (int i = 0; i < tokenKeys.size(); i++) {
+      if (tokens.get(i) != null) {
+        result.put(tokenKeys.get(i), (String) tokens.get(i));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 회원의 모든 기기에서 로그아웃시킨다. 기기 목록을 만들기 전에 저장되어 아직 한 번도 교체되지 않은 토큰도 키 이름으로 찾아 지운다.
+   *
+   * @return 삭제된 refresh token 목록
+   */
+  public List<String> deleteAll(long memberId) {
+    String sessionsKey = getSessionsKey(memberId);
+    Set<String> allTokenKeys = new LinkedHashSet<>(getTokenKeys(memberId));
+    allTokenKeys.addAll(scanLegacyTokenKeys(memberId));
+    List<String> tokenKeys = List.copyOf(allTokenKeys);
+    List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      StringRedisConnection stringConnection = (StringRedisConnection) connection;
+      for (String tokenKey : tokenKeys) {
+        stringConnection.get(tokenKey);
+        stringConnection.del(tokenKey, tokenKey + PREVIOUS_TOKEN_KEY_SUFFIX);
+      }
+      stringConnection.del(sessionsKey);
+      return null;
+    });
+    List<String> deletedTokens = new ArrayList<>();
+    for (int i = 0; i < tokenKeys.size(); i++) {
+      Object token = results.get(i * 2);
+      if (token != null) {
+        deletedTokens.add(unquote((String) token));
+      }
+    }
+    return deletedTokens;
+  }
+
+  private List<String> getTokenKeys(long memberId) {
+    Set<String> tokenKeys = redisTemplate.opsForSet().members(getSessionsKey(memberId));
+    return tokenKeys == null ? List.of() : List.copyOf(tokenKeys);
+  }
+
+  /**
+   * 기기 목록에 없는 토큰 키를 찾는다. 기기 목록이 생기기 전에 저장된 토큰은 refresh token 만료 시간이 지나면 모두 사라지므로, 그 뒤에는 지워도
+   * 된다.
+   */
+  private List<String> scanLegacyTokenKeys(long memberId) {
+    // 빈 User-Agent 는 빈 문자열로 인코딩되므로 회원의 토큰 키 접두사가 된다.
+    ScanOptions options = ScanOptions.scanOptions()
+        .match(getTokenKey(memberId, "") + "*")
+        .count(SCAN_COUNT)
+        .build();
+    List<String> tokenKeys = new ArrayList<>();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      cursor.forEachRemaining(tokenKey -> {
+        if (!tokenKey.endsWith(PREVIOUS_TOKEN_KEY_SUFFIX)) {
+          tokenKeys.add(tokenKey);
+        }
+      });
+    }
+    return tokenKeys;
+  }
+
+  /**
+   * 기존에 JSON 문자열로 저장된 토큰의 따옴표를 벗긴다.
+   */
+  private static String unquote(String token) {
+    if (token.length() >= 2 && token.startsWith("\"") && token.endsWith("\"")) {
+      return token.substring(1, token.length() - 1);
+    }
+    return token;
+  }
+
+  private static String getTokenKey(long memberId, String userAgent) {
+    return JwtTokenProvider.getRefreshTokenKeyForRedis(String.valueOf(memberId), userAgent);
+  }
+
+  private static String getSessionsKey(long memberId) {
+    return SESSIONS_KEY_PREFIX + memberId;
+  }
+}
@@ -12,7 +12,10 @@ import com.keeper.homepage.domain.comment.dto.response.CommentListResponse;
 import com.keeper.homepage.domain.comment.dto.response.CommentResponse;
 import com.keeper.homepage.domain.comment.entity.Comment;
 import com.keeper.homepage.domain.member.application.convenience.MemberFindService;
+import com.keeper.homepage.domain.member.application.convenience.MemberInteraction;
+import com.keeper.homepage.domain.member.application.convenience.MemberInteractionService;
 import com.keeper.homepage.domain.member.entity.Member;
+import com.keeper.homepage.domain.post.application.PostCounterService;
 import com.keeper.homepage.domain.post.application.convenience.ValidPostFindService;
 import com.keeper.homepage.domain.post.entity.Post;
 import com.keeper.homepage.global.error.BusinessException;
@@ -32,7 +35,9 @@ public class CommentService {
   private final ValidPostFindService validPostFindService;
   private final CommentFindService commentFindService;
   private final MemberFindService memberFindService;
+  private final MemberInteractionService memberInteractionService;
   private final CommentDeleteService commentDeleteService;
+  private final PostCounterService postCounterService;
 
   private static final String DELETED_COMMENT_CONTENT = "(삭제된 댓글입니다)";
   private static final String ANONYMOUS_NAME = "익명";
@@ -52,7 +57,9 @@ public class CommentService {
         .ipAddress(WebUtil.getUserIP())
         .build();
 
-    return commentRepository.save(comment).getId();
+    long commentId = commentRepository.save(comment).getId();
+    postCounterService.increaseCommentCount(postId, 1);
+    return commentId;
   }
 
   private Comment getParentById(Long parentId) {
@@ -69,13 +76,16 @@ public class CommentService {
   public CommentListResponse getComments(Member member, Long postId) {
     Post post = validPostFindService.findById(postId);
     List<Comment> comments = post.getComments();
+    MemberInteraction interaction = memberInteractionService.getInteraction(member);
 
     List<CommentResponse> commentResponses = comments.stream()
         .map(comment -> {
+          boolean isLike = interaction.isLike(comment);
+          boolean isDislike = interaction.isDislike(comment);
           if (post.isCategory(익명게시판)) {
-            return CommentResponse.of(comment, ANONYMOUS_NAME, null, member.isLike(comment), member.isDislike(comment));
+            return CommentResponse.of(comment, ANONYMOUS_NAME, null, isLike, isDislike);
           }
-          return CommentResponse.from(comment, member.isLike(comment), member.isDislike(comment));
+          return CommentResponse.from(comment, isLike, isDislike);
         })
         .toList();
     return CommentListResponse.from(commentResponses);
@@ -2,6 +2,7 @@ package com.keeper.homepage.domain.comment.dao;
 
 import com.keeper.homepage.domain.comment.entity.Comment;
 import com.keeper.homepage.domain.member.entity.Member;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,4 +15,10 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
       + "SET c.member = :virtualMember "
       + "WHERE c.member = :member")
   void updateVirtualMember(@Param("member") Member member, @Param("virtualMember") Member virtualMember);
+
+  /**
+   * 회원이 댓글을 작성한 게시글 id 목록
+   */
+  @Query("SELECT DISTINCT c.post.id FROM Comment c WHERE c.member.id = :memberId")
+  List<Long> findAllPostIdByMemberId(@Param("memberId") long memberId);
 }
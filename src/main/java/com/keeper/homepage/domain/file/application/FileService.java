@@ -6,12 +6,23 @@ import com.keeper.homepage.domain.file.dao.FileRepository;
 import com.keeper.homepage.domain.file.entity.FileEntity;
 import com.keeper.homepage.global.error.BusinessException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,14 +35,113 @@ public class FileService {
 
   private final FileRepository fileRepository;
 
+  private static final int ZIP_BUFFER_SIZE = 64 * 1024;
+  private static final Set<String> COMPRESSED_EXTENSIONS = Set.of("zip", "7z", "rar", "gz", "tgz", "bz2", "xz",
+      "jpg", "jpeg", "png", "gif", "webp", "mp3", "mp4", "mkv", "avi", "mov", "docx", "xlsx", "pptx", "hwpx",
+      "jar", "apk");
+
   public FileEntity findById(long fileId) {
     return fileRepository.findById(fileId)
         .orElseThrow(() -> new BusinessException(fileId, "fileId", FILE_NOT_FOUND));
   }
 
-  public Resource getFileResource(FileEntity file) throws IOException {
-    Path path = Paths.get(file.getFilePath());
-    return new InputStreamResource(Files.newInputStream(path));
+  /**
+   * 길이를 알 수 있는 파일 리소스를 반환하므로 응답에 Content-Length 가 포함되고, Range 요청 시 요청한 구간만 206 으로 응답한다.
+   */
+  public Resource getFileResource(FileEntity file) {
+    Resource resource = new FileSystemResource(Paths.get(file.getFilePath()));
+    if (!resource.isReadable()) {
+      throw new BusinessException(file.getId(), "fileId", FILE_NOT_FOUND);
+    }
+    return resource;
+  }
+
+  /**
+   * 저장된 파일은 수정되지 않으므로 파일 정보만으로 ETag 를 만든다.
+   */
+  public String getETag(FileEntity file) {
+    return "\"%d-%d\"".formatted(file.getId(), file.getFileSize());
+  }
+
+  public ZonedDateTime getLastModified(FileEntity file) {
+    return file.getUploadTime().atZone(ZoneId.systemDefault());
+  }
+
+  /**
+   * ZIP 을 쓰기 시작하면 오류 응답을 보낼 수 없으므로 응답 헤더를 쓰기 전에 확인한다.
+   *
+   * @throws BusinessException 읽을 수 없는 파일이 있을 경우 발생합니다.
+   */
+  public void checkReadable(List<FileEntity> files) {
+    files.forEach(this::getFileResource);
+  }
+
+  /**
+   * 파일들을 임시 파일 없이 바로 ZIP 으로 묶어서 쓴다. 한 번에 버퍼 하나만 사용하므로 파일 크기와 상관없이 메모리 사용량이 일정하다.
+   * <p>
+   * 이미 압축된 형식의 파일은 다시 압축해도 줄지 않으므로 압축하지 않고(STORED) 저장한다. STORED 항목은 CRC 를 먼저 알아야 해서 파일을 두 번
+   * 읽는다.
+   *
+   * @see FileService#checkReadable(List)
+   */
+  public void writeZip(List<FileEntity> files, OutputStream outputStream) throws IOException {
+    Set<String> entryNames = new HashSet<>();
+    ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+    byte[] buffer = new byte[ZIP_BUFFER_SIZE];
+    for (FileEntity file : files) {
+      Path path = Paths.get(file.getFilePath());
+      ZipEntry entry = new ZipEntry(getUniqueEntryName(file.getFileName(), entryNames));
+      entry.setTime(file.getUploadTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+      if (isCompressed(file.getFileName())) {
+        long size = Files.size(path);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(getCrc(path, buffer));
+      }
+      zipOutputStream.putNextEntry(entry);
+      try (InputStream inputStream = Files.newInputStream(path)) {
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+          zipOutputStream.write(buffer, 0, read);
+        }
+      }
+      zipOutputStream.closeEntry();
+    }
+    zipOutputStream.finish();
+  }
+
+  private static boolean isCompressed(String fileName) {
+    int extensionIndex = fileName.lastIndexOf('.');
+    if (extensionIndex < 0) {
+      return false;
+    }
+    return COMPRESSED_EXTENSIONS.contains(fileName.substring(extensionIndex + 1).toLowerCase(Locale.ROOT));
+  }
+
+  private static long getCrc(Path path, byte[] buffer) throws IOException {
+    CRC32 crc = new CRC32();
+    try (InputStream inputStream = Files.newInputStream(path)) {
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        crc.update(buffer, 0, read);
+      }
+    }
+    return crc.getValue();
+  }
+
+  /**
+   * ZIP 안에 같은 이름의 항목이 있으면 안 되므로 {@code 이름 (1).확장자} 처럼 번호를 붙인다.
+   */
+  private static String getUniqueEntryName(String fileName, Set<String> entryNames) {
+    String entryName = fileName;
+    int extensionIndex = fileName.lastIndexOf('.');
+    String baseName = extensionIndex < 0 ? fileName : fileName.substring(0, extensionIndex);
+    String extension = extensionIndex < 0 ? "" : fileName.substring(extensionIndex);
+    for (int i = 1; !entryNames.add(entryName); i++) {
+      entryName = "%s (%d)%s".formatted(baseName, i, extension);
+    }
+    return entryName;
   }
 
   public String getFileName(FileEntity file) {
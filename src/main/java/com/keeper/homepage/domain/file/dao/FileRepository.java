@@ -1,8 +1,18 @@
 package com.keeper.homepage.domain.file.dao;
 
 import com.keeper.homepage.domain.file.entity.FileEntity;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FileRepository extends JpaRepository<FileEntity, Long> {
 
+  List<FileEntity> findAllByFilePathIn(Collection<String> filePaths);
+
+  long countByFilePath(String filePath);
+
+  @Query("SELECT DISTINCT f.filePath FROM FileEntity f WHERE f.filePath IN :filePaths")
+  List<String> findAllFilePathByFilePathIn(@Param("filePaths") Collection<String> filePaths);
 }
@@ -0,0 +1,82 @@
+package com.keeper.homepage.domain.member.application.convenience;
+
+import com.keeper.homepage.domain.comment.entity.Comment;
+import com.keeper.homepage.domain.post.entity.Post;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 회원의 좋아요, 싫어요, 열람, 댓글 작성 여부를 id 정렬 배열로 들고 있는 색인.
+ * <p>
+ * {@link com.keeper.homepage.domain.member.entity.Member} 의 연관 컬렉션은 엔티티 전체를 불러오므로, 여기서는 필요한 종류만 처음 조회할 때
+ * id 만 불러와 이진 탐색으로 확인한다. 한 요청 안에서만 사용하고 보관하지 않는다.
+ */
+public class MemberInteraction {
+
+  private final IdSet likedPostIds;
+  private final IdSet dislikedPostIds;
+  private final IdSet readPostIds;
+  private final IdSet commentedPostIds;
+  private final IdSet likedCommentIds;
+  private final IdSet dislikedCommentIds;
+
+  MemberInteraction(Supplier<List<Long>> likedPostIds, Supplier<List<Long>> dislikedPostIds,
+      Supplier<List<Long>> readPostIds, Supplier<List<Long>> commentedPostIds, Supplier<List<Long>> likedCommentIds,
+      Supplier<List<Long>> dislikedCommentIds) {
+    this.likedPostIds = new IdSet(likedPostIds);
+    this.dislikedPostIds = new IdSet(dislikedPostIds);
+    this.readPostIds = new IdSet(readPostIds);
+    this.commentedPostIds = new IdSet(commentedPostIds);
+    this.likedCommentIds = new IdSet(likedCommentIds);
+    this.dislikedCommentIds = new IdSet(dislikedCommentIds);
+  }
+
+  public boolean isLike(Post post) {
+    return likedPostIds.contains(post.getId());
+  }
+
+  public boolean isDislike(Post post) {
+    return dislikedPostIds.contains(post.getId());
+  }
+
+  public boolean isRead(Post post) {
+    return readPostIds.contains(post.getId());
+  }
+
+  public boolean hasComment(Post post) {
+    return commentedPostIds.contains(post.getId());
+  }
+
+  public boolean isLike(Comment comment) {
+    return likedCommentIds.contains(comment.getId());
+  }
+
+  public boolean isDislike(Comment comment) {
+    return dislikedCommentIds.contains(comment.getId());
+  }
+
+  private static class IdSet {
+
+    private final Supplier<List<Long>> loader;
+    private long[] ids;
+
+    IdSet(Supplier<List<Long>> loader) {
+      this.loader = loader;
+    }
+
+    boolean contains(Long id) {
+      if (id == null) {
+        return false;
+      }
+      if (ids == null) {
+        ids = loader.get()
+            .stream()
+            .mapToLong(Long::longValue)
+            .sorted()
+            .toArray();
+      }
+      return Arrays.binarySearch(ids, id) >= 0;
+    }
+  }
+}
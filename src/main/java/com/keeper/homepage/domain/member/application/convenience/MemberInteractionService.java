@@ -0,0 +1,39 @@
+package com.keeper.homepage.domain.member.application.convenience;
+
+import com.keeper.homepage.domain.comment.dao.CommentRepository;
+import com.keeper.homepage.domain.member.dao.comment.MemberHasCommentDislikeRepository;
+import com.keeper.homepage.domain.member.dao.comment.MemberHasCommentLikeRepository;
+import com.keeper.homepage.domain.member.dao.post.MemberHasPostDislikeRepository;
+import com.keeper.homepage.domain.member.dao.post.MemberHasPostLikeRepository;
+import com.keeper.homepage.domain.member.dao.post.MemberReadPostRepository;
+import com.keeper.homepage.domain.member.entity.Member;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberInteractionService {
+
+  private final MemberHasPostLikeRepository postLikeRepository;
+  private final MemberHasPostDislikeRepository postDislikeRepository;
+  private final MemberReadPostRepository readPostRepository;
+  private final MemberHasCommentLikeRepository commentLikeRepository;
+  private final MemberHasCommentDislikeRepository commentDislikeRepository;
+  private final CommentRepository commentRepository;
+
+  /**
+   * 각 id 목록은 처음 확인할 때 조회되므로 호출한 트랜잭션 안에서 사용해야 한다.
+   */
+  public MemberInteraction getInteraction(Member member) {
+    long memberId = member.getId();
+    return new MemberInteraction(
+        () -> postLikeRepository.findAllPostIdByMemberId(memberId),
+        () -> postDislikeRepository.findAllPostIdByMemberId(memberId),
+        () -> readPostRepository.findAllPostIdByMemberId(memberId),
+        () -> commentRepository.findAllPostIdByMemberId(memberId),
+        () -> commentLikeRepository.findAllCommentIdByMemberId(memberId),
+        () -> commentDislikeRepository.findAllCommentIdByMemberId(memberId));
+  }
+}
@@ -0,0 +1,82 @@
+package com.keeper.homepage.domain.member.application.convenience;
+
+import com.keeper.homepage.global.config.security.data.MemberPrincipal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 로그인 회원 {@link MemberPrincipal} 의 로컬 캐시.
+ * <p>
+ * TTL 이 짧아 다른 서버에서 바뀐 값도 곧 반영되고, 이 서버에서 바뀐 회원 정보는 {@link #evict(long)} 로 바로 지운다.
+ */
+@Component
+public class MemberPrincipalCache {
+
+  private static final int CACHE_SIZE = 10_000;
+  private static final long CACHE_TTL_MILLIS = 30 * 1000L;
+
+  private final LinkedHashMap<Long, CachedPrincipal> principals = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, CachedPrincipal> eldest) {
+      return size() > CACHE_SIZE;
+    }
+  };
+  private long version = 0;
+
+  public synchronized MemberPrincipal get(long memberId) {
+    CachedPrincipal cachedPrincipal = principals.get(memberId);
+    if (cachedPrincipal == null) {
+      return null;
+    }
+    if (cachedPrincipal.cachedUntilMillis() <= System.currentTimeMillis()) {
+      principals.remove(memberId);
+      return null;
+    }
+    return cachedPrincipal.principal();
+  }
+
+  /**
+   * 조회를 시작하기 전에 받아 두고 {@link #put(MemberPrincipal, long)} 에 넘긴다.
+   */
+  public synchronized long version() {
+    return version;
+  }
+
+  /**
+   * 조회하는 동안 회원 정보가 바뀌었다면 이미 지난 값일 수 있으므로 저장하지 않는다.
+   */
+  public synchronized void put(MemberPrincipal principal, long version) {
+    if (this.version != version) {
+      return;
+    }
+    principals.put(principal.id(), new CachedPrincipal(principal,
+        System.currentTimeMillis() + CACHE_TTL_MILLIS));
+  }
+
+  /**
+   * 바로 지우고, 트랜잭션 안이라면 트랜잭션이 끝난 뒤 한 번 더 지운다. 커밋 전에 다른 요청이 이전 값을 다시 캐싱할 수 있기 때문이다.
+   */
+  public void evict(long memberId) {
+    remove(memberId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          remove(memberId);
+        }
+      });
+    }
+  }
+
+  private synchronized void remove(long memberId) {
+    version++;
+    principals.remove(memberId);
+  }
+
+  private record CachedPrincipal(MemberPrincipal principal, long cachedUntilMillis) {
+
+  }
+}
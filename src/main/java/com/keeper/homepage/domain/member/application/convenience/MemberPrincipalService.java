@@ -0,0 +1,32 @@
+package com.keeper.homepage.domain.member.application.convenience;
+
+import static com.keeper.homepage.global.error.ErrorCode.MEMBER_NOT_FOUND;
+
+import com.keeper.homepage.domain.member.dao.MemberRepository;
+import com.keeper.homepage.global.config.security.data.MemberPrincipal;
+import com.keeper.homepage.global.error.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberPrincipalService {
+
+  private final MemberRepository memberRepository;
+  private final MemberPrincipalCache memberPrincipalCache;
+
+  public MemberPrincipal getPrincipal(long memberId) {
+    MemberPrincipal principal = memberPrincipalCache.get(memberId);
+    if (principal != null) {
+      return principal;
+    }
+    long version = memberPrincipalCache.version();
+    principal = memberRepository.findById(memberId)
+        .map(MemberPrincipal::from)
+        .orElseThrow(() -> new BusinessException(memberId, "JWT", MEMBER_NOT_FOUND));
+    memberPrincipalCache.put(principal, version);
+    return principal;
+  }
+}
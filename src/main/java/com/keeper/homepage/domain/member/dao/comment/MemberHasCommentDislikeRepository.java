@@ -4,7 +4,10 @@ import com.keeper.homepage.domain.comment.entity.Comment;
 import com.keeper.homepage.domain.member.entity.Member;
 import com.keeper.homepage.domain.member.entity.comment.MemberHasCommentDislike;
 import com.keeper.homepage.domain.post.entity.Post;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberHasCommentDislikeRepository extends JpaRepository<MemberHasCommentDislike, Long> {
 
@@ -13,4 +16,10 @@ public interface MemberHasCommentDislikeRepository extends JpaRepository<MemberH
   void deleteAllByComment_Post(Post post);
 
   void deleteAllByMember(Member member);
+
+  /**
+   * 회원이 싫어요한 댓글 id 목록
+   */
+  @Query("SELECT d.comment.id FROM MemberHasCommentDislike d WHERE d.member.id = :memberId")
+  List<Long> findAllCommentIdByMemberId(@Param("memberId") long memberId);
 }
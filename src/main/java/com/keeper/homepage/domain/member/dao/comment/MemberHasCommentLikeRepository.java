@@ -4,7 +4,10 @@ import com.keeper.homepage.domain.comment.entity.Comment;
 import com.keeper.homepage.domain.member.entity.Member;
 import com.keeper.homepage.domain.member.entity.comment.MemberHasCommentLike;
 import com.keeper.homepage.domain.post.entity.Post;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberHasCommentLikeRepository extends JpaRepository<MemberHasCommentLike, Long> {
 
@@ -13,4 +16,10 @@ public interface MemberHasCommentLikeRepository extends JpaRepository<MemberHasC
   void deleteAllByComment_Post(Post post);
 
   void deleteAllByMember(Member member);
+
+  /**
+   * 회원이 좋아요한 댓글 id 목록
+   */
+  @Query("SELECT l.comment.id FROM MemberHasCommentLike l WHERE l.member.id = :memberId")
+  List<Long> findAllCommentIdByMemberId(@Param("memberId") long memberId);
 }
@@ -5,6 +5,8 @@ import com.keeper.homepage.domain.member.entity.post.MemberHasPostDislike;
 import com.keeper.homepage.domain.post.entity.Post;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberHasPostDislikeRepository extends JpaRepository<MemberHasPostDislike, Long> {
 
@@ -13,4 +15,10 @@ public interface MemberHasPostDislikeRepository extends JpaRepository<MemberHasP
   void deleteAllByPost(Post post);
 
   void deleteAllByMember(Member member);
+
+  /**
+   * 회원이 싫어요한 게시글 id 목록
+   */
+  @Query("SELECT d.post.id FROM MemberHasPostDislike d WHERE d.member.id = :memberId")
+  List<Long> findAllPostIdByMemberId(@Param("memberId") long memberId);
 }
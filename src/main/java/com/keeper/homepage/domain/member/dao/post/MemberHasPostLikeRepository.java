@@ -5,6 +5,8 @@ import com.keeper.homepage.domain.member.entity.post.MemberHasPostLike;
 import com.keeper.homepage.domain.post.entity.Post;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberHasPostLikeRepository extends JpaRepository<MemberHasPostLike, Long> {
 
@@ -13,4 +15,10 @@ public interface MemberHasPostLikeRepository extends JpaRepository<MemberHasPost
   void deleteAllByPost(Post post);
 
   void deleteAllByMember(Member member);
+
+  /**
+   * 회원이 좋아요한 게시글 id 목록
+   */
+  @Query("SELECT l.post.id FROM MemberHasPostLike l WHERE l.member.id = :memberId")
+  List<Long> findAllPostIdByMemberId(@Param("memberId") long memberId);
 }
@@ -2,10 +2,18 @@ package com.keeper.homepage.domain.member.dao.post;
 
 import com.keeper.homepage.domain.member.entity.Member;
 import com.keeper.homepage.domain.member.entity.post.MemberReadPost;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberReadPostRepository extends JpaRepository<MemberReadPost, Long> {
 
   void deleteAllByMember(Member member);
 
+  /**
+   * 회원이 열람한 게시글 id 목록
+   */
+  @Query("SELECT r.post.id FROM MemberReadPost r WHERE r.member.id = :memberId")
+  List<Long> findAllPostIdByMemberId(@Param("memberId") long memberId);
 }
@@ -0,0 +1,31 @@
+package com.keeper.homepage.domain.member.entity;
+
+import com.keeper.homepage.domain.member.application.convenience.MemberPrincipalCache;
+import com.keeper.homepage.domain.member.entity.job.MemberHasMemberJob;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로필, 포인트, 회원 유형, 직책이 바뀌면 캐싱된 {@link com.keeper.homepage.global.config.security.data.MemberPrincipal} 을
+ * 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberPrincipalEvictListener {
+
+  private final MemberPrincipalCache memberPrincipalCache;
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void evict(Object entity) {
+    if (entity instanceof Member member) {
+      memberPrincipalCache.evict(member.getId());
+    } else if (entity instanceof MemberHasMemberJob memberHasMemberJob) {
+      memberPrincipalCache.evict(memberHasMemberJob.getMember().getId());
+    }
+  }
+}
@@ -45,4 +45,11 @@ public class Password {
   public boolean isWrongPassword(String rawPassword) {
     return !PasswordFactory.getPasswordEncoder().matches(rawPassword, this.password);
   }
+
+  /**
+   * 이전 홈페이지의 알고리즘(PBKDF2-SHA256, MD5) 등 현재 알고리즘이 아닌 해시인지 확인한다.
+   */
+  public boolean needsRehash() {
+    return PasswordFactory.getPasswordEncoder().upgradeEncoding(this.password);
+  }
 }
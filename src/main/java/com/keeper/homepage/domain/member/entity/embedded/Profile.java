@@ -57,6 +57,10 @@ public class Profile {
     this.password = Password.from(newPassword);
   }
 
+  public void changePassword(Password newPassword) {
+    this.password = newPassword;
+  }
+
   public void update(Profile newProfile) {
     this.realName = newProfile.realName;
     this.birthday = newProfile.birthday;
@@ -1,8 +1,10 @@
 package com.keeper.homepage.domain.member.entity.job;
 
 import com.keeper.homepage.domain.member.entity.Member;
+import com.keeper.homepage.domain.member.entity.MemberPrincipalEvictListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -19,6 +21,7 @@ import lombok.ToString;
 
 @Getter
 @Entity
+@EntityListeners(MemberPrincipalEvictListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"memberJob"})
 @Table(name = "member_has_member_job")
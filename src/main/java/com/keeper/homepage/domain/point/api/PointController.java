@@ -2,12 +2,12 @@ package com.keeper.homepage.domain.point.api;
 
 import static org.springframework.data.domain.Sort.Direction.DESC;
 
-import com.keeper.homepage.domain.member.entity.Member;
 import com.keeper.homepage.domain.point.application.GivePointService;
 import com.keeper.homepage.domain.point.application.PointLogService;
 import com.keeper.homepage.domain.point.dto.request.presentPointRequest;
 import com.keeper.homepage.domain.point.dto.response.FindAllPointLogResponse;
 import com.keeper.homepage.global.config.security.annotation.LoginMember;
+import com.keeper.homepage.global.config.security.data.MemberPrincipal;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -35,9 +35,9 @@ public class PointController {
   private final PointLogService pointLogService;
 
   @PostMapping("/present")
-  public ResponseEntity<Void> presentPoint(@LoginMember Member member,
+  public ResponseEntity<Void> presentPoint(@LoginMember MemberPrincipal member,
       @RequestBody @Valid presentPointRequest request) {
-    givePointService.presentPoint(member.getId(),
+    givePointService.presentPoint(member.id(),
         request.getMemberId(),
         request.getPoint(),
         request.getMessage());
@@ -49,10 +49,10 @@ public class PointController {
   public ResponseEntity<Page<FindAllPointLogResponse>> findAllPointLogs(
       @RequestParam(defaultValue = "0") @PositiveOrZero int page,
       @RequestParam(defaultValue = "10") @PositiveOrZero @Max(30) int size,
-      @LoginMember Member member
+      @LoginMember MemberPrincipal member
   ) {
     return ResponseEntity.ok(
-        pointLogService.findAllPointLogs(PageRequest.of(page, size, Sort.by(DESC, "time")), member.getId())
+        pointLogService.findAllPointLogs(PageRequest.of(page, size, Sort.by(DESC, "time")), member.id())
             .map(FindAllPointLogResponse::from)
     );
   }
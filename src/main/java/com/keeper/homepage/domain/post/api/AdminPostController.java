@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -27,4 +28,10 @@ public class AdminPostController {
     adminPostService.delete(postId);
     return ResponseEntity.noContent().build();
   }
+
+  @PostMapping("/search-index")
+  public ResponseEntity<Void> rebuildSearchIndex() {
+    adminPostService.rebuildSearchIndex();
+    return ResponseEntity.noContent().build();
+  }
 }
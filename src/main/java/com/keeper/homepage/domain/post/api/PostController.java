@@ -5,31 +5,40 @@ import static org.springframework.data.domain.Sort.Direction.DESC;
 import com.keeper.homepage.domain.file.application.FileService;
 import com.keeper.homepage.domain.file.entity.FileEntity;
 import com.keeper.homepage.domain.member.entity.Member;
+import com.keeper.homepage.domain.post.application.PostResponseCacheService;
+import com.keeper.homepage.domain.post.application.PostResponseCacheService.CachedResponse;
 import com.keeper.homepage.domain.post.application.PostService;
 import com.keeper.homepage.domain.post.dto.request.PostCreateRequest;
 import com.keeper.homepage.domain.post.dto.request.PostFileDeleteRequest;
+import com.keeper.homepage.domain.post.dto.request.PostFileUploadRequest;
 import com.keeper.homepage.domain.post.dto.request.PostUpdateRequest;
 import com.keeper.homepage.domain.post.dto.response.CategoryResponse;
 import com.keeper.homepage.domain.post.dto.response.FileResponse;
-import com.keeper.homepage.domain.post.dto.response.MainPostResponse;
 import com.keeper.homepage.domain.post.dto.response.MemberPostResponse;
 import com.keeper.homepage.domain.post.dto.response.PostDetailResponse;
-import com.keeper.homepage.domain.post.dto.response.PostListResponse;
+import com.keeper.homepage.domain.post.dto.response.PostFileUploadResponse;
 import com.keeper.homepage.domain.post.dto.response.PostResponse;
+import com.keeper.homepage.domain.post.dto.response.PostSliceResponse;
 import com.keeper.homepage.domain.post.dto.response.TempPostResponse;
 import com.keeper.homepage.domain.post.entity.category.Category.CategoryType;
 import com.keeper.homepage.global.config.security.annotation.LoginMember;
 import com.keeper.homepage.global.util.web.WebUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import java.io.IOException;
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -57,6 +66,9 @@ public class PostController {
 
   private final PostService postService;
   private final FileService fileService;
+  private final PostResponseCacheService postResponseCacheService;
+
+  private static final String APPLICATION_ZIP = "application/zip";
 
   @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE})
   public ResponseEntity<Void> createPost(
@@ -136,6 +148,62 @@ public class PostController {
         .build();
   }
 
+  @PostMapping("/{postId}/files/uploads")
+  public ResponseEntity<PostFileUploadResponse> startFileUpload(
+      @LoginMember Member member,
+      @PathVariable long postId,
+      @RequestBody @Valid PostFileUploadRequest request
+  ) {
+    PostFileUploadResponse response = postService.startFileUpload(member, postId, request.fileName(),
+        request.fileSize());
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .location(URI.create("/posts/" + postId + "/files/uploads/" + response.getUploadId()))
+        .body(response);
+  }
+
+  @GetMapping("/{postId}/files/uploads/{uploadId}")
+  public ResponseEntity<PostFileUploadResponse> getFileUpload(
+      @LoginMember Member member,
+      @PathVariable long postId,
+      @PathVariable String uploadId
+  ) {
+    return ResponseEntity.ok(postService.getFileUpload(member, postId, uploadId));
+  }
+
+  @PutMapping(value = "/{postId}/files/uploads/{uploadId}/chunks/{chunkIndex}",
+      consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+  public ResponseEntity<PostFileUploadResponse> uploadFileChunk(
+      @LoginMember Member member,
+      @PathVariable long postId,
+      @PathVariable String uploadId,
+      @PathVariable int chunkIndex,
+      HttpServletRequest request
+  ) throws IOException {
+    return ResponseEntity.ok(
+        postService.uploadFileChunk(member, postId, uploadId, chunkIndex, request.getInputStream()));
+  }
+
+  @PostMapping("/{postId}/files/uploads/{uploadId}/complete")
+  public ResponseEntity<FileResponse> completeFileUpload(
+      @LoginMember Member member,
+      @PathVariable long postId,
+      @PathVariable String uploadId
+  ) {
+    FileResponse response = postService.completeFileUpload(member, postId, uploadId);
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(response);
+  }
+
+  @DeleteMapping("/{postId}/files/uploads/{uploadId}")
+  public ResponseEntity<Void> cancelFileUpload(
+      @LoginMember Member member,
+      @PathVariable long postId,
+      @PathVariable String uploadId
+  ) {
+    postService.cancelFileUpload(member, postId, uploadId);
+    return ResponseEntity.noContent().build();
+  }
+
   @DeleteMapping("/{postId}/files")
   public ResponseEntity<Void> deletePostFile(
       @LoginMember Member member,
@@ -174,12 +242,10 @@ public class PostController {
   }
 
   @GetMapping("/notices")
-  public ResponseEntity<PostListResponse> getNoticePosts(
+  public ResponseEntity<byte[]> getNoticePosts(
       @RequestParam long categoryId
   ) {
-    PostListResponse response = postService.getNoticePosts(categoryId);
-    return ResponseEntity.status(HttpStatus.OK)
-        .body(response);
+    return toCachedResponseEntity(postResponseCacheService.getNoticePosts(categoryId));
   }
 
   @GetMapping
@@ -193,15 +259,40 @@ public class PostController {
     return ResponseEntity.ok(postService.getPosts(categoryId, searchType, search, PageRequest.of(page, size)));
   }
 
+  /**
+   * {@code paging=cursor} 로 요청하면 {@link #getPosts} 대신 커서 기반으로 조회한다.
+   */
+  @GetMapping(params = "paging=cursor")
+  public ResponseEntity<PostSliceResponse> getPostsByCursor(
+      @RequestParam long categoryId,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime cursorRegisterTime,
+      @RequestParam(required = false) Long cursorId,
+      @RequestParam(defaultValue = "10") @Positive int size,
+      @RequestParam(defaultValue = "false") boolean withTotalCount
+  ) {
+    return ResponseEntity.ok(
+        postService.getPostsByCursor(categoryId, cursorRegisterTime, cursorId, size, withTotalCount));
+  }
+
   @GetMapping("/recent")
-  public ResponseEntity<List<MainPostResponse>> getRecentPosts() {
-    return ResponseEntity.ok(postService.getRecentPosts());
+  public ResponseEntity<byte[]> getRecentPosts() {
+    return toCachedResponseEntity(postResponseCacheService.getRecentPosts());
   }
 
 
   @GetMapping("/trend")
-  public ResponseEntity<List<MainPostResponse>> getTrendPosts() {
-    return ResponseEntity.ok(postService.getTrendPosts());
+  public ResponseEntity<byte[]> getTrendPosts() {
+    return toCachedResponseEntity(postResponseCacheService.getTrendPosts());
+  }
+
+  /**
+   * ETag 가 If-None-Match 와 같으면 본문 없이 304 로 응답된다.
+   */
+  private ResponseEntity<byte[]> toCachedResponseEntity(CachedResponse response) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(response.eTag())
+        .body(response.body());
   }
 
   @GetMapping("/members/{memberId}")
@@ -231,13 +322,28 @@ public class PostController {
       @LoginMember Member member,
       @PathVariable long postId,
       @PathVariable long fileId
-  ) throws IOException {
+  ) {
     FileEntity file = postService.getFile(member, postId, fileId);
     Resource resource = fileService.getFileResource(file);
     String fileName = fileService.getFileName(file);
     return ResponseEntity.ok()
         .contentType(MediaType.APPLICATION_OCTET_STREAM)
         .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+        .eTag(fileService.getETag(file))
+        .lastModified(fileService.getLastModified(file))
         .body(resource);
   }
+
+  @GetMapping("/{postId}/files.zip")
+  public void downloadFiles(
+      @LoginMember Member member,
+      @PathVariable long postId,
+      HttpServletResponse response
+  ) throws IOException {
+    List<FileEntity> files = postService.getFilesToDownload(member, postId);
+    fileService.checkReadable(files);
+    response.setContentType(APPLICATION_ZIP);
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + postId + ".zip\"");
+    fileService.writeZip(files, response.getOutputStream());
+  }
 }
@@ -1,5 +1,7 @@
 package com.keeper.homepage.domain.post.application;
 
+import static com.keeper.homepage.global.error.ErrorCode.POST_SEARCH_INDEX_REBUILDING;
+
 import com.keeper.homepage.domain.member.dao.comment.MemberHasCommentDislikeRepository;
 import com.keeper.homepage.domain.member.dao.comment.MemberHasCommentLikeRepository;
 import com.keeper.homepage.domain.member.dao.post.MemberHasPostDislikeRepository;
@@ -8,6 +10,7 @@ import com.keeper.homepage.domain.post.application.convenience.PostDeleteService
 import com.keeper.homepage.domain.post.application.convenience.ValidPostFindService;
 import com.keeper.homepage.domain.post.dao.PostRepository;
 import com.keeper.homepage.domain.post.entity.Post;
+import com.keeper.homepage.global.error.BusinessException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,10 +22,17 @@ public class AdminPostService {
 
   private final ValidPostFindService validPostFindService;
   private final PostDeleteService postDeleteService;
+  private final PostSearchService postSearchService;
 
   public void delete(long postId) {
     Post post = validPostFindService.findById(postId);
 
     postDeleteService.delete(post);
   }
+
+  public void rebuildSearchIndex() {
+    if (!postSearchService.tryRebuild()) {
+      throw new BusinessException("searchIndex", "searchIndex", POST_SEARCH_INDEX_REBUILDING);
+    }
+  }
 }
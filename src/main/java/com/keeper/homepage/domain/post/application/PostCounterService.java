@@ -0,0 +1,60 @@
+package com.keeper.homepage.domain.post.application;
+
+import com.keeper.homepage.domain.post.dao.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글의 좋아요, 싫어요, 댓글, 첨부파일 개수 컬럼을 관리한다.
+ * <p>
+ * 개수는 {@code UPDATE ... SET like_count = like_count + 1} 처럼 DB 에서 원자적으로 증감하고, 어긋난 값은 매일 실제 개수로 보정한다.
+ */
+@Slf4j
+@Service
+@EnableScheduling
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostCounterService {
+
+  private final PostRepository postRepository;
+
+  @Transactional
+  public void increaseLikeCount(long postId, int delta) {
+    postRepository.increaseLikeCount(postId, delta);
+  }
+
+  @Transactional
+  public void increaseDislikeCount(long postId, int delta) {
+    postRepository.increaseDislikeCount(postId, delta);
+  }
+
+  @Transactional
+  public void increaseCommentCount(long postId, int delta) {
+    postRepository.increaseCommentCount(postId, delta);
+  }
+
+  @Transactional
+  public void increaseFileCount(long postId, int delta) {
+    if (delta == 0) {
+      return;
+    }
+    postRepository.increaseFileCount(postId, delta);
+  }
+
+  @Transactional
+  @Scheduled(cron = "0 30 4 * * ?", zone = "Asia/Seoul") // 매일 4시 30분에 실행
+  public void reconcile() {
+    int likeCount = postRepository.reconcileLikeCount();
+    int dislikeCount = postRepository.reconcileDislikeCount();
+    int commentCount = postRepository.reconcileCommentCount();
+    int fileCount = postRepository.reconcileFileCount();
+    if (likeCount + dislikeCount + commentCount + fileCount > 0) {
+      log.warn("게시글 개수 보정 : 좋아요 = {}건, 싫어요 = {}건, 댓글 = {}건, 첨부파일 = {}건",
+          likeCount, dislikeCount, commentCount, fileCount);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.keeper.homepage.domain.post.application;
+
+import com.keeper.homepage.domain.post.dao.PostNavigationEntry;
+import com.keeper.homepage.domain.post.dao.PostRepository;
+import com.keeper.homepage.domain.post.dto.response.AdjacentPostResponse;
+import com.keeper.homepage.domain.post.entity.Post;
+import com.keeper.homepage.domain.post.event.PostChangedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 카테고리별로 임시글이 아닌 게시글의 id, 제목을 id 순으로 메모리에 유지한다.
+ * <p>
+ * 게시글 상세 조회 시 이전글, 다음글을 DB 조회 없이 O(log n) 으로 찾는다. 색인이 준비되기 전이나 색인에 없는 게시글은 DB 에서 조회한다.
+ * <p>
+ * 색인은 서버마다 따로 유지하며 해당 서버에서 커밋된 {@link PostChangedEvent} 로만 갱신되므로, 서버가 한 대라고 가정한다. 서버를 여러 대
+ * 띄우면 다른 서버에서 작성, 삭제되거나 카테고리가 바뀐 게시글은 다음 재시작 전까지 이전글, 다음글에 반영되지 않는다. 그때는
+ * {@link PostChangedEvent} 를 Redis pub/sub 등으로 모든 서버에 전달해야 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostNavigationService {
+
+  private final PostRepository postRepository;
+
+  private static final int REBUILD_PAGE_SIZE = 5000;
+
+  private final Object lock = new Object();
+  private Map<Long, NavigableMap<Long, String>> categories = new ConcurrentHashMap<>();
+  private List<PostNavigationEntry> pendingEntries;
+  private List<Long> pendingRemovals;
+  private volatile boolean ready = false;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    synchronized (lock) {
+      pendingEntries = new ArrayList<>();
+      pendingRemovals = new ArrayList<>();
+    }
+    Map<Long, NavigableMap<Long, String>> newCategories = new ConcurrentHashMap<>();
+    Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by("id"));
+    Slice<PostNavigationEntry> entries;
+    do {
+      entries = postRepository.findAllNavigationEntries(pageable);
+      entries.forEach(entry -> put(newCategories, entry));
+      pageable = entries.nextPageable();
+    } while (entries.hasNext());
+
+    synchronized (lock) {
+      // 색인을 새로 만드는 동안 들어온 변경 사항을 다시 반영한다.
+      pendingEntries.forEach(entry -> put(newCategories, entry));
+      pendingRemovals.forEach(postId -> remove(newCategories, postId));
+      pendingEntries = null;
+      pendingRemovals = null;
+      categories = newCategories;
+      ready = true;
+    }
+  }
+
+  /**
+   * 게시글을 바꾼 트랜잭션이 커밋된 뒤에 반영해, 롤백된 변경이 이전글, 다음글에 남지 않도록 한다.
+   */
+  @TransactionalEventListener
+  public void onPostChanged(PostChangedEvent event) {
+    postRepository.findById(event.postId())
+        .ifPresentOrElse(this::register, () -> remove(event.postId()));
+  }
+
+  /**
+   * 임시글이면 색인에서 제외된다.
+   */
+  public void register(Post post) {
+    if (post.isTemp()) {
+      remove(post.getId());
+      return;
+    }
+    PostNavigationEntry entry = new PostNavigationEntry(post.getId(), post.getCategory().getId(), post.getTitle());
+    synchronized (lock) {
+      put(categories, entry);
+      if (pendingEntries != null) {
+        pendingEntries.add(entry);
+      }
+    }
+  }
+
+  public void remove(long postId) {
+    synchronized (lock) {
+      remove(categories, postId);
+      if (pendingRemovals != null) {
+        pendingRemovals.add(postId);
+      }
+    }
+  }
+
+  public AdjacentPostResponse findPreviousPost(Post post) {
+    NavigableMap<Long, String> posts = findIndexedCategory(post);
+    if (posts == null) {
+      return postRepository.findPreviousPost(post.getId(), post.getCategory())
+          .map(AdjacentPostResponse::from)
+          .orElse(null);
+    }
+    return toResponse(posts.lowerEntry(post.getId()));
+  }
+
+  public AdjacentPostResponse findNextPost(Post post) {
+    NavigableMap<Long, String> posts = findIndexedCategory(post);
+    if (posts == null) {
+      return postRepository.findNextPost(post.getId(), post.getCategory())
+          .map(AdjacentPostResponse::from)
+          .orElse(null);
+    }
+    return toResponse(posts.higherEntry(post.getId()));
+  }
+
+  /**
+   * 색인이 준비되지 않았거나, 임시글처럼 게시글이 색인에 없으면 null 을 반환해 DB 에서 조회하도록 한다.
+   */
+  private NavigableMap<Long, String> findIndexedCategory(Post post) {
+    if (!ready) {
+      return null;
+    }
+    NavigableMap<Long, String> posts = categories.get(post.getCategory().getId());
+    return posts != null && posts.containsKey(post.getId()) ? posts : null;
+  }
+
+  private static AdjacentPostResponse toResponse(Entry<Long, String> entry) {
+    return entry == null ? null : AdjacentPostResponse.of(entry.getKey(), entry.getValue());
+  }
+
+  private static void put(Map<Long, NavigableMap<Long, String>> categories, PostNavigationEntry entry) {
+    remove(categories, entry.id());
+    categories.computeIfAbsent(entry.categoryId(), categoryId -> new ConcurrentSkipListMap<>())
+        .put(entry.id(), entry.title());
+  }
+
+  private static void remove(Map<Long, NavigableMap<Long, String>> categories, long postId) {
+    categories.values().forEach(posts -> posts.remove(postId));
+  }
+}
@@ -0,0 +1,90 @@
+package com.keeper.homepage.domain.post.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keeper.homepage.domain.post.event.PostChangedEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 메인 화면과 게시판에서 자주 호출되는 게시글 목록 응답을 직렬화된 JSON 그대로 캐시한다.
+ * <p>
+ * 게시글이 바뀌면 {@link PostChangedEvent} 로 무효화하고, 조회수, 좋아요 수처럼 이벤트 없이 바뀌는 값은 짧은 만료 시간으로 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostResponseCacheService {
+
+  private final PostService postService;
+  private final ObjectMapper objectMapper;
+
+  private static final long CACHE_EXPIRE_MILLIS = 60 * 1000;
+  private static final String RECENT_POSTS_KEY = "recent";
+  private static final String TREND_POSTS_KEY = "trend";
+  private static final String NOTICE_POSTS_KEY_PREFIX = "notice:";
+
+  private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+
+  public CachedResponse getRecentPosts() {
+    return get(RECENT_POSTS_KEY, postService::getRecentPosts);
+  }
+
+  public CachedResponse getTrendPosts() {
+    return get(TREND_POSTS_KEY, postService::getTrendPosts);
+  }
+
+  public CachedResponse getNoticePosts(long categoryId) {
+    return get(NOTICE_POSTS_KEY_PREFIX + categoryId, () -> postService.getNoticePosts(categoryId));
+  }
+
+  /**
+   * 변경한 트랜잭션 안에서 바로 지우고, 커밋 전에 다른 요청이 예전 값을 다시 캐시했을 수 있으므로 커밋 후에 한 번 더 지운다.
+   */
+  @EventListener
+  public void evict(PostChangedEvent event) {
+    cache.remove(RECENT_POSTS_KEY);
+    cache.remove(TREND_POSTS_KEY);
+    cache.remove(NOTICE_POSTS_KEY_PREFIX + event.categoryId());
+  }
+
+  @TransactionalEventListener
+  public void evictAfterCommit(PostChangedEvent event) {
+    evict(event);
+  }
+
+  private CachedResponse get(String key, Supplier<Object> loader) {
+    CachedResponse cachedResponse = cache.get(key);
+    if (cachedResponse != null && !cachedResponse.isExpired()) {
+      return cachedResponse;
+    }
+    CachedResponse newResponse = CachedResponse.of(serialize(loader.get()));
+    cache.put(key, newResponse);
+    return newResponse;
+  }
+
+  private byte[] serialize(Object response) {
+    try {
+      return objectMapper.writeValueAsBytes(response);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public record CachedResponse(byte[] body, String eTag, long expireTime) {
+
+    static CachedResponse of(byte[] body) {
+      String eTag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+      return new CachedResponse(body, eTag, System.currentTimeMillis() + CACHE_EXPIRE_MILLIS);
+    }
+
+    boolean isExpired() {
+      return System.currentTimeMillis() > expireTime;
+    }
+  }
+}
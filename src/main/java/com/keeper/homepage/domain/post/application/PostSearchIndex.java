@@ -0,0 +1,169 @@
+package com.keeper.homepage.domain.post.application;
+
+import static com.keeper.homepage.domain.post.application.PostSearchService.normalize;
+
+import com.keeper.homepage.domain.post.application.PostSearchService.SearchType;
+import com.keeper.homepage.domain.post.dao.PostSearchDocument;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link PostSearchService} 가 사용하는 gram 역색인. 동기화하지 않으므로 호출하는 쪽에서 잠금을 잡는다. {@link #search} 는 읽기만
+ * 하므로 변경과 겹치지 않으면 여러 스레드가 동시에 호출해도 된다.
+ */
+class PostSearchIndex {
+
+  private static final int TITLE_WEIGHT = 3;
+
+  private static final Comparator<ScoredPost> SEARCH_RESULT_ORDER = Comparator.comparingInt(ScoredPost::score)
+      .reversed()
+      .thenComparing(scoredPost -> scoredPost.post().registerTime(),
+          Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+      .thenComparing(scoredPost -> scoredPost.post().id(), Comparator.reverseOrder());
+
+  private final Map<Long, IndexedPost> posts = new HashMap<>();
+  private final Map<String, Set<Long>> titleGrams = new HashMap<>();
+  private final Map<String, Set<Long>> contentGrams = new HashMap<>();
+  private final Map<String, Set<Long>> writerGrams = new HashMap<>();
+
+  void put(PostSearchDocument document) {
+    remove(document.id());
+    IndexedPost post = new IndexedPost(document.id(), document.categoryId(), document.isNotice(),
+        document.registerTime(), normalize(document.title()), normalize(document.content()),
+        normalize(document.writerName()));
+    posts.put(post.id(), post);
+    addGrams(titleGrams, post.title(), post.id());
+    addGrams(contentGrams, post.content(), post.id());
+    addGrams(writerGrams, post.writerName(), post.id());
+  }
+
+  void remove(long postId) {
+    IndexedPost post = posts.remove(postId);
+    if (post == null) {
+      return;
+    }
+    removeGrams(titleGrams, post.title(), postId);
+    removeGrams(contentGrams, post.content(), postId);
+    removeGrams(writerGrams, post.writerName(), postId);
+  }
+
+  List<Long> search(long categoryId, SearchType searchType, String search) {
+    Set<Long> candidates = switch (searchType) {
+      case TITLE -> findCandidates(titleGrams, search);
+      case CONTENT -> findCandidates(contentGrams, search);
+      case TITLE_AND_CONTENT -> union(findCandidates(titleGrams, search), findCandidates(contentGrams, search));
+      case WRITER -> findCandidates(writerGrams, search);
+    };
+    List<ScoredPost> scoredPosts = new ArrayList<>();
+    for (Long candidate : candidates) {
+      IndexedPost post = posts.get(candidate);
+      if (post.categoryId() != categoryId || Boolean.TRUE.equals(post.isNotice())) {
+        continue;
+      }
+      int score = post.score(searchType, search);
+      if (score > 0) {
+        scoredPosts.add(new ScoredPost(post, score));
+      }
+    }
+    return scoredPosts.stream()
+        .sorted(SEARCH_RESULT_ORDER)
+        .map(scoredPost -> scoredPost.post().id())
+        .toList();
+  }
+
+  private Set<Long> findCandidates(Map<String, Set<Long>> grams, String search) {
+    if (search.isEmpty()) {
+      return posts.keySet();
+    }
+    List<Set<Long>> postings = new ArrayList<>();
+    for (String gram : queryGrams(search)) {
+      Set<Long> posting = grams.get(gram);
+      if (posting == null) {
+        return Set.of();
+      }
+      postings.add(posting);
+    }
+    postings.sort(Comparator.comparingInt(Set::size));
+    Set<Long> result = new HashSet<>(postings.get(0));
+    postings.subList(1, postings.size()).forEach(result::retainAll);
+    return result;
+  }
+
+  private static Set<Long> union(Collection<Long> first, Collection<Long> second) {
+    Set<Long> result = new HashSet<>(first);
+    result.addAll(second);
+    return result;
+  }
+
+  private static Set<String> queryGrams(String search) {
+    if (search.length() == 1) {
+      return Set.of(search);
+    }
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i + 1 < search.length(); i++) {
+      grams.add(search.substring(i, i + 2));
+    }
+    return grams;
+  }
+
+  private static Set<String> indexGrams(String text) {
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i < text.length(); i++) {
+      grams.add(text.substring(i, i + 1));
+      if (i + 1 < text.length()) {
+        grams.add(text.substring(i, i + 2));
+      }
+    }
+    return grams;
+  }
+
+  private static void addGrams(Map<String, Set<Long>> grams, String text, long postId) {
+    indexGrams(text).forEach(gram -> grams.computeIfAbsent(gram, key -> new HashSet<>()).add(postId));
+  }
+
+  private static void removeGrams(Map<String, Set<Long>> grams, String text, long postId) {
+    for (String gram : indexGrams(text)) {
+      Set<Long> posting = grams.get(gram);
+      if (posting != null && posting.remove(postId) && posting.isEmpty()) {
+        grams.remove(gram);
+      }
+    }
+  }
+
+  private record ScoredPost(IndexedPost post, int score) {
+
+  }
+
+  private record IndexedPost(Long id, Long categoryId, Boolean isNotice, LocalDateTime registerTime, String title,
+                             String content, String writerName) {
+
+    int score(SearchType searchType, String search) {
+      if (search.isEmpty()) {
+        return 1;
+      }
+      return switch (searchType) {
+        case TITLE -> countOccurrences(title, search);
+        case CONTENT -> countOccurrences(content, search);
+        case TITLE_AND_CONTENT -> countOccurrences(title, search) * TITLE_WEIGHT + countOccurrences(content, search);
+        case WRITER -> countOccurrences(writerName, search);
+      };
+    }
+
+    private static int countOccurrences(String text, String search) {
+      int count = 0;
+      int index = text.indexOf(search);
+      while (index >= 0) {
+        count++;
+        index = text.indexOf(search, index + search.length());
+      }
+      return count;
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package com.keeper.homepage.domain.post.application;
+
+import com.keeper.homepage.domain.post.dao.PostRepository;
+import com.keeper.homepage.domain.post.dao.PostSearchDocument;
+import com.keeper.homepage.domain.post.dao.PostSummary;
+import com.keeper.homepage.domain.post.entity.Post;
+import com.keeper.homepage.domain.post.event.PostChangedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 제목, 내용, 작성자에 대한 메모리 역색인.
+ * <p>
+ * 한글은 형태소 분석 없이도 부분 검색이 되도록 글자 단위 1-gram, 2-gram 으로 색인한다. gram 교집합으로 후보를 좁힌 뒤 원문 포함 여부를 다시
+ * 확인하므로 기존 {@code LIKE '%검색어%'} 와 같은 결과를 돌려준다.
+ * <p>
+ * 검색은 읽기 잠금만 잡아 동시에 처리하고, 색인 변경과 재구축 결과 교체만 쓰기 잠금을 잡는다.
+ * <p>
+ * 색인은 서버마다 따로 유지하며 해당 서버에서 커밋된 {@link PostChangedEvent} 로만 갱신되므로, 서버가 한 대라고 가정한다. 서버를 여러 대
+ * 띄우면 다른 서버에서 작성, 수정, 삭제된 게시글은 매일 4시 재구축 전까지 검색 결과에 반영되지 않는다. 그때는 {@link PostChangedEvent} 를
+ * Redis pub/sub 등으로 모든 서버에 전달해야 한다.
+ */
+@Service
+@EnableScheduling
+@RequiredArgsConstructor
+public class PostSearchService {
+
+  private final PostRepository postRepository;
+
+  private static final int REBUILD_PAGE_SIZE = 1000;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+  private PostSearchIndex index = new PostSearchIndex();
+  private List<PostSearchDocument> pendingDocuments;
+  private List<Long> pendingRemovals;
+  private volatile boolean ready = false;
+
+  public enum SearchType {
+    TITLE, CONTENT, TITLE_AND_CONTENT, WRITER
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "0 0 4 * * ?", zone = "Asia/Seoul") // 매일 4시에 실행
+  public void rebuild() {
+    tryRebuild();
+  }
+
+  /**
+   * 색인을 새로 만든다. 동시에 한 번만 실행되며, 이미 실행 중이면 아무것도 하지 않는다.
+   *
+   * @return 이미 다른 재구축이 실행 중이면 false
+   */
+  public boolean tryRebuild() {
+    if (!rebuilding.compareAndSet(false, true)) {
+      return false;
+    }
+    try {
+      withWriteLock(() -> {
+        pendingDocuments = new ArrayList<>();
+        pendingRemovals = new ArrayList<>();
+      });
+      PostSearchIndex newIndex = new PostSearchIndex();
+      Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by("id"));
+      Slice<PostSearchDocument> documents;
+      do {
+        documents = postRepository.findAllSearchDocuments(pageable);
+        documents.forEach(newIndex::put);
+        pageable = documents.nextPageable();
+      } while (documents.hasNext());
+
+      withWriteLock(() -> {
+        // 색인을 새로 만드는 동안 들어온 변경 사항을 다시 반영한다.
+        pendingDocuments.forEach(newIndex::put);
+        pendingRemovals.forEach(newIndex::remove);
+        index = newIndex;
+        ready = true;
+      });
+      return true;
+    } finally {
+      withWriteLock(() -> {
+        pendingDocuments = null;
+        pendingRemovals = null;
+      });
+      rebuilding.set(false);
+    }
+  }
+
+  /**
+   * 게시글을 바꾼 트랜잭션이 커밋된 뒤에 반영해, 롤백된 게시글이 검색되지 않도록 한다.
+   */
+  @TransactionalEventListener
+  public void onPostChanged(PostChangedEvent event) {
+    postRepository.findById(event.postId())
+        .ifPresentOrElse(this::index, () -> remove(event.postId()));
+  }
+
+  public void index(Post post) {
+    if (post.isTemp()) {
+      remove(post.getId());
+      return;
+    }
+    PostSearchDocument document = new PostSearchDocument(post.getId(), post.getCategory().getId(), post.isNotice(),
+        post.getRegisterTime(), post.getTitle(), post.getContent(), post.getWriterRealName());
+    withWriteLock(() -> {
+      index.put(document);
+      if (pendingDocuments != null) {
+        pendingDocuments.add(document);
+      }
+    });
+  }
+
+  public void remove(long postId) {
+    withWriteLock(() -> {
+      index.remove(postId);
+      if (pendingRemovals != null) {
+        pendingRemovals.add(postId);
+      }
+    });
+  }
+
+  /**
+   * 카테고리 + 공지글 제외 + 임시글 제외 + 검색 후 관련도(제목 가중치 포함 등장 횟수), 등록시간 최신순 정렬
+   */
+  public Page<PostSummary> search(long categoryId, SearchType searchType, String search, Pageable pageable) {
+    List<Long> postIds;
+    Lock readLock = lock.readLock();
+    readLock.lock();
+    try {
+      postIds = index.search(categoryId, searchType, normalize(search));
+    } finally {
+      readLock.unlock();
+    }
+    int fromIndex = (int) Math.min(pageable.getOffset(), postIds.size());
+    int toIndex = Math.min(fromIndex + pageable.getPageSize(), postIds.size());
+    List<Long> pagePostIds = postIds.subList(fromIndex, toIndex);
+
+    Map<Long, PostSummary> posts = postRepository.findAllSummaryByIdIn(pagePostIds)
+        .stream()
+        .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+    List<PostSummary> content = pagePostIds.stream()
+        .filter(posts::containsKey)
+        .map(posts::get)
+        .toList();
+    return new PageImpl<>(content, pageable, postIds.size());
+  }
+
+  private void withWriteLock(Runnable action) {
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+    try {
+      action.run();
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  static String normalize(String text) {
+    return text == null ? "" : text.toLowerCase(Locale.ROOT);
+  }
+}
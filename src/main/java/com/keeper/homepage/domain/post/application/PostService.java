@@ -14,37 +14,53 @@ import static com.keeper.homepage.global.error.ErrorCode.POST_SEARCH_TYPE_NOT_FO
 import com.keeper.homepage.domain.file.application.FileService;
 import com.keeper.homepage.domain.file.entity.FileEntity;
 import com.keeper.homepage.domain.member.application.convenience.MemberFindService;
+import com.keeper.homepage.domain.member.application.convenience.MemberInteraction;
+import com.keeper.homepage.domain.member.application.convenience.MemberInteractionService;
 import com.keeper.homepage.domain.member.entity.Member;
+import com.keeper.homepage.domain.post.application.PostSearchService.SearchType;
 import com.keeper.homepage.domain.post.application.convenience.CategoryFindService;
+import com.keeper.homepage.domain.post.application.convenience.PostCountService;
 import com.keeper.homepage.domain.post.application.convenience.PostDeleteService;
 import com.keeper.homepage.domain.post.application.convenience.ValidPostFindService;
 import com.keeper.homepage.domain.post.dao.PostHasFileRepository;
 import com.keeper.homepage.domain.post.dao.PostRepository;
+import com.keeper.homepage.domain.post.dao.PostSummary;
+import com.keeper.homepage.domain.post.dto.response.AdjacentPostResponse;
 import com.keeper.homepage.domain.post.dto.response.FileResponse;
 import com.keeper.homepage.domain.post.dto.response.MainPostResponse;
 import com.keeper.homepage.domain.post.dto.response.MemberPostResponse;
 import com.keeper.homepage.domain.post.dto.response.PostDetailResponse;
+import com.keeper.homepage.domain.post.dto.response.PostFileUploadResponse;
 import com.keeper.homepage.domain.post.dto.response.PostListResponse;
 import com.keeper.homepage.domain.post.dto.response.PostResponse;
+import com.keeper.homepage.domain.post.dto.response.PostSliceResponse;
 import com.keeper.homepage.domain.post.dto.response.TempPostResponse;
 import com.keeper.homepage.domain.post.entity.Post;
 import com.keeper.homepage.domain.post.entity.PostHasFile;
 import com.keeper.homepage.domain.post.entity.category.Category;
 import com.keeper.homepage.domain.post.entity.category.Category.CategoryType;
+import com.keeper.homepage.domain.post.event.PostChangedEvent;
 import com.keeper.homepage.domain.thumbnail.entity.Thumbnail;
 import com.keeper.homepage.global.error.BusinessException;
+import com.keeper.homepage.global.util.file.FileUploadUtil;
 import com.keeper.homepage.global.util.file.FileUtil;
-import com.keeper.homepage.global.util.redis.RedisUtil;
+import com.keeper.homepage.global.util.file.StoredFile;
 import com.keeper.homepage.global.util.thumbnail.ThumbnailUtil;
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -58,20 +74,33 @@ public class PostService {
 
   private final ThumbnailUtil thumbnailUtil;
   private final FileUtil fileUtil;
+  private final FileUploadUtil fileUploadUtil;
   private final ValidPostFindService validPostFindService;
   private final PostDeleteService postDeleteService;
   private final CategoryFindService categoryFindService;
   private final MemberFindService memberFindService;
+  private final MemberInteractionService memberInteractionService;
   private final FileService fileService;
-  private final RedisUtil redisUtil;
+  private final PostVisitCountService postVisitCountService;
+  private final PostTrendService postTrendService;
+  private final PostSearchService postSearchService;
+  private final PostNavigationService postNavigationService;
+  private final PostCountService postCountService;
+  private final PostCounterService postCounterService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
 
   private static final String ANONYMOUS_NAME = "익명";
   private static final int EXAM_ACCESSIBLE_POINT = 30000;
   private static final int EXAM_READ_DEDUCTION_POINT = 10000;
   private static final String EXAM_READ_POINT_MESSAGE = "족보 열람";
   private static final int RECENT_POSTING_COUNT = 10;
+  private static final int TREND_POSTING_COUNT = 10;
 
-  @Transactional
+  /**
+   * 첨부파일은 트랜잭션 밖에서 디스크에 먼저 저장하고, 게시글과 파일 정보만 트랜잭션 안에서 저장한다.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
   public Long create(Post post, Long categoryId, MultipartFile thumbnail, List<MultipartFile> multipartFiles) {
     if (post.isSecret()) {
       checkPassword(post.getPassword());
@@ -79,14 +108,22 @@ public class PostService {
     if (!post.isTemp()) {
       checkContent(post.getContent());
     }
+    List<StoredFile> storedFiles = fileUtil.storeFiles(multipartFiles);
+    return executeWithStoredFiles(storedFiles, () -> createPost(post, categoryId, thumbnail, storedFiles));
+  }
+
+  private Long createPost(Post post, Long categoryId, MultipartFile thumbnail, List<StoredFile> storedFiles) {
     if (categoryId == 익명게시판.getId()) {
       Member virtualMember = memberFindService.getVirtualMember();
       post.changeWriter(virtualMember);
     }
 
     savePostThumbnail(post, thumbnail);
-    savePostFiles(post, multipartFiles);
-    return savePost(post, categoryId);
+    int fileCount = savePostFiles(post, storedFiles);
+    Long postId = savePost(post, categoryId);
+    postCounterService.increaseFileCount(postId, fileCount);
+    publishPostChangedEvent(post);
+    return postId;
   }
 
   private void checkPassword(String password) {
@@ -106,12 +143,22 @@ public class PostService {
     post.changeThumbnail(savedThumbnail);
   }
 
-  private void savePostFiles(Post post, List<MultipartFile> multipartFiles) {
-    if (multipartFiles == null) {
-      return;
-    }
-    List<FileEntity> files = fileUtil.saveFiles(multipartFiles.toArray(MultipartFile[]::new));
+  private int savePostFiles(Post post, List<StoredFile> storedFiles) {
+    List<FileEntity> files = fileUtil.saveStoredFiles(storedFiles);
     files.forEach(post::addFile);
+    return files.size();
+  }
+
+  /**
+   * 트랜잭션이 시작되지 못했거나 롤백되면 미리 저장해둔 파일을 지운다.
+   */
+  private <T> T executeWithStoredFiles(List<StoredFile> storedFiles, Supplier<T> action) {
+    try {
+      return transactionTemplate.execute(status -> action.get());
+    } catch (RuntimeException e) {
+      fileUtil.deleteStoredFiles(storedFiles);
+      throw e;
+    }
   }
 
   private Long savePost(Post post, Long categoryId) {
@@ -120,7 +167,6 @@ public class PostService {
     return postRepository.save(post).getId();
   }
 
-  @Transactional
   public PostDetailResponse find(Member member, long postId, String password) {
     Post post = validPostFindService.findById(postId);
 
@@ -128,18 +174,19 @@ public class PostService {
     checkTempPost(member, post);
     checkSecretPost(member, post, password);
 
-    addVisitCount(post, member);
+    postVisitCountService.addVisitCount(post.getId(), member.getId());
 
-    Post previousPost = postRepository.findPreviousPost(postId, post.getCategory()).orElse(null);
-    Post nextPost = postRepository.findNextPost(postId, post.getCategory()).orElse(null);
-    boolean isLike = member.isLike(post);
-    boolean isDislike = member.isDislike(post);
+    AdjacentPostResponse previousPost = postNavigationService.findPreviousPost(post);
+    AdjacentPostResponse nextPost = postNavigationService.findNextPost(post);
+    MemberInteraction interaction = memberInteractionService.getInteraction(member);
+    boolean isLike = interaction.isLike(post);
+    boolean isDislike = interaction.isDislike(post);
 
     if (post.isCategory(익명게시판)) {
       return PostDetailResponse.of(post, ANONYMOUS_NAME, isLike, isDislike, previousPost, nextPost);
     }
     if (post.isCategory(시험게시판) && !post.isMine(member)) {
-      boolean isRead = member.isRead(post);
+      boolean isRead = interaction.isRead(post);
       return PostDetailResponse.of(post, isLike, isDislike, isRead, previousPost, nextPost);
     }
     return PostDetailResponse.of(post, isLike, isDislike, previousPost, nextPost);
@@ -183,15 +230,6 @@ public class PostService {
     }
   }
 
-  private void addVisitCount(Post post, Member member) {
-    String key = "post:" + post.getId() + ":memberId:" + member.getId();
-    Optional<String> isView = redisUtil.getData(key, String.class);
-    if (isView.isEmpty()) {
-      redisUtil.setDataExpire(key, "true", RedisUtil.toMidNight());
-      post.addVisitCount();
-    }
-  }
-
   private void checkAccessibleSecretPost(Member member, Post post, String password) {
     if (post.isMine(member)) {
       return;
@@ -206,7 +244,8 @@ public class PostService {
   public List<FileResponse> getFiles(Member member, long postId) {
     Post post = validPostFindService.findById(postId);
 
-    if (post.isCategory(시험게시판) && !member.isRead(post) && !post.isMine(member)) {
+    if (post.isCategory(시험게시판) && !post.isMine(member)
+        && !memberInteractionService.getInteraction(member).isRead(post)) {
       member.read(post);
       member.minusPoint(EXAM_READ_DEDUCTION_POINT, EXAM_READ_POINT_MESSAGE);
     }
@@ -231,6 +270,11 @@ public class PostService {
       checkContent(newPost.getContent());
     }
     post.update(newPost);
+    publishPostChangedEvent(post);
+  }
+
+  private void publishPostChangedEvent(Post post) {
+    eventPublisher.publishEvent(new PostChangedEvent(post.getId(), post.getCategory().getId()));
   }
 
   @Transactional
@@ -242,6 +286,7 @@ public class PostService {
     }
     thumbnailUtil.deleteFileAndEntityIfExist(post.getThumbnail());
     savePostThumbnail(post, thumbnail);
+    publishPostChangedEvent(post);
   }
 
   @Transactional
@@ -253,6 +298,7 @@ public class PostService {
     }
     thumbnailUtil.deleteFileAndEntityIfExist(post.getThumbnail());
     post.deleteThumbnail();
+    publishPostChangedEvent(post);
   }
 
   @Transactional
@@ -273,9 +319,12 @@ public class PostService {
 
     if (member.isLike(post)) {
       member.cancelLike(post);
-      return;
+      postCounterService.increaseLikeCount(postId, -1);
+    } else {
+      member.like(post);
+      postCounterService.increaseLikeCount(postId, 1);
     }
-    member.like(post);
+    publishPostChangedEvent(post);
   }
 
   @Transactional
@@ -284,9 +333,12 @@ public class PostService {
 
     if (member.isDislike(post)) {
       member.cancelDislike(post);
-      return;
+      postCounterService.increaseDislikeCount(postId, -1);
+    } else {
+      member.dislike(post);
+      postCounterService.increaseDislikeCount(postId, 1);
     }
-    member.dislike(post);
+    publishPostChangedEvent(post);
   }
 
   public PostListResponse getNoticePosts(long categoryId) {
@@ -298,14 +350,69 @@ public class PostService {
     return PostListResponse.from(postResponses);
   }
 
-  @Transactional
+  @Transactional(propagation = Propagation.SUPPORTS)
   public void addPostFiles(Member member, long postId, List<MultipartFile> files) {
     Post post = validPostFindService.findById(postId);
 
     if (!post.isMine(member)) {
       throw new BusinessException(post.getId(), "postId", POST_INACCESSIBLE);
     }
-    savePostFiles(post, files);
+    List<StoredFile> storedFiles = fileUtil.storeFiles(files);
+    executeWithStoredFiles(storedFiles, () -> {
+      int fileCount = savePostFiles(validPostFindService.findById(postId), storedFiles);
+      postCounterService.increaseFileCount(postId, fileCount);
+      return fileCount;
+    });
+  }
+
+  public PostFileUploadResponse startFileUpload(Member member, long postId, String fileName, long fileSize) {
+    checkMyPost(member, postId);
+    return PostFileUploadResponse.from(fileUploadUtil.start(member.getId(), postId, fileName, fileSize));
+  }
+
+  public PostFileUploadResponse getFileUpload(Member member, long postId, String uploadId) {
+    checkMyPost(member, postId);
+    return PostFileUploadResponse.from(fileUploadUtil.get(member.getId(), postId, uploadId));
+  }
+
+  /**
+   * 조각을 디스크에 쓰는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 처리한다. 게시글 권한은 업로드를 시작할 때 확인했으므로, 업로드가 같은 게시글에
+   * 묶여 있는지만 확인한다.
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public PostFileUploadResponse uploadFileChunk(Member member, long postId, String uploadId, int chunkIndex,
+      InputStream chunk) {
+    return PostFileUploadResponse.from(
+        fileUploadUtil.writeChunk(member.getId(), postId, uploadId, chunkIndex, chunk));
+  }
+
+  /**
+   * 파일을 저장소로 옮기는 동안에는 트랜잭션을 열지 않고, 파일 정보와 게시글 연결만 트랜잭션 안에서 저장한다.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public FileResponse completeFileUpload(Member member, long postId, String uploadId) {
+    checkMyPost(member, postId);
+    List<StoredFile> storedFiles = List.of(fileUploadUtil.complete(member.getId(), postId, uploadId));
+    return executeWithStoredFiles(storedFiles, () -> {
+      Post post = validPostFindService.findById(postId);
+      FileEntity file = fileUtil.saveStoredFiles(storedFiles).get(0);
+      post.addFile(file);
+      postCounterService.increaseFileCount(postId, 1);
+      return FileResponse.from(file);
+    });
+  }
+
+  public void cancelFileUpload(Member member, long postId, String uploadId) {
+    checkMyPost(member, postId);
+    fileUploadUtil.cancel(member.getId(), postId, uploadId);
+  }
+
+  private void checkMyPost(Member member, long postId) {
+    Post post = validPostFindService.findById(postId);
+
+    if (!post.isMine(member)) {
+      throw new BusinessException(post.getId(), "postId", POST_INACCESSIBLE);
+    }
   }
 
   @Transactional
@@ -317,7 +424,8 @@ public class PostService {
     }
     fileIds.stream().forEach(fileId -> {
       FileEntity file = fileService.findById(fileId);
-      postHasFileRepository.deleteByPostAndFile(post, file);
+      long deletedCount = postHasFileRepository.deleteByPostAndFile(post, file);
+      postCounterService.increaseFileCount(postId, (int) -deletedCount);
       fileUtil.deleteFileAndEntity(file);
     });
   }
@@ -328,23 +436,54 @@ public class PostService {
       return postRepository.findAllRecentByCategory(category, pageable)
           .map(this::getPostResponse);
     }
-    if (searchType.equals("title")) {
-      return postRepository.findAllRecentByCategoryAndTitle(category, search, pageable)
-          .map(this::getPostResponse);
-    }
-    if (searchType.equals("content")) {
-      return postRepository.findAllRecentByCategoryAndContent(category, search, pageable)
-          .map(this::getPostResponse);
-    }
-    if (searchType.equals("writer")) {
-      return postRepository.findAllRecentByCategoryAndWriter(category, search, pageable)
-          .map(this::getPostResponse);
-    }
-    if (searchType.equals("title+content")) {
-      return postRepository.findAllRecentByCategoryAndTitleOrContent(category, search, pageable)
+    SearchType type = getSearchType(searchType);
+    if (!postSearchService.isReady()) {
+      return searchByLike(category, type, search, pageable)
           .map(this::getPostResponse);
     }
-    throw new BusinessException(searchType, "searchType", POST_SEARCH_TYPE_NOT_FOUND);
+    return postSearchService.search(categoryId, type, search, pageable)
+        .map(this::getPostResponse);
+  }
+
+  /**
+   * 등록시간, id 를 커서로 사용해 OFFSET 없이 다음 게시글 목록을 조회한다. 전체 게시글 수는 요청한 경우에만 캐시된 값으로 채운다.
+   */
+  public PostSliceResponse getPostsByCursor(long categoryId, LocalDateTime cursorRegisterTime, Long cursorId,
+      int size, boolean withTotalCount) {
+    Category category = categoryFindService.findById(categoryId);
+    PageRequest pageable = PageRequest.of(0, size);
+    Slice<PostSummary> posts = (cursorRegisterTime == null || cursorId == null)
+        ? postRepository.findRecentSliceByCategory(category, pageable)
+        : postRepository.findRecentSliceByCategoryAndCursor(category, cursorRegisterTime, cursorId, pageable);
+
+    List<PostResponse> postResponses = posts.stream()
+        .map(this::getPostResponse)
+        .toList();
+    PostSummary lastPost = posts.isEmpty() ? null : posts.getContent().get(posts.getNumberOfElements() - 1);
+    Long totalCount = withTotalCount ? postCountService.countRecentByCategory(category) : null;
+    return PostSliceResponse.of(postResponses, posts.hasNext(),
+        lastPost == null ? null : lastPost.registerTime(),
+        lastPost == null ? null : lastPost.id(),
+        totalCount);
+  }
+
+  private SearchType getSearchType(String searchType) {
+    return switch (searchType) {
+      case "title" -> SearchType.TITLE;
+      case "content" -> SearchType.CONTENT;
+      case "writer" -> SearchType.WRITER;
+      case "title+content" -> SearchType.TITLE_AND_CONTENT;
+      default -> throw new BusinessException(searchType, "searchType", POST_SEARCH_TYPE_NOT_FOUND);
+    };
+  }
+
+  private Page<PostSummary> searchByLike(Category category, SearchType searchType, String search, PageRequest pageable) {
+    return switch (searchType) {
+      case TITLE -> postRepository.findAllRecentByCategoryAndTitle(category, search, pageable);
+      case CONTENT -> postRepository.findAllRecentByCategoryAndContent(category, search, pageable);
+      case WRITER -> postRepository.findAllRecentByCategoryAndWriter(category, search, pageable);
+      case TITLE_AND_CONTENT -> postRepository.findAllRecentByCategoryAndTitleOrContent(category, search, pageable);
+    };
   }
 
   private PostResponse getPostResponse(Post post) {
@@ -354,6 +493,13 @@ public class PostService {
     return PostResponse.from(post);
   }
 
+  private PostResponse getPostResponse(PostSummary post) {
+    if (post.categoryId() == 익명게시판.getId()) {
+      return PostResponse.of(post, ANONYMOUS_NAME);
+    }
+    return PostResponse.from(post);
+  }
+
   private MainPostResponse getMainPostResponse(Post post) {
     if (post.isCategory(익명게시판)) {
       return MainPostResponse.of(post, ANONYMOUS_NAME);
@@ -370,22 +516,7 @@ public class PostService {
   }
 
   public List<MainPostResponse> getTrendPosts() {
-    LocalDateTime startDateTime = LocalDateTime.now().minusWeeks(2);
-    LocalDateTime endDateTime = LocalDateTime.now().plusDays(1);
-    List<Post> posts = postRepository.findAllTrend(startDateTime, endDateTime);
-    posts.sort((post1, post2) -> {
-      int postScore1 = getPostScore(post1);
-      int postScore2 = getPostScore(post2);
-      return Integer.compare(postScore2, postScore1);
-    });
-    return posts.stream()
-        .map(this::getMainPostResponse)
-        .limit(10)
-        .toList();
-  }
-
-  private int getPostScore(Post post) {
-    return post.getVisitCount() + post.getPostLikes().size() * 2 - post.getPostDislikes().size();
+    return postTrendService.getTrendPosts(TREND_POSTING_COUNT);
   }
 
   public Page<MemberPostResponse> getMemberPosts(long memberId, Pageable pageable) {
@@ -399,9 +530,32 @@ public class PostService {
         .map(TempPostResponse::from);
   }
 
+  /**
+   * 게시글의 모든 파일을 한 번에 내려받을 때 사용한다. 권한 확인과 시험 게시판 포인트 차감은 파일 수와 상관없이 한 번만 한다.
+   *
+   * @return 파일 ID 순으로 정렬된 게시글 파일
+   */
+  @Transactional
+  public List<FileEntity> getFilesToDownload(Member member, long postId) {
+    Post post = validPostFindService.findById(postId);
+    if (!post.isMine(member) && !memberInteractionService.getInteraction(member).hasComment(post)) {
+      throw new BusinessException(postId, "postId", POST_COMMENT_NEED);
+    }
+    if (post.isCategory(시험게시판) && !post.isMine(member)
+        && !memberInteractionService.getInteraction(member).isRead(post)) {
+      member.read(post);
+      member.minusPoint(EXAM_READ_DEDUCTION_POINT, EXAM_READ_POINT_MESSAGE);
+    }
+    return post.getPostHasFiles()
+        .stream()
+        .map(PostHasFile::getFile)
+        .sorted(Comparator.comparing(FileEntity::getId))
+        .toList();
+  }
+
   public FileEntity getFile(Member member, long postId, long fileId) {
     Post post = validPostFindService.findById(postId);
-    if (!member.hasComment(post) && !post.isMine(member)) {
+    if (!post.isMine(member) && !memberInteractionService.getInteraction(member).hasComment(post)) {
       throw new BusinessException(postId, "postId", POST_COMMENT_NEED);
     }
     FileEntity file = fileService.findById(fileId);
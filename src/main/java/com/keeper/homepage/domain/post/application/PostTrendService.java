@@ -0,0 +1,175 @@
+package com.keeper.homepage.domain.post.application;
+
+import static com.keeper.homepage.domain.post.entity.category.Category.CategoryType.익명게시판;
+
+import com.keeper.homepage.domain.post.dao.PostRepository;
+import com.keeper.homepage.domain.post.dto.response.MainPostResponse;
+import com.keeper.homepage.domain.post.entity.Post;
+import com.keeper.homepage.domain.post.event.PostChangedEvent;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 최근 2주간 게시글의 인기 점수(조회수 + 좋아요 * 2 - 싫어요)를 메모리에 유지한다.
+ * <p>
+ * 조회수가 바뀔 때마다, 좋아요와 싫어요는 바꾼 트랜잭션이 커밋될 때마다 점수를 갱신하므로 인기글 조회 시 DB 를 거치지 않는다. 좋아요와 싫어요
+ * 개수는 메모리에서 더하지 않고 게시글의 개수 컬럼을 다시 읽으므로, 롤백되거나 실패한 요청이 있어도 다음 커밋에서 DB 값으로 맞춰진다.
+ * <p>
+ * 점수는 서버마다 따로 유지하며 해당 서버에서 커밋된 {@link PostChangedEvent} 로만 갱신되므로, 서버가 한 대라고 가정한다. 서버를 여러 대
+ * 띄우면 다른 서버에서 바뀐 좋아요, 싫어요와 새 게시글은 다음 재시작 전까지 반영되지 않는다. 그때는 {@link PostChangedEvent} 를 Redis
+ * pub/sub 등으로 모든 서버에 전달해야 한다.
+ */
+@Service
+@EnableScheduling
+@RequiredArgsConstructor
+public class PostTrendService {
+
+  private final PostRepository postRepository;
+
+  private static final String ANONYMOUS_NAME = "익명";
+  private static final int TREND_WEEKS = 2;
+  private static final int LIKE_WEIGHT = 2;
+  private static final int DISLIKE_WEIGHT = -1;
+
+  private static final Comparator<TrendPost> RANKING_ORDER = Comparator.comparingInt(TrendPost::score)
+      .reversed()
+      .thenComparing(TrendPost::id, Comparator.reverseOrder());
+
+  private final Map<Long, TrendPost> trendPosts = new HashMap<>();
+  private final TreeSet<TrendPost> ranking = new TreeSet<>(RANKING_ORDER);
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    LocalDateTime startDateTime = LocalDateTime.now().minusWeeks(TREND_WEEKS);
+    LocalDateTime endDateTime = LocalDateTime.now().plusDays(1);
+    List<TrendPost> loaded = postRepository.findAllTrend(startDateTime, endDateTime)
+        .stream()
+        .map(post -> TrendPost.of(post, post.getLikeCount(), post.getDislikeCount()))
+        .toList();
+
+    synchronized (this) {
+      trendPosts.clear();
+      ranking.clear();
+      loaded.forEach(this::put);
+    }
+  }
+
+  public synchronized List<MainPostResponse> getTrendPosts(int count) {
+    return ranking.stream()
+        .limit(count)
+        .map(TrendPost::toResponse)
+        .toList();
+  }
+
+  /**
+   * 게시글을 바꾼 트랜잭션이 커밋된 뒤에 반영해, 롤백된 게시글이 인기글에 남지 않도록 한다. 응답 캐시보다 먼저 갱신한다.
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener
+  public void onPostChanged(PostChangedEvent event) {
+    long postId = event.postId();
+    postRepository.findById(postId)
+        .ifPresentOrElse(post -> postRepository.findReactionCountById(postId)
+                .ifPresent(count -> register(post, count.likeCount(), count.dislikeCount())),
+            () -> remove(postId));
+  }
+
+  /**
+   * 게시글의 표시 정보(제목, 썸네일 등)와 좋아요, 싫어요 개수를 등록하거나 갱신한다. 조회수는 Redis 에 모아 두었다가 DB 에 반영하므로 메모리 값이 더
+   * 크면 유지한다.
+   */
+  private synchronized void register(Post post, int likeCount, int dislikeCount) {
+    if (post.isTemp() || isExpired(post.getRegisterTime())) {
+      remove(post.getId());
+      return;
+    }
+    TrendPost trendPost = trendPosts.get(post.getId());
+    int visitCount = trendPost == null ? post.getVisitCount() : Math.max(trendPost.visitCount(), post.getVisitCount());
+    put(TrendPost.of(post, likeCount, dislikeCount).withVisitCount(visitCount));
+  }
+
+  public synchronized void remove(long postId) {
+    TrendPost removed = trendPosts.remove(postId);
+    if (removed != null) {
+      ranking.remove(removed);
+    }
+  }
+
+  public synchronized void addVisitCount(long postId) {
+    TrendPost trendPost = trendPosts.get(postId);
+    if (trendPost != null) {
+      put(trendPost.withVisitCount(trendPost.visitCount() + 1));
+    }
+  }
+
+  @Scheduled(cron = "0 0 * * * ?", zone = "Asia/Seoul") // 매시 정각에 실행
+  public synchronized void evictExpiredPosts() {
+    trendPosts.values()
+        .stream()
+        .filter(trendPost -> isExpired(trendPost.registerTime()))
+        .map(TrendPost::id)
+        .toList()
+        .forEach(this::remove);
+  }
+
+  private void put(TrendPost trendPost) {
+    remove(trendPost.id());
+    trendPosts.put(trendPost.id(), trendPost);
+    ranking.add(trendPost);
+  }
+
+  private static boolean isExpired(LocalDateTime registerTime) {
+    return registerTime != null && registerTime.isBefore(LocalDateTime.now().minusWeeks(TREND_WEEKS));
+  }
+
+  private record TrendPost(Long id, String title, String thumbnailPath, Long categoryId, String categoryName,
+                           String writerName, String writerThumbnailPath, Boolean isSecret,
+                           LocalDateTime registerTime, int visitCount, int likeCount, int dislikeCount) {
+
+    static TrendPost of(Post post, int likeCount, int dislikeCount) {
+      String writerName = post.isCategory(익명게시판) ? ANONYMOUS_NAME : post.getMember().getRealName();
+      return new TrendPost(post.getId(), post.getTitle(), post.getThumbnailPath(), post.getCategory().getId(),
+          post.getCategoryName(), writerName, post.getMember().getThumbnailPath(), post.isSecret(),
+          post.getRegisterTime(), post.getVisitCount(), likeCount, dislikeCount);
+    }
+
+    int score() {
+      return visitCount + likeCount * LIKE_WEIGHT + dislikeCount * DISLIKE_WEIGHT;
+    }
+
+    TrendPost withVisitCount(int visitCount) {
+      return new TrendPost(id, title, thumbnailPath, categoryId, categoryName, writerName, writerThumbnailPath,
+          isSecret, registerTime, visitCount, likeCount, dislikeCount);
+    }
+
+    MainPostResponse toResponse() {
+      return MainPostResponse.builder()
+          .id(id)
+          .title(title)
+          .thumbnailPath(thumbnailPath)
+          .categoryId(categoryId)
+          .categoryName(categoryName)
+          .writerName(writerName)
+          .writerThumbnailPath(writerThumbnailPath)
+          .visitCount(visitCount)
+          .isSecret(isSecret)
+          .registerTime(registerTime)
+          .build();
+    }
+  }
+}
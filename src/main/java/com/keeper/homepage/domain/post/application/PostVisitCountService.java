@@ -0,0 +1,130 @@
+package com.keeper.homepage.domain.post.application;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import com.keeper.homepage.domain.post.dao.PostRepository;
+import com.keeper.homepage.global.util.redis.RedisUtil;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 조회수를 Redis 에 모아두었다가 주기적으로 DB 에 반영한다.
+ * <p>
+ * 조회 시점에는 게시글 row 에 락을 잡지 않고, 회원 중복 체크(Set)와 증가분 누적(Hash)만 Redis 에서 처리한다.
+ */
+@Service
+@EnableScheduling
+@RequiredArgsConstructor
+public class PostVisitCountService {
+
+  private final PostRepository postRepository;
+  private final RedisUtil redisUtil;
+  private final PostTrendService postTrendService;
+
+  private static final String VISITOR_KEY_PREFIX = "post:visitors:";
+  private static final String PENDING_VISIT_COUNT_KEY = "post:visitCount:pending";
+  private static final String FLUSHING_VISIT_COUNT_KEY = "post:visitCount:flushing";
+  private static final String FLUSH_LOCK_KEY = "post:visitCount:flushLock";
+  private static final long FLUSH_INTERVAL_MILLIS = 60 * 1000;
+  private static final long FLUSH_LOCK_LEASE_MILLIS = 10 * 60 * 1000;
+
+  /**
+   * KEYS: pending, flushing, lock / ARGV: lock 토큰, lock 유지 시간 (millis)
+   * <p>
+   * lock 을 잡은 서버만 flushing 키를 반영한다. 반영하던 서버가 죽어 flushing 키가 남아있다면 lock 이 만료된 뒤 그것부터 반영한다.
+   */
+  private static final RedisScript<Long> CLAIM_SCRIPT = RedisScript.of("""
+      if not redis.call('SET', KEYS[3], ARGV[1], 'NX', 'PX', ARGV[2]) then
+        return 0
+      end
+      if redis.call('EXISTS', KEYS[2]) == 1 then
+        return 1
+      end
+      if redis.call('EXISTS', KEYS[1]) == 1 then
+        redis.call('RENAME', KEYS[1], KEYS[2])
+        return 1
+      end
+      redis.call('DEL', KEYS[3])
+      return 0
+      """, Long.class);
+
+  /**
+   * KEYS: flushing, lock / ARGV: lock 토큰
+   */
+  private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+        return 0
+      end
+      redis.call('DEL', KEYS[1], KEYS[2])
+      return 1
+      """, Long.class);
+
+  /**
+   * KEYS: flushing, pending, lock / ARGV: lock 토큰
+   * <p>
+   * 반영에 실패한 조회수를 pending 으로 되돌려 다음 반영에 합친다.
+   */
+  private static final RedisScript<Long> RESTORE_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[3]) ~= ARGV[1] then
+        return 0
+      end
+      local entries = redis.call('HGETALL', KEYS[1])
+      for i = 1, #entries, 2 do
+        redis.call('HINCRBY', KEYS[2], entries[i], entries[i + 1])
+      end
+      redis.call('DEL', KEYS[1], KEYS[3])
+      return 1
+      """, Long.class);
+
+  public void addVisitCount(long postId, long memberId) {
+    String visitorKey = VISITOR_KEY_PREFIX + postId;
+    if (redisUtil.addToSetWithExpire(visitorKey, String.valueOf(memberId), RedisUtil.toMidNight())) {
+      redisUtil.increaseHashValue(PENDING_VISIT_COUNT_KEY, String.valueOf(postId), 1);
+      postTrendService.addVisitCount(postId);
+    }
+  }
+
+  /**
+   * 여러 서버가 동시에 실행해도 한 서버만 반영한다. 반영한 조회수는 커밋된 뒤에 지우고, 롤백되면 pending 으로 되돌린다.
+   */
+  @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+  @Transactional
+  public void flushVisitCounts() {
+    String lockToken = UUID.randomUUID().toString();
+    Long claimed = redisUtil.executeScript(CLAIM_SCRIPT,
+        List.of(PENDING_VISIT_COUNT_KEY, FLUSHING_VISIT_COUNT_KEY, FLUSH_LOCK_KEY),
+        lockToken, String.valueOf(FLUSH_LOCK_LEASE_MILLIS));
+    if (claimed == null || claimed == 0) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_COMMITTED) {
+          redisUtil.executeScript(COMPLETE_SCRIPT, List.of(FLUSHING_VISIT_COUNT_KEY, FLUSH_LOCK_KEY), lockToken);
+          return;
+        }
+        redisUtil.executeScript(RESTORE_SCRIPT,
+            List.of(FLUSHING_VISIT_COUNT_KEY, PENDING_VISIT_COUNT_KEY, FLUSH_LOCK_KEY), lockToken);
+      }
+    });
+
+    Map<Integer, List<Long>> postIdsByCount = redisUtil.getHashEntries(FLUSHING_VISIT_COUNT_KEY)
+        .entrySet()
+        .stream()
+        .collect(groupingBy(entry -> Integer.valueOf(entry.getValue()),
+            mapping(entry -> Long.valueOf(entry.getKey()), toList())));
+    postIdsByCount.forEach((count, postIds) -> postRepository.increaseVisitCount(postIds, count));
+  }
+}
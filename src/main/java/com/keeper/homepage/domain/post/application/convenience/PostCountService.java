@@ -0,0 +1,40 @@
+package com.keeper.homepage.domain.post.application.convenience;
+
+import com.keeper.homepage.domain.post.dao.PostRepository;
+import com.keeper.homepage.domain.post.entity.category.Category;
+import com.keeper.homepage.domain.post.event.PostChangedEvent;
+import com.keeper.homepage.global.util.redis.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostCountService {
+
+  private final PostRepository postRepository;
+  private final RedisUtil redisUtil;
+
+  private static final String POST_COUNT_KEY_PREFIX = "post:count:category:";
+  private static final long POST_COUNT_EXPIRE_MILLIS = 10 * 60 * 1000;
+
+  public long countRecentByCategory(Category category) {
+    String key = POST_COUNT_KEY_PREFIX + category.getId();
+    return redisUtil.getData(key, Long.class)
+        .orElseGet(() -> {
+          long count = postRepository.countRecentByCategory(category);
+          redisUtil.setDataExpire(key, count, POST_COUNT_EXPIRE_MILLIS);
+          return count;
+        });
+  }
+
+  /**
+   * 커밋 전에 지우면 다른 요청이 예전 개수를 다시 캐시할 수 있으므로, 게시글을 바꾼 트랜잭션이 커밋된 뒤에 지운다.
+   */
+  @TransactionalEventListener
+  public void evict(PostChangedEvent event) {
+    redisUtil.deleteData(POST_COUNT_KEY_PREFIX + event.categoryId());
+  }
+}
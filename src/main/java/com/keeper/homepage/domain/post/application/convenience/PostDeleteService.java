@@ -6,7 +6,9 @@ import com.keeper.homepage.domain.member.dao.post.MemberHasPostDislikeRepository
 import com.keeper.homepage.domain.member.dao.post.MemberHasPostLikeRepository;
 import com.keeper.homepage.domain.post.dao.PostRepository;
 import com.keeper.homepage.domain.post.entity.Post;
+import com.keeper.homepage.domain.post.event.PostChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,10 +22,12 @@ public class PostDeleteService {
   private final MemberHasPostDislikeRepository postDislikeRepository;
   private final MemberHasCommentLikeRepository commentLikeRepository;
   private final MemberHasCommentDislikeRepository commentDislikeRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   public void delete(Post post) {
     deleteAllLikeAndDislike(post);
     postRepository.delete(post);
+    eventPublisher.publishEvent(new PostChangedEvent(post.getId(), post.getCategory().getId()));
   }
 
   private void deleteAllLikeAndDislike(Post post) {
@@ -0,0 +1,12 @@
+package com.keeper.homepage.domain.post.dao;
+
+import com.keeper.homepage.domain.post.entity.category.Category.CategoryType;
+import java.time.LocalDateTime;
+
+/**
+ * 회원의 게시글, 임시글 목록 조회용 projection. 내용(content) 컬럼은 조회하지 않는다.
+ */
+public record MemberPostSummary(Long id, String title, Long categoryId, CategoryType categoryType,
+                                Integer visitCount, Boolean isSecret, LocalDateTime registerTime) {
+
+}
@@ -14,5 +14,5 @@ public interface PostHasFileRepository extends JpaRepository<PostHasFile, PostHa
 
   List<PostHasFile> findAllByPost(Post post);
 
-  void deleteByPostAndFile(Post post, FileEntity file);
+  long deleteByPostAndFile(Post post, FileEntity file);
 }
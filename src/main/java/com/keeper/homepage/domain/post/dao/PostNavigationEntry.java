@@ -0,0 +1,5 @@
+package com.keeper.homepage.domain.post.dao;
+
+public record PostNavigationEntry(Long id, Long categoryId, String title) {
+
+}
@@ -0,0 +1,8 @@
+package com.keeper.homepage.domain.post.dao;
+
+/**
+ * 게시글의 좋아요, 싫어요 개수 컬럼 projection. 영속성 컨텍스트의 엔티티가 아닌 DB 값을 그대로 읽는다.
+ */
+public record PostReactionCount(Integer likeCount, Integer dislikeCount) {
+
+}
@@ -3,11 +3,14 @@ package com.keeper.homepage.domain.post.dao;
 import com.keeper.homepage.domain.member.entity.Member;
 import com.keeper.homepage.domain.post.entity.Post;
 import com.keeper.homepage.domain.post.entity.category.Category;
+import com.keeper.homepage.domain.thumbnail.entity.Thumbnail;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,6 +18,22 @@ import org.springframework.data.repository.query.Param;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+  /**
+   * 목록 조회용 select 절. 작성자, 작성자 썸네일, 게시글 썸네일을 한 번에 join 하고 내용(content) 컬럼은 조회하지 않는다.
+   */
+  String POST_SUMMARY_SELECT = "SELECT new com.keeper.homepage.domain.post.dao.PostSummary("
+      + "p.id, p.title, p.category.id, m.id, m.profile.realName.realName, mt.path, "
+      + "p.visitCount, p.commentCount, p.likeCount, p.isSecret, t.path, p.registerTime) "
+      + "FROM Post p "
+      + "JOIN p.member m "
+      + "LEFT JOIN m.profile.thumbnail mt "
+      + "LEFT JOIN p.thumbnail t ";
+
+  String MEMBER_POST_SUMMARY_SELECT = "SELECT new com.keeper.homepage.domain.post.dao.MemberPostSummary("
+      + "p.id, p.title, c.id, c.type, p.visitCount, p.isSecret, p.registerTime) "
+      + "FROM Post p "
+      + "JOIN p.category c ";
+
   Optional<Post> findByIdAndIdNot(Long postId, Long virtualId);
 
   /**
@@ -28,6 +47,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
       + "ORDER BY p.registerTime DESC")
   List<Post> findAllNoticeByCategory(@Param("category") Category category);
 
+  List<Post> findAllByThumbnail(Thumbnail thumbnail);
+
   /**
    * 임시 저장글 제외 + 등록 시간 최신순 정렬
    */
@@ -43,13 +64,134 @@ public interface PostRepository extends JpaRepository<Post, Long> {
    * @param category 게시글 카테고리
    * @param pageable Pageable
    */
-  @Query("SELECT p FROM Post p "
+  @Query(value = POST_SUMMARY_SELECT
       + "WHERE p.category = :category "
       + "AND p.isNotice = false "
       + "AND p.isTemp = false "
       + "AND p.id <> 1 " // virtual post
-      + "ORDER BY p.registerTime DESC")
-  Page<Post> findAllRecentByCategory(@Param("category") Category category, Pageable pageable);
+      + "ORDER BY p.registerTime DESC",
+      countQuery = "SELECT COUNT(p) FROM Post p "
+          + "WHERE p.category = :category "
+          + "AND p.isNotice = false "
+          + "AND p.isTemp = false "
+          + "AND p.id <> 1")
+  Page<PostSummary> findAllRecentByCategory(@Param("category") Category category, Pageable pageable);
+
+  /**
+   * 개수 컬럼은 벌크 UPDATE 로 바뀌므로, 같은 트랜잭션에서 읽어 둔 엔티티 대신 DB 값을 조회한다.
+   */
+  @Query("SELECT new com.keeper.homepage.domain.post.dao.PostReactionCount(p.likeCount, p.dislikeCount) "
+      + "FROM Post p "
+      + "WHERE p.id = :postId")
+  Optional<PostReactionCount> findReactionCountById(@Param("postId") long postId);
+
+  @Modifying
+  @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId")
+  void increaseLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+  @Modifying
+  @Query("UPDATE Post p SET p.dislikeCount = p.dislikeCount + :delta WHERE p.id = :postId")
+  void increaseDislikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+  @Modifying
+  @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+  void increaseCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+  @Modifying
+  @Query("UPDATE Post p SET p.fileCount = p.fileCount + :delta WHERE p.id = :postId")
+  void increaseFileCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+  /**
+   * 실제 좋아요 수와 다른 게시글의 like_count 를 바로잡는다.
+   *
+   * @return 보정된 게시글 수
+   */
+  @Modifying
+  @Query(value = "UPDATE posting p "
+      + "SET p.like_count = (SELECT COUNT(*) FROM member_has_posting_like l WHERE l.posting_id = p.id) "
+      + "WHERE p.like_count <> (SELECT COUNT(*) FROM member_has_posting_like l WHERE l.posting_id = p.id)",
+      nativeQuery = true)
+  int reconcileLikeCount();
+
+  /**
+   * 실제 싫어요 수와 다른 게시글의 dislike_count 를 바로잡는다.
+   *
+   * @return 보정된 게시글 수
+   */
+  @Modifying
+  @Query(value = "UPDATE posting p "
+      + "SET p.dislike_count = (SELECT COUNT(*) FROM member_has_posting_dislike d WHERE d.posting_id = p.id) "
+      + "WHERE p.dislike_count <> (SELECT COUNT(*) FROM member_has_posting_dislike d WHERE d.posting_id = p.id)",
+      nativeQuery = true)
+  int reconcileDislikeCount();
+
+  /**
+   * 실제 댓글 수와 다른 게시글의 comment_count 를 바로잡는다.
+   *
+   * @return 보정된 게시글 수
+   */
+  @Modifying
+  @Query(value = "UPDATE posting p "
+      + "SET p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.posting_id = p.id) "
+      + "WHERE p.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.posting_id = p.id)",
+      nativeQuery = true)
+  int reconcileCommentCount();
+
+  /**
+   * 실제 첨부파일 수와 다른 게시글의 file_count 를 바로잡는다.
+   *
+   * @return 보정된 게시글 수
+   */
+  @Modifying
+  @Query(value = "UPDATE posting p "
+      + "SET p.file_count = (SELECT COUNT(*) FROM posting_has_file f WHERE f.posting_id = p.id) "
+      + "WHERE p.file_count <> (SELECT COUNT(*) FROM posting_has_file f WHERE f.posting_id = p.id)",
+      nativeQuery = true)
+  int reconcileFileCount();
+
+  /**
+   * 카테고리 + 공지글 제외 + 임시글 제외 + 등록시간, id 최신순 정렬 (커서 페이지네이션 첫 페이지)
+   *
+   * @param category 게시글 카테고리
+   * @param pageable Pageable
+   */
+  @Query(POST_SUMMARY_SELECT
+      + "WHERE p.category = :category "
+      + "AND p.isNotice = false "
+      + "AND p.isTemp = false "
+      + "AND p.id <> 1 " // virtual post
+      + "ORDER BY p.registerTime DESC, p.id DESC")
+  Slice<PostSummary> findRecentSliceByCategory(@Param("category") Category category, Pageable pageable);
+
+  /**
+   * 카테고리 + 공지글 제외 + 임시글 제외 + 커서(등록시간, id) 이전 게시글 + 등록시간, id 최신순 정렬
+   *
+   * @param category     게시글 카테고리
+   * @param registerTime 커서의 등록시간
+   * @param postId       커서의 게시글 id
+   * @param pageable     Pageable
+   */
+  @Query(POST_SUMMARY_SELECT
+      + "WHERE p.category = :category "
+      + "AND p.isNotice = false "
+      + "AND p.isTemp = false "
+      + "AND p.id <> 1 " // virtual post
+      + "AND (p.registerTime < :registerTime OR (p.registerTime = :registerTime AND p.id < :postId)) "
+      + "ORDER BY p.registerTime DESC, p.id DESC")
+  Slice<PostSummary> findRecentSliceByCategoryAndCursor(@Param("category") Category category,
+      @Param("registerTime") LocalDateTime registerTime, @Param("postId") Long postId, Pageable pageable);
+
+  /**
+   * 카테고리 + 공지글 제외 + 임시글 제외 게시글 수
+   *
+   * @param category 게시글 카테고리
+   */
+  @Query("SELECT COUNT(p) FROM Post p "
+      + "WHERE p.category = :category "
+      + "AND p.isNotice = false "
+      + "AND p.isTemp = false "
+      + "AND p.id <> 1") // virtual post
+  long countRecentByCategory(@Param("category") Category category);
 
   /**
    * 카테고리 + 공지글 제외 + 임시글 제외 + 제목 검색 + 등록시간 최신순 정렬
@@ -58,14 +200,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
    * @param search   검색어
    * @param pageable Pageable
    */
-  @Query("SELECT p FROM Post p "
+  @Query(value = POST_SUMMARY_SELECT
       + "WHERE p.category = :category "
       + "AND p.isNotice = false "
       + "AND p.isTemp = false "
       + "AND LOWER(p.title) LIKE LOWER(concat('%', :search, '%')) "
-      + "ORDER BY p.registerTime DESC")
-  Page<Post> findAllRecentByCategoryAndTitle(@Param("category") Category category, @Param("search") String search,
-      Pageable pageable);
+      + "ORDER BY p.registerTime DESC",
+      countQuery = "SELECT COUNT(p) FROM Post p "
+          + "WHERE p.category = :category "
+          + "AND p.isNotice = false "
+          + "AND p.isTemp = false "
+          + "AND LOWER(p.title) LIKE LOWER(concat('%', :search, '%'))")
+  Page<PostSummary> findAllRecentByCategoryAndTitle(@Param("category") Category category,
+      @Param("search") String search, Pageable pageable);
 
   /**
    * 카테고리 + 공지글 제외 + 임시글 제외 + 내용 검색 + 등록시간 최신순 정렬
@@ -74,14 +221,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
    * @param search   검색어
    * @param pageable Pageable
    */
-  @Query("SELECT p FROM Post p "
+  @Query(value = POST_SUMMARY_SELECT
       + "WHERE p.category = :category "
       + "AND p.isNotice = false "
       + "AND p.isTemp = false "
       + "AND LOWER(p.content) LIKE LOWER(concat('%', :search, '%')) "
-      + "ORDER BY p.registerTime DESC")
-  Page<Post> findAllRecentByCategoryAndContent(@Param("category") Category category, @Param("search") String search,
-      Pageable pageable);
+      + "ORDER BY p.registerTime DESC",
+      countQuery = "SELECT COUNT(p) FROM Post p "
+          + "WHERE p.category = :category "
+          + "AND p.isNotice = false "
+          + "AND p.isTemp = false "
+          + "AND LOWER(p.content) LIKE LOWER(concat('%', :search, '%'))")
+  Page<PostSummary> findAllRecentByCategoryAndContent(@Param("category") Category category,
+      @Param("search") String search, Pageable pageable);
 
   /**
    * 카테고리 + 공지글 제외 + 임시글 제외 + 제목&내용 검색 + 등록시간 최신순 정렬
@@ -90,14 +242,20 @@ public interface PostRepository extends JpaRepository<Post, Long> {
    * @param search   검색어
    * @param pageable Pageable
    */
-  @Query("SELECT p FROM Post p "
+  @Query(value = POST_SUMMARY_SELECT
       + "WHERE p.category = :category "
       + "AND p.isNotice = false "
       + "AND p.isTemp = false "
       + "AND (LOWER(p.title) LIKE LOWER(concat('%', :search, '%')) "
       + "OR LOWER(p.content) LIKE LOWER(concat('%', :search, '%'))) "
-      + "ORDER BY p.registerTime DESC")
-  Page<Post> findAllRecentByCategoryAndTitleOrContent(@Param("category") Category category,
+      + "ORDER BY p.registerTime DESC",
+      countQuery = "SELECT COUNT(p) FROM Post p "
+          + "WHERE p.category = :category "
+          + "AND p.isNotice = false "
+          + "AND p.isTemp = false "
+          + "AND (LOWER(p.title) LIKE LOWER(concat('%', :search, '%')) "
+          + "OR LOWER(p.content) LIKE LOWER(concat('%', :search, '%')))")
+  Page<PostSummary> findAllRecentByCategoryAndTitleOrContent(@Param("category") Category category,
       @Param("search") String search, Pageable pageable);
 
   /**
@@ -107,14 +265,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
    * @param search   검색어
    * @param pageable Pageable
    */
-  @Query("SELECT p FROM Post p "
+  @Query(value = POST_SUMMARY_SELECT
       + "WHERE p.category = :category "
       + "AND p.isNotice = false "
       + "AND p.isTemp = false "
       + "AND LOWER(p.member.profile.realName) LIKE LOWER(concat('%', :search, '%')) "
-      + "ORDER BY p.registerTime DESC")
-  Page<Post> findAllRecentByCategoryAndWriter(@Param("category") Category category, @Param("search") String search,
-      Pageable pageable);
+      + "ORDER BY p.registerTime DESC",
+      countQuery = "SELECT COUNT(p) FROM Post p "
+          + "WHERE p.category = :category "
+          + "AND p.isNotice = false "
+          + "AND p.isTemp = false "
+          + "AND LOWER(p.member.profile.realName) LIKE LOWER(concat('%', :search, '%'))")
+  Page<PostSummary> findAllRecentByCategoryAndWriter(@Param("category") Category category,
+      @Param("search") String search, Pageable pageable);
 
   /**
    * 임시 저장글 제외 + 등록 시간 최신순 정렬 + 날짜 사이의 게시글
@@ -128,6 +291,27 @@ public interface PostRepository extends JpaRepository<Post, Long> {
   List<Post> findAllTrend(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
 
+  /**
+   * 검색 색인 생성을 위한 임시글 제외 게시글 조회
+   *
+   * @param pageable Pageable
+   */
+  @Query("SELECT new com.keeper.homepage.domain.post.dao.PostSearchDocument("
+      + "p.id, p.category.id, p.isNotice, p.registerTime, p.title, p.content, p.member.profile.realName.realName) "
+      + "FROM Post p "
+      + "WHERE p.isTemp = false")
+  Slice<PostSearchDocument> findAllSearchDocuments(Pageable pageable);
+
+  /**
+   * 이전글, 다음글 색인을 만들기 위한 임시글 제외 게시글의 id, 카테고리, 제목
+   *
+   * @param pageable Pageable
+   */
+  @Query("SELECT new com.keeper.homepage.domain.post.dao.PostNavigationEntry(p.id, p.category.id, p.title) "
+      + "FROM Post p "
+      + "WHERE p.isTemp = false")
+  Slice<PostNavigationEntry> findAllNavigationEntries(Pageable pageable);
+
   @Query("SELECT p FROM Post p "
       + "WHERE p.id > :postId "
       + "AND p.category = :category "
@@ -144,9 +328,42 @@ public interface PostRepository extends JpaRepository<Post, Long> {
       + "LIMIT 1")
   Optional<Post> findPreviousPost(@Param("postId") Long postId, @Param("category") Category category);
 
-  Page<Post> findAllByMemberAndIsTempFalse(Member member, Pageable pageable);
+  /**
+   * 회원의 임시글 제외 게시글 목록
+   *
+   * @param member   회원
+   * @param pageable Pageable
+   */
+  @Query(value = MEMBER_POST_SUMMARY_SELECT
+      + "WHERE p.member = :member "
+      + "AND p.isTemp = false",
+      countQuery = "SELECT COUNT(p) FROM Post p "
+          + "WHERE p.member = :member "
+          + "AND p.isTemp = false")
+  Page<MemberPostSummary> findAllByMemberAndIsTempFalse(@Param("member") Member member, Pageable pageable);
 
-  Page<Post> findAllByMemberAndIsTempTrue(Member member, Pageable pageable);
+  /**
+   * 회원의 임시글 목록
+   *
+   * @param member   회원
+   * @param pageable Pageable
+   */
+  @Query(value = MEMBER_POST_SUMMARY_SELECT
+      + "WHERE p.member = :member "
+      + "AND p.isTemp = true",
+      countQuery = "SELECT COUNT(p) FROM Post p "
+          + "WHERE p.member = :member "
+          + "AND p.isTemp = true")
+  Page<MemberPostSummary> findAllByMemberAndIsTempTrue(@Param("member") Member member, Pageable pageable);
+
+  /**
+   * 검색 색인으로 찾은 게시글 id 목록의 목록 조회용 projection
+   *
+   * @param postIds 게시글 id 목록
+   */
+  @Query(POST_SUMMARY_SELECT
+      + "WHERE p.id IN :postIds")
+  List<PostSummary> findAllSummaryByIdIn(@Param("postIds") Collection<Long> postIds);
 
   @Modifying
   @Query("UPDATE Post p "
@@ -155,4 +372,16 @@ public interface PostRepository extends JpaRepository<Post, Long> {
   void updateVirtualMember(@Param("member") Member member, @Param("virtualMember") Member virtualMember);
 
   void deleteAllByMemberAndIsTempTrue(Member member);
+
+  /**
+   * 게시글들의 조회수를 한 번에 증가
+   *
+   * @param postIds 조회수를 증가시킬 게시글 id 목록
+   * @param count   증가시킬 조회수
+   */
+  @Modifying
+  @Query("UPDATE Post p "
+      + "SET p.visitCount = p.visitCount + :count "
+      + "WHERE p.id IN :postIds")
+  void increaseVisitCount(@Param("postIds") Collection<Long> postIds, @Param("count") int count);
 }
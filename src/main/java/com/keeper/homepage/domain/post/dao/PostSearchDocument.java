@@ -0,0 +1,8 @@
+package com.keeper.homepage.domain.post.dao;
+
+import java.time.LocalDateTime;
+
+public record PostSearchDocument(Long id, Long categoryId, Boolean isNotice, LocalDateTime registerTime,
+                                 String title, String content, String writerName) {
+
+}
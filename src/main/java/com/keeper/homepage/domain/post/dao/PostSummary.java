@@ -0,0 +1,12 @@
+package com.keeper.homepage.domain.post.dao;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 projection. 내용(content) 컬럼은 조회하지 않는다.
+ */
+public record PostSummary(Long id, String title, Long categoryId, Long writerId, String writerName,
+                          String writerThumbnailPath, Integer visitCount, Integer commentCount, Integer likeCount,
+                          Boolean isSecret, String thumbnailPath, LocalDateTime registerTime) {
+
+}
@@ -0,0 +1,18 @@
+package com.keeper.homepage.domain.post.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+@Builder
+public record PostFileUploadRequest(
+    @NotBlank(message = "파일 이름을 입력해주세요.")
+    String fileName,
+
+    @NotNull(message = "파일 크기를 입력해주세요.")
+    @Positive(message = "파일 크기는 양수여야 합니다.")
+    Long fileSize
+) {
+
+}
@@ -16,4 +16,8 @@ public class AdjacentPostResponse {
   public static AdjacentPostResponse from(Post post) {
     return new AdjacentPostResponse(post.getId(), post.getTitle());
   }
+
+  public static AdjacentPostResponse of(Long postId, String title) {
+    return new AdjacentPostResponse(postId, title);
+  }
 }
@@ -3,7 +3,7 @@ package com.keeper.homepage.domain.post.dto.response;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.keeper.homepage.domain.post.entity.Post;
+import com.keeper.homepage.domain.post.dao.MemberPostSummary;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,15 +24,15 @@ public class MemberPostResponse {
   @JsonFormat(pattern = "yyyy-MM-dd")
   private LocalDateTime registerTime;
 
-  public static MemberPostResponse from(Post post) {
+  public static MemberPostResponse from(MemberPostSummary post) {
     return MemberPostResponse.builder()
-        .id(post.getId())
-        .title(post.getTitle())
-        .categoryId(post.getCategory().getId())
-        .categoryName(post.getCategory().getType().getName())
-        .visitCount(post.getVisitCount())
+        .id(post.id())
+        .title(post.title())
+        .categoryId(post.categoryId())
+        .categoryName(post.categoryType().getName())
+        .visitCount(post.visitCount())
         .isSecret(post.isSecret())
-        .registerTime(post.getRegisterTime())
+        .registerTime(post.registerTime())
         .build();
   }
 }
@@ -43,7 +43,8 @@ public class PostDetailResponse {
   private AdjacentPostResponse previousPost;
   private AdjacentPostResponse nextPost;
 
-  public static PostDetailResponse of(Post post, boolean isLike, boolean isDislike, Post previousPost, Post nextPost) {
+  public static PostDetailResponse of(Post post, boolean isLike, boolean isDislike,
+      AdjacentPostResponse previousPost, AdjacentPostResponse nextPost) {
     return PostDetailResponse.builder()
         .categoryId(post.getCategory().getId())
         .categoryName(post.getCategory().getType().toString())
@@ -56,22 +57,22 @@ public class PostDetailResponse {
         .visitCount(post.getVisitCount())
         .thumbnailPath(post.getThumbnailPath())
         .content(post.getContent())
-        .likeCount(post.getPostLikes().size())
-        .dislikeCount(post.getPostDislikes().size())
-        .fileCount(post.getPostHasFiles().size())
+        .likeCount(post.getLikeCount())
+        .dislikeCount(post.getDislikeCount())
+        .fileCount(post.getFileCount())
         .allowComment(post.allowComment())
         .isNotice(post.isNotice())
         .isSecret(post.isSecret())
         .isTemp(post.isTemp())
         .isLike(isLike)
         .isDislike(isDislike)
-        .previousPost(previousPost != null ? AdjacentPostResponse.from(previousPost) : null)
-        .nextPost(nextPost != null ? AdjacentPostResponse.from(nextPost) : null)
+        .previousPost(previousPost)
+        .nextPost(nextPost)
         .build();
   }
 
-  public static PostDetailResponse of(Post post, boolean isLike, boolean isDislike, boolean isRead, Post previousPost,
-      Post nextPost) {
+  public static PostDetailResponse of(Post post, boolean isLike, boolean isDislike, boolean isRead,
+      AdjacentPostResponse previousPost, AdjacentPostResponse nextPost) {
     return PostDetailResponse.builder()
         .categoryId(post.getCategory().getId())
         .categoryName(post.getCategory().getType().toString())
@@ -84,9 +85,9 @@ public class PostDetailResponse {
         .visitCount(post.getVisitCount())
         .thumbnailPath(post.getThumbnailPath())
         .content(post.getContent())
-        .likeCount(post.getPostLikes().size())
-        .dislikeCount(post.getPostDislikes().size())
-        .fileCount(post.getPostHasFiles().size())
+        .likeCount(post.getLikeCount())
+        .dislikeCount(post.getDislikeCount())
+        .fileCount(post.getFileCount())
         .allowComment(post.allowComment())
         .isNotice(post.isNotice())
         .isSecret(post.isSecret())
@@ -94,13 +95,13 @@ public class PostDetailResponse {
         .isLike(isLike)
         .isDislike(isDislike)
         .isRead(isRead)
-        .previousPost(previousPost != null ? AdjacentPostResponse.from(previousPost) : null)
-        .nextPost(nextPost != null ? AdjacentPostResponse.from(nextPost) : null)
+        .previousPost(previousPost)
+        .nextPost(nextPost)
         .build();
   }
 
   public static PostDetailResponse of(Post post, String writerName, boolean isLike, boolean isDislike,
-      Post previousPost, Post nextPost) {
+      AdjacentPostResponse previousPost, AdjacentPostResponse nextPost) {
     return PostDetailResponse.builder()
         .categoryId(post.getCategory().getId())
         .categoryName(post.getCategory().getType().toString())
@@ -113,17 +114,17 @@ public class PostDetailResponse {
         .visitCount(post.getVisitCount())
         .thumbnailPath(post.getThumbnailPath())
         .content(post.getContent())
-        .likeCount(post.getPostLikes().size())
-        .dislikeCount(post.getPostDislikes().size())
-        .fileCount(post.getPostHasFiles().size())
+        .likeCount(post.getLikeCount())
+        .dislikeCount(post.getDislikeCount())
+        .fileCount(post.getFileCount())
         .allowComment(post.allowComment())
         .isNotice(post.isNotice())
         .isSecret(post.isSecret())
         .isTemp(post.isTemp())
         .isLike(isLike)
         .isDislike(isDislike)
-        .previousPost(previousPost != null ? AdjacentPostResponse.from(previousPost) : null)
-        .nextPost(nextPost != null ? AdjacentPostResponse.from(nextPost) : null)
+        .previousPost(previousPost)
+        .nextPost(nextPost)
         .build();
   }
 }
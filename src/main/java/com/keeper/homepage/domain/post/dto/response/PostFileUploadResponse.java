@@ -0,0 +1,39 @@
+package com.keeper.homepage.domain.post.dto.response;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.keeper.homepage.global.util.file.FileUpload;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = PRIVATE)
+public class PostFileUploadResponse {
+
+  private String uploadId;
+  private String fileName;
+  private Long fileSize;
+  private Integer chunkSize;
+  private Integer chunkCount;
+  private List<Integer> receivedChunks;
+
+  @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+  private LocalDateTime expireTime;
+
+  public static PostFileUploadResponse from(FileUpload fileUpload) {
+    return PostFileUploadResponse.builder()
+        .uploadId(fileUpload.uploadId())
+        .fileName(fileUpload.fileName())
+        .fileSize(fileUpload.fileSize())
+        .chunkSize(fileUpload.chunkSize())
+        .chunkCount(fileUpload.chunkCount())
+        .receivedChunks(fileUpload.receivedChunks())
+        .expireTime(fileUpload.expireTime())
+        .build();
+  }
+}
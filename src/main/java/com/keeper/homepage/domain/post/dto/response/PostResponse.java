@@ -1,8 +1,10 @@
 package com.keeper.homepage.domain.post.dto.response;
 
+import static com.keeper.homepage.global.util.thumbnail.ThumbnailUtil.getSrcset;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.keeper.homepage.domain.post.dao.PostSummary;
 import com.keeper.homepage.domain.post.entity.Post;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -19,10 +21,12 @@ public class PostResponse {
   private Long writerId;
   private String writerName;
   private String writerThumbnailPath;
+  private String writerThumbnailSrcset;
   private Integer visitCount;
   private Integer commentCount;
   private Boolean isSecret;
   private String thumbnailPath;
+  private String thumbnailSrcset;
   private Integer likeCount;
 
   @JsonFormat(pattern = "yyyy-MM-dd")
@@ -35,26 +39,65 @@ public class PostResponse {
         .writerId(post.getMember().getId())
         .writerName(post.getWriterRealName())
         .writerThumbnailPath(post.getMember().getThumbnailPath())
+        .writerThumbnailSrcset(getSrcset(post.getMember().getThumbnailPath()))
         .visitCount(post.getVisitCount())
-        .commentCount(post.getComments().size())
+        .commentCount(post.getCommentCount())
         .isSecret(post.isSecret())
         .thumbnailPath(post.getThumbnailPath())
-        .likeCount(post.getPostLikes().size())
+        .thumbnailSrcset(getSrcset(post.getThumbnailPath()))
+        .likeCount(post.getLikeCount())
         .registerTime(post.getRegisterTime())
         .build();
   }
 
+  public static PostResponse from(PostSummary post) {
+    return PostResponse.builder()
+        .id(post.id())
+        .title(post.title())
+        .writerId(post.writerId())
+        .writerName(post.writerName())
+        .writerThumbnailPath(post.writerThumbnailPath())
+        .writerThumbnailSrcset(getSrcset(post.writerThumbnailPath()))
+        .visitCount(post.visitCount())
+        .commentCount(post.commentCount())
+        .isSecret(post.isSecret())
+        .thumbnailPath(post.thumbnailPath())
+        .thumbnailSrcset(getSrcset(post.thumbnailPath()))
+        .likeCount(post.likeCount())
+        .registerTime(post.registerTime())
+        .build();
+  }
+
+  public static PostResponse of(PostSummary post, String writerName) {
+    return PostResponse.builder()
+        .id(post.id())
+        .title(post.title())
+        .writerName(writerName)
+        .writerThumbnailPath(post.writerThumbnailPath())
+        .writerThumbnailSrcset(getSrcset(post.writerThumbnailPath()))
+        .visitCount(post.visitCount())
+        .commentCount(post.commentCount())
+        .isSecret(post.isSecret())
+        .thumbnailPath(post.thumbnailPath())
+        .thumbnailSrcset(getSrcset(post.thumbnailPath()))
+        .likeCount(post.likeCount())
+        .registerTime(post.registerTime())
+        .build();
+  }
+
   public static PostResponse of(Post post, String writerName) {
     return PostResponse.builder()
         .id(post.getId())
         .title(post.getTitle())
         .writerName(writerName)
         .writerThumbnailPath(post.getMember().getThumbnailPath())
+        .writerThumbnailSrcset(getSrcset(post.getMember().getThumbnailPath()))
         .visitCount(post.getVisitCount())
-        .commentCount(post.getComments().size())
+        .commentCount(post.getCommentCount())
         .isSecret(post.isSecret())
         .thumbnailPath(post.getThumbnailPath())
-        .likeCount(post.getPostLikes().size())
+        .thumbnailSrcset(getSrcset(post.getThumbnailPath()))
+        .likeCount(post.getLikeCount())
         .registerTime(post.getRegisterTime())
         .build();
   }
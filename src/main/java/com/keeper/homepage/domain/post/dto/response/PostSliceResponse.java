@@ -0,0 +1,18 @@
+package com.keeper.homepage.domain.post.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PostSliceResponse(
+    List<PostResponse> posts,
+    Boolean hasNext,
+    LocalDateTime nextCursorRegisterTime,
+    Long nextCursorId,
+    Long totalCount
+) {
+
+  public static PostSliceResponse of(List<PostResponse> posts, boolean hasNext, LocalDateTime nextCursorRegisterTime,
+      Long nextCursorId, Long totalCount) {
+    return new PostSliceResponse(posts, hasNext, nextCursorRegisterTime, nextCursorId, totalCount);
+  }
+}
@@ -3,7 +3,7 @@ package com.keeper.homepage.domain.post.dto.response;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.keeper.homepage.domain.post.entity.Post;
+import com.keeper.homepage.domain.post.dao.MemberPostSummary;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,13 +22,13 @@ public class TempPostResponse {
   @JsonFormat(pattern = "yyyy-MM-dd")
   private LocalDateTime registerTime;
 
-  public static TempPostResponse from(Post post) {
+  public static TempPostResponse from(MemberPostSummary post) {
     return TempPostResponse.builder()
-        .id(post.getId())
-        .title(post.getTitle())
-        .categoryId(post.getCategory().getId())
-        .categoryName(post.getCategory().getType().getName())
-        .registerTime(post.getRegisterTime())
+        .id(post.id())
+        .title(post.title())
+        .categoryId(post.categoryId())
+        .categoryName(post.categoryType().getName())
+        .registerTime(post.registerTime())
         .build();
   }
 }
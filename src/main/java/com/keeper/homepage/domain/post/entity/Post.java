@@ -20,6 +20,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -44,7 +45,8 @@ import org.hibernate.annotations.DynamicUpdate;
 @NoArgsConstructor(access = PROTECTED)
 @Entity
 @EqualsAndHashCode(of = {"id"}, callSuper = false)
-@Table(name = "posting")
+@Table(name = "posting",
+    indexes = @Index(name = "idx_posting_board_cursor", columnList = "category_id, is_notice, is_temp, register_time, id"))
 public class Post extends BaseEntity {
 
   private static final int MAX_TITLE_LENGTH = 250;
@@ -94,6 +96,22 @@ public class Post extends BaseEntity {
   @Column(name = "password", length = MAX_PASSWORD_LENGTH)
   private String password;
 
+  /**
+   * 아래 개수 컬럼은 {@link com.keeper.homepage.domain.post.dao.PostRepository} 의 UPDATE 쿼리로만 변경한다. 엔티티에서 값을 바꾸면
+   * dirty checking 으로 다른 트랜잭션의 증감이 덮어써진다.
+   */
+  @Column(name = "like_count", nullable = false)
+  private Integer likeCount;
+
+  @Column(name = "dislike_count", nullable = false)
+  private Integer dislikeCount;
+
+  @Column(name = "comment_count", nullable = false)
+  private Integer commentCount;
+
+  @Column(name = "file_count", nullable = false)
+  private Integer fileCount;
+
   @OneToMany(mappedBy = "post", cascade = REMOVE)
   private final List<Comment> comments = new ArrayList<>();
 
@@ -121,6 +139,10 @@ public class Post extends BaseEntity {
     this.password = password;
     this.category = category;
     this.thumbnail = thumbnail;
+    this.likeCount = 0;
+    this.dislikeCount = 0;
+    this.commentCount = 0;
+    this.fileCount = 0;
   }
 
   public void addFile(FileEntity file) {
@@ -138,10 +160,6 @@ public class Post extends BaseEntity {
     this.thumbnail = thumbnail;
   }
 
-  public void addVisitCount() {
-    this.visitCount++;
-  }
-
   public boolean isCategory(CategoryType category) {
     return this.category.equals(getCategoryBy(category));
   }
@@ -0,0 +1,8 @@
+package com.keeper.homepage.domain.post.event;
+
+/**
+ * 게시글이 생성, 수정(공지 여부, 임시글 여부 변경 포함), 삭제되었을 때 발행된다.
+ */
+public record PostChangedEvent(long postId, long categoryId) {
+
+}
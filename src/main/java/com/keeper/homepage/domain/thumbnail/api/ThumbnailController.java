@@ -0,0 +1,41 @@
+package com.keeper.homepage.domain.thumbnail.api;
+
+import static com.keeper.homepage.global.error.ErrorCode.THUMBNAIL_TYPE_NOT_FOUND;
+
+import com.keeper.homepage.global.error.BusinessException;
+import com.keeper.homepage.global.util.thumbnail.ThumbnailType;
+import com.keeper.homepage.global.util.thumbnail.ThumbnailUtil;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/" + ThumbnailUtil.THUMBNAIL_VARIANT_PATH)
+public class ThumbnailController {
+
+  private static final Duration VARIANT_MAX_AGE = Duration.ofDays(30);
+
+  private final ThumbnailUtil thumbnailUtil;
+
+  @GetMapping("/{width}/{*thumbnailPath}")
+  public ResponseEntity<Resource> getThumbnailVariant(
+      @PathVariable int width,
+      @PathVariable String thumbnailPath
+  ) {
+    ThumbnailType type = ThumbnailType.fromWidth(width)
+        .orElseThrow(() -> new BusinessException(width, "width", THUMBNAIL_TYPE_NOT_FOUND));
+    Resource variant = thumbnailUtil.getVariant(thumbnailPath.substring(1), type);
+    return ResponseEntity.ok()
+        .contentType(MediaType.IMAGE_JPEG)
+        .cacheControl(CacheControl.maxAge(VARIANT_MAX_AGE).cachePublic())
+        .body(variant);
+  }
+}
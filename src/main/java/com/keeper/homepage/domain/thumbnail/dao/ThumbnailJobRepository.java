@@ -0,0 +1,54 @@
+package com.keeper.homepage.domain.thumbnail.dao;
+
+import com.keeper.homepage.domain.thumbnail.entity.ThumbnailJob;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ThumbnailJobRepository extends JpaRepository<ThumbnailJob, Long> {
+
+  @Query("SELECT j.id FROM ThumbnailJob j "
+      + "WHERE j.nextAttemptTime <= :now "
+      + "ORDER BY j.nextAttemptTime")
+  List<Long> findAllDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+  /**
+   * 처리할 때가 된 작업을 가져가면서 다음 시도 시간을 작업 제한 시간 뒤로 미룬다. 여러 서버가 같은 작업을 가져가더라도 한 곳만 성공한다.
+   *
+   * @return 작업을 가져갔으면 1, 이미 다른 곳에서 가져갔거나 없는 작업이면 0
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE ThumbnailJob j "
+      + "SET j.attemptCount = j.attemptCount + 1, j.nextAttemptTime = :leaseEndTime "
+      + "WHERE j.id = :id "
+      + "AND j.nextAttemptTime <= :now")
+  int claim(@Param("id") long id, @Param("now") LocalDateTime now,
+      @Param("leaseEndTime") LocalDateTime leaseEndTime);
+
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE ThumbnailJob j "
+      + "SET j.nextAttemptTime = :nextAttemptTime "
+      + "WHERE j.id = :id")
+  int retryAt(@Param("id") long id, @Param("nextAttemptTime") LocalDateTime nextAttemptTime);
+
+  @Query("SELECT new com.keeper.homepage.domain.thumbnail.dao.ThumbnailJobSource("
+      + "j.id, t.id, f.filePath, j.type, j.attemptCount) "
+      + "FROM ThumbnailJob j "
+      + "JOIN j.thumbnail t "
+      + "JOIN t.fileEntity f "
+      + "WHERE j.id = :id")
+  Optional<ThumbnailJobSource> findSourceById(@Param("id") long id);
+
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM ThumbnailJob j WHERE j.id = :id")
+  int deleteByJobId(@Param("id") long id);
+
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM ThumbnailJob j WHERE j.thumbnail.id = :thumbnailId")
+  int deleteByThumbnailId(@Param("thumbnailId") long thumbnailId);
+}
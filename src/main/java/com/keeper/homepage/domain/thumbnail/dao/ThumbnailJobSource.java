@@ -0,0 +1,13 @@
+package com.keeper.homepage.domain.thumbnail.dao;
+
+import com.keeper.homepage.global.util.thumbnail.ThumbnailType;
+
+/**
+ * 썸네일 생성 작업에 필요한 정보
+ *
+ * @param filePath 원본 이미지 파일 경로
+ */
+public record ThumbnailJobSource(Long jobId, Long thumbnailId, String filePath, ThumbnailType type,
+                                 int attemptCount) {
+
+}
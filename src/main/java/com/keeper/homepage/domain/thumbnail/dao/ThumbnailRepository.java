@@ -1,10 +1,24 @@
 package com.keeper.homepage.domain.thumbnail.dao;
 
 import com.keeper.homepage.domain.thumbnail.entity.Thumbnail;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ThumbnailRepository extends JpaRepository<Thumbnail, Long> {
 
-  Optional<Thumbnail> findByPath(String path);
+  @Query("SELECT t.path FROM Thumbnail t WHERE t.path IN :paths")
+  List<String> findAllPathByPathIn(@Param("paths") Collection<String> paths);
+
+  /**
+   * 썸네일 경로로 원본 이미지 파일 경로를 조회한다. 대기 중 이미지 경로는 생성 중인 썸네일이 모두 함께 쓰므로 넘기면 안 된다.
+   */
+  @Query("SELECT new com.keeper.homepage.domain.thumbnail.dao.ThumbnailSource(t.id, f.filePath) "
+      + "FROM Thumbnail t "
+      + "JOIN t.fileEntity f "
+      + "WHERE t.path = :path")
+  Optional<ThumbnailSource> findSourceByPath(@Param("path") String path);
 }
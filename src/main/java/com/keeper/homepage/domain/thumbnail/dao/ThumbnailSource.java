@@ -0,0 +1,8 @@
+package com.keeper.homepage.domain.thumbnail.dao;
+
+/**
+ * @param filePath 썸네일의 원본 이미지 파일 경로
+ */
+public record ThumbnailSource(Long thumbnailId, String filePath) {
+
+}
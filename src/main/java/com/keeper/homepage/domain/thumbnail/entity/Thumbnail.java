@@ -3,6 +3,8 @@ package com.keeper.homepage.domain.thumbnail.entity;
 import com.keeper.homepage.domain.file.entity.FileEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -22,6 +24,7 @@ import lombok.NoArgsConstructor;
 public class Thumbnail {
 
   public static final int MAX_PATH_LENGTH = 512;
+  private static final int MAX_STATUS_LENGTH = 20;
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,10 +38,15 @@ public class Thumbnail {
   @JoinColumn(name = "file_id", nullable = false)
   private FileEntity fileEntity;
 
+  @Enumerated(value = EnumType.STRING)
+  @Column(name = "status", nullable = false, length = MAX_STATUS_LENGTH)
+  private ThumbnailStatus status;
+
   @Builder
-  private Thumbnail(String path, FileEntity fileEntity) {
+  private Thumbnail(String path, FileEntity fileEntity, ThumbnailStatus status) {
     this.path = path;
     this.fileEntity = fileEntity;
+    this.status = status == null ? ThumbnailStatus.READY : status;
   }
 
   public Long getId() {
@@ -52,4 +60,30 @@ public class Thumbnail {
   public FileEntity getFileEntity() {
     return fileEntity;
   }
+
+  public ThumbnailStatus getStatus() {
+    return status;
+  }
+
+  public boolean isReady() {
+    return status == ThumbnailStatus.READY;
+  }
+
+  /**
+   * @param path 생성이 끝난 썸네일 경로. 그 전까지는 대기 중 이미지 경로를 가지고 있다.
+   */
+  public void ready(String path) {
+    this.path = path;
+    this.status = ThumbnailStatus.READY;
+  }
+
+  public void fail() {
+    this.status = ThumbnailStatus.FAILED;
+  }
+
+  public enum ThumbnailStatus {
+    PENDING,
+    READY,
+    FAILED,
+  }
 }
@@ -0,0 +1,64 @@
+package com.keeper.homepage.domain.thumbnail.entity;
+
+import com.keeper.homepage.global.util.thumbnail.ThumbnailType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아직 만들어지지 않은 썸네일의 생성 작업. 작업이 끝나면 삭제된다.
+ * <p>
+ * 작업을 가져간 서버는 {@code nextAttemptTime} 을 작업 제한 시간만큼 미뤄두므로, 처리 도중 서버가 죽더라도 제한 시간이 지나면 다시 처리된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "id")
+@Table(name = "thumbnail_job",
+    indexes = @Index(name = "idx_thumbnail_job_next_attempt_time", columnList = "next_attempt_time"))
+public class ThumbnailJob {
+
+  private static final int MAX_TYPE_LENGTH = 20;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id", nullable = false, updatable = false)
+  private Long id;
+
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "thumbnail_id", nullable = false, unique = true)
+  private Thumbnail thumbnail;
+
+  @Enumerated(value = EnumType.STRING)
+  @Column(name = "type", nullable = false, length = MAX_TYPE_LENGTH)
+  private ThumbnailType type;
+
+  @Column(name = "attempt_count", nullable = false)
+  private Integer attemptCount;
+
+  @Column(name = "next_attempt_time", nullable = false)
+  private LocalDateTime nextAttemptTime;
+
+  @Builder
+  private ThumbnailJob(Thumbnail thumbnail, ThumbnailType type, LocalDateTime nextAttemptTime) {
+    this.thumbnail = thumbnail;
+    this.type = type;
+    this.attemptCount = 0;
+    this.nextAttemptTime = nextAttemptTime;
+  }
+}
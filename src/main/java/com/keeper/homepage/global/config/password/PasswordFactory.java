@@ -8,13 +8,28 @@ import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.KeySpec;
 import java.util.Base64;
+import java.util.regex.Pattern;
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+/**
+ * 저장된 해시의 prefix 로 알고리즘을 판별해서 해당 알고리즘으로만 비교한다.
+ * <ul>
+ *   <li>{@code {id}...}: Spring Security 의 {@link org.springframework.security.crypto.password.DelegatingPasswordEncoder}</li>
+ *   <li>{@code pbkdf2_sha256:...}: 이전 홈페이지의 PBKDF2-SHA256</li>
+ *   <li>32자리 16진수: 이전 홈페이지의 MD5</li>
+ * </ul>
+ * 이전 홈페이지의 해시는 {@link PasswordEncoder#upgradeEncoding(String)} 이 true 를 돌려주므로 로그인에 성공했을 때 다시 해시한다.
+ */
 public class PasswordFactory {
 
+  private static final String PBKDF2_SHA256_PREFIX = "pbkdf2_sha256:";
+  private static final Pattern MD5_FORMAT = Pattern.compile("^[0-9a-f]{32}$");
+
+  private static final PasswordEncoder delegatingPasswordEncoder = createDelegatingPasswordEncoder();
+
   public static PasswordEncoder getPasswordEncoder() {
     return passwordEncoder;
   }
@@ -22,25 +37,58 @@ public class PasswordFactory {
   private static final PasswordEncoder passwordEncoder = new PasswordEncoder() {
     @Override
     public String encode(CharSequence rawPassword) {
-      return createDelegatingPasswordEncoder().encode(rawPassword);
+      return delegatingPasswordEncoder.encode(rawPassword);
     }
 
     @Override
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
-      return isMatchInDelegatingPasswordEncoder(rawPassword, encodedPassword)
-          || matchesWithPBKDF2SHA256(rawPassword.toString(), encodedPassword)
-          || matchesWithMD5(rawPassword.toString(), encodedPassword);
+      return switch (HashType.of(encodedPassword)) {
+        case DELEGATING -> isMatchInDelegatingPasswordEncoder(rawPassword, encodedPassword);
+        case PBKDF2_SHA256 -> matchesWithPBKDF2SHA256(rawPassword.toString(), encodedPassword);
+        case MD5 -> matchesWithMD5(rawPassword.toString(), encodedPassword);
+        case UNKNOWN -> false;
+      };
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+      return switch (HashType.of(encodedPassword)) {
+        case DELEGATING -> delegatingPasswordEncoder.upgradeEncoding(encodedPassword);
+        case PBKDF2_SHA256, MD5 -> true;
+        case UNKNOWN -> false;
+      };
     }
 
     private boolean isMatchInDelegatingPasswordEncoder(CharSequence rawPassword, String encodedPassword) {
       try {
-        return createDelegatingPasswordEncoder().matches(rawPassword, encodedPassword);
-      } catch (Exception ignore) {
+        return delegatingPasswordEncoder.matches(rawPassword, encodedPassword);
+      } catch (IllegalArgumentException ignore) {
+        // 등록되지 않은 {id} 인 경우
+        return false;
       }
-      return false;
     }
   };
 
+  private enum HashType {
+    DELEGATING, PBKDF2_SHA256, MD5, UNKNOWN;
+
+    static HashType of(String encodedPassword) {
+      if (encodedPassword == null) {
+        return UNKNOWN;
+      }
+      if (encodedPassword.startsWith("{")) {
+        return DELEGATING;
+      }
+      if (encodedPassword.startsWith(PBKDF2_SHA256_PREFIX)) {
+        return PBKDF2_SHA256;
+      }
+      if (MD5_FORMAT.matcher(encodedPassword).matches()) {
+        return MD5;
+      }
+      return UNKNOWN;
+    }
+  }
+
   private static boolean matchesWithPBKDF2SHA256(String password, String hashedPassword) {
     try {
       String[] parts = hashedPassword.split(":");
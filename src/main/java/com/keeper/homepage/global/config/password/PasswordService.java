@@ -0,0 +1,67 @@
+package com.keeper.homepage.global.config.password;
+
+import static com.keeper.homepage.global.error.ErrorCode.PASSWORD_HASHING_BUSY;
+
+import com.keeper.homepage.domain.member.entity.embedded.Password;
+import com.keeper.homepage.global.error.BusinessException;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비밀번호 해시 계산을 정해진 수의 스레드에서만 수행한다.
+ * <p>
+ * 로그인 요청이 몰려도 해시 계산이 CPU 를 모두 차지하지 않도록 동시에 계산하는 수를 코어 수로 제한하고, 대기열까지 가득 차면 기다리지 않고 바로
+ * 거절한다.
+ */
+@Service
+public class PasswordService {
+
+  private static final int HASHING_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+  private static final int HASHING_QUEUE_CAPACITY = 64;
+
+  private final ThreadPoolExecutor hashingExecutor = new ThreadPoolExecutor(HASHING_THREAD_COUNT,
+      HASHING_THREAD_COUNT, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(HASHING_QUEUE_CAPACITY),
+      new CustomizableThreadFactory("password-hashing-"), new ThreadPoolExecutor.AbortPolicy());
+
+  public boolean isWrongPassword(Password password, String rawPassword) {
+    return submit(() -> password.isWrongPassword(rawPassword));
+  }
+
+  public Password encode(String rawPassword) {
+    return submit(() -> Password.from(rawPassword));
+  }
+
+  private <T> T submit(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = hashingExecutor.submit(task);
+    } catch (RejectedExecutionException e) {
+      throw new BusinessException(hashingExecutor.getQueue().size(), "hashingQueue", PASSWORD_HASHING_BUSY);
+    }
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("비밀번호 해시 계산 도중 인터럽트가 발생하였습니다.", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("비밀번호 해시 계산 도중 오류가 발생하였습니다.", e.getCause());
+    }
+  }
+
+  @PreDestroy
+  void shutdownHashingExecutor() {
+    hashingExecutor.shutdown();
+  }
+}
@@ -9,12 +9,14 @@ import static com.keeper.homepage.global.config.security.data.JwtValidationType.
 import static com.keeper.homepage.global.config.security.data.JwtValidationType.WRONG_SIGNATURE;
 
 import com.keeper.homepage.domain.member.entity.job.MemberJob.MemberJobType;
+import com.keeper.homepage.global.config.security.data.JwtPayload;
 import com.keeper.homepage.global.config.security.data.JwtType;
 import com.keeper.homepage.global.config.security.data.JwtUserDetails;
 import com.keeper.homepage.global.config.security.data.TokenValidationResultDto;
 import com.keeper.homepage.global.config.security.exception.EmptyJwtException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -23,11 +25,17 @@ import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -35,13 +43,26 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+/**
+ * 같은 토큰이 만료될 때까지 요청마다 반복해서 오므로, 한 번 검증한 토큰은 토큰의 SHA-256 해시를 키로 잠시 기억해 다시 파싱하지 않는다. 캐시는 토큰의 만료
+ * 시간을 넘겨 유지되지 않으므로 만료된 토큰은 항상 다시 파싱되어 {@link ExpiredJwtException} 이 발생한다.
+ */
 @Component
 public class JwtTokenProvider {
 
   private static final String ROLES = "roles";
   private static final String SEPARATOR = ",";
+  private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+  private static final long VERIFIED_TOKEN_CACHE_TTL_MILLIS = 60 * 1000L;
 
   final Key secretKey;
+  private final JwtParser jwtParser;
+  private final LinkedHashMap<String, VerifiedToken> verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+      return size() > VERIFIED_TOKEN_CACHE_SIZE;
+    }
+  };
 
   public static String getRefreshTokenKeyForRedis(String authId, String userAgent) {
     String encodedUserAgent = Base64.getEncoder().encodeToString((userAgent == null ? "" : userAgent).getBytes());
@@ -50,6 +71,9 @@ public class JwtTokenProvider {
 
   public JwtTokenProvider(@Value("${spring.jwt.secret}") String secretKey) {
     this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+    this.jwtParser = Jwts.parserBuilder()
+        .setSigningKey(this.secretKey)
+        .build();
   }
 
   public String createAccessToken(JwtType jwtType, Long userPk, MemberJobType... roles) {
@@ -71,9 +95,11 @@ public class JwtTokenProvider {
   }
 
   public Authentication getAuthentication(String token) {
-    Claims claims = getClaim(token);
-    List<String> roles = getRolesBy(claims);
-    UserDetails userDetails = new JwtUserDetails(claims.getSubject(), roles);
+    return getAuthentication(verify(token));
+  }
+
+  public Authentication getAuthentication(JwtPayload payload) {
+    UserDetails userDetails = new JwtUserDetails(payload.subject(), payload.roles());
     return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
   }
 
@@ -87,24 +113,45 @@ public class JwtTokenProvider {
     claims.put(ROLES, String.join(SEPARATOR, roles));
   }
 
-  private Claims getClaim(String token) {
-    return Jwts
-        .parserBuilder()
-        .setSigningKey(secretKey)
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
+  /**
+   * @throws io.jsonwebtoken.JwtException 토큰이 올바르지 않거나 만료되었을 경우 발생합니다.
+   */
+  public JwtPayload verify(String token) {
+    String tokenDigest = digest(token);
+    long now = System.currentTimeMillis();
+    synchronized (verifiedTokens) {
+      VerifiedToken verifiedToken = verifiedTokens.get(tokenDigest);
+      if (verifiedToken != null && verifiedToken.cachedUntilMillis() > now) {
+        return verifiedToken.payload();
+      }
+    }
+    Claims claims = jwtParser.parseClaimsJws(token).getBody();
+    long expirationMillis = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+    JwtPayload payload = new JwtPayload(claims.getSubject(), getRolesBy(claims), expirationMillis);
+    long cachedUntilMillis = Math.min(now + VERIFIED_TOKEN_CACHE_TTL_MILLIS, expirationMillis);
+    synchronized (verifiedTokens) {
+      verifiedTokens.put(tokenDigest, new VerifiedToken(payload, cachedUntilMillis));
+    }
+    return payload;
+  }
+
+  private static String digest(String token) {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
   }
 
   public long getAuthId(String token) {
-    return Long.parseLong(getClaim(token).getSubject());
+    return verify(token).getAuthId();
   }
 
   public TokenValidationResultDto tryCheckTokenValid(HttpServletRequest req, JwtType jwtType) {
     try {
       String token = resolveToken(req, jwtType);
-      getAuthId(token);
-      return TokenValidationResultDto.of(true, VALID, token);
+      return TokenValidationResultDto.of(true, VALID, token, verify(token));
     } catch (MalformedJwtException e) {
       return TokenValidationResultDto.of(false, MALFORMED);
     } catch (ExpiredJwtException e) {
@@ -131,8 +178,10 @@ public class JwtTokenProvider {
   }
 
   public String[] getRoles(String token) {
-    Claims claims = getClaim(token);
-    List<String> roles = getRolesBy(claims);
-    return roles.toArray(String[]::new);
+    return verify(token).getRoles();
+  }
+
+  private record VerifiedToken(JwtPayload payload, long cachedUntilMillis) {
+
   }
 }
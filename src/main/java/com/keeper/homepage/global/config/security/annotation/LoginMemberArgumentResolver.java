@@ -1,8 +1,8 @@
 package com.keeper.homepage.global.config.security.annotation;
 
+import com.keeper.homepage.domain.member.application.convenience.MemberPrincipalService;
 import com.keeper.homepage.domain.member.dao.MemberRepository;
-import com.keeper.homepage.global.error.BusinessException;
-import com.keeper.homepage.global.error.ErrorCode;
+import com.keeper.homepage.global.config.security.data.MemberPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
@@ -13,10 +13,15 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+/**
+ * {@link MemberPrincipal} 파라미터에는 캐싱된 스냅샷을, {@link com.keeper.homepage.domain.member.entity.Member} 파라미터에는
+ * 처음 사용할 때 조회되는 프록시를 넘긴다.
+ */
 @Component
 @RequiredArgsConstructor
 public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolver {
 
+  private final MemberPrincipalService memberPrincipalService;
   private final MemberRepository memberRepository;
 
   @Override
@@ -29,7 +34,10 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
       NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     long loginMemberId = Long.parseLong(authentication.getName());
-    return memberRepository.findById(loginMemberId)
-        .orElseThrow(() -> new BusinessException(loginMemberId, "JWT", ErrorCode.MEMBER_NOT_FOUND));
+    MemberPrincipal principal = memberPrincipalService.getPrincipal(loginMemberId);
+    if (parameter.getParameterType() == MemberPrincipal.class) {
+      return principal;
+    }
+    return memberRepository.getReferenceById(principal.id());
   }
 }
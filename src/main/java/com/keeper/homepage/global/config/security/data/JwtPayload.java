@@ -0,0 +1,20 @@
+package com.keeper.homepage.global.config.security.data;
+
+import java.util.List;
+
+/**
+ * 서명 검증을 마친 토큰의 내용. 한 요청 안에서는 토큰을 다시 파싱하지 않고 이 값을 사용한다.
+ *
+ * @param subject          회원 ID
+ * @param expirationMillis 만료 시간 (epoch millis). 만료 시간이 없는 토큰은 {@link Long#MAX_VALUE}
+ */
+public record JwtPayload(String subject, List<String> roles, long expirationMillis) {
+
+  public long getAuthId() {
+    return Long.parseLong(subject);
+  }
+
+  public String[] getRoles() {
+    return roles.toArray(String[]::new);
+  }
+}
@@ -0,0 +1,31 @@
+package com.keeper.homepage.global.config.security.data;
+
+import com.keeper.homepage.domain.member.entity.Member;
+import com.keeper.homepage.domain.member.entity.type.MemberType;
+import com.keeper.homepage.domain.member.entity.type.MemberType.MemberTypeEnum;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 로그인 회원의 식별 정보 스냅샷. 회원 ID 만 필요한 요청은 {@link Member} 엔티티 대신 이 값을 사용한다.
+ *
+ * @param generation {@link Member#getGeneration()} 과 같은 형식의 기수
+ * @param roles      {@link Member#getJobs()} 와 같은 형식의 직책
+ */
+public record MemberPrincipal(long id, String realName, String generation, int point, MemberTypeEnum type,
+                              List<String> roles, String thumbnailPath) {
+
+  public static MemberPrincipal from(Member member) {
+    return new MemberPrincipal(
+        member.getId(),
+        member.getRealName(),
+        member.getGeneration(),
+        member.getPoint(),
+        Optional.ofNullable(member.getMemberType())
+            .map(MemberType::getType)
+            .orElse(null),
+        List.copyOf(member.getJobs()),
+        member.getThumbnailPath()
+    );
+  }
+}
@@ -8,19 +8,22 @@ public class TokenValidationResultDto {
   private final boolean isValid;
   private final JwtValidationType resultType;
   private final String token;
+  private final JwtPayload payload;
 
-  private TokenValidationResultDto(boolean isValid, JwtValidationType resultType, String token) {
+  private TokenValidationResultDto(boolean isValid, JwtValidationType resultType, String token,
+      JwtPayload payload) {
     this.isValid = isValid;
     this.resultType = resultType;
     this.token = token;
+    this.payload = payload;
   }
 
   public static TokenValidationResultDto of(boolean isValid, JwtValidationType tokenType,
-      String token) {
-    return new TokenValidationResultDto(isValid, tokenType, token);
+      String token, JwtPayload payload) {
+    return new TokenValidationResultDto(isValid, tokenType, token, payload);
   }
 
   public static TokenValidationResultDto of(boolean isValid, JwtValidationType tokenType) {
-    return new TokenValidationResultDto(isValid, tokenType, null);
+    return new TokenValidationResultDto(isValid, tokenType, null, null);
   }
 }
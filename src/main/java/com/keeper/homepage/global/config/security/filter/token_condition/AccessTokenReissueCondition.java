@@ -3,14 +3,11 @@ package com.keeper.homepage.global.config.security.filter.token_condition;
 import com.keeper.homepage.domain.auth.application.AuthCookieService;
 import com.keeper.homepage.global.config.security.JwtTokenProvider;
 import com.keeper.homepage.global.config.security.data.TokenValidationResultDto;
-import com.keeper.homepage.global.util.redis.RedisUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 import static org.springframework.http.HttpHeaders.USER_AGENT;
 
 @Component
@@ -19,7 +16,6 @@ public class AccessTokenReissueCondition implements JwtTokenCondition {
 
     private final AuthCookieService authCookieService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisUtil redisUtil;
 
     @Override
     public boolean isSatisfiedBy(TokenValidationResultDto accessTokenDto,
@@ -27,23 +23,21 @@ public class AccessTokenReissueCondition implements JwtTokenCondition {
                                  HttpServletRequest httpRequest) {
         return isTokenExpired(accessTokenDto) &&
                 isTokenValid(refreshTokenDto) &&
-                isTokenInRedis(refreshTokenDto, httpRequest.getHeader(USER_AGENT));
+                !authCookieService.isRevoked(refreshTokenDto.getToken());
     }
 
     @Override
     public void setJwtToken(TokenValidationResultDto accessTokenDto, TokenValidationResultDto refreshTokenDto,
                             HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        String authId = refreshTokenDto.getPayload().subject();
+        String[] roles = refreshTokenDto.getPayload().getRoles();
+        // 저장된 토큰과 비교하고 교체하는 것을 한 번에 처리해야 동시에 재발급을 요청한 탭끼리 토큰을 덮어쓰지 않는다.
+        boolean reissued = authCookieService.reissueCookieInResponse(authId, roles, httpRequest.getHeader(USER_AGENT),
+                refreshTokenDto.getToken(), httpResponse);
+        if (!reissued) {
+            authCookieService.setCookieExpired(httpResponse);
+            return;
+        }
         setAuthentication(jwtTokenProvider, refreshTokenDto);
-
-        String authId = String.valueOf(jwtTokenProvider.getAuthId(refreshTokenDto.getToken()));
-        String[] roles = jwtTokenProvider.getRoles(refreshTokenDto.getToken());
-        authCookieService.setNewCookieInResponse(authId, roles, httpRequest.getHeader(USER_AGENT), httpResponse);
-    }
-
-    private boolean isTokenInRedis(TokenValidationResultDto refreshTokenDto, String userAgent) {
-        long authId = jwtTokenProvider.getAuthId(refreshTokenDto.getToken());
-        String refreshTokenKey = JwtTokenProvider.getRefreshTokenKeyForRedis(String.valueOf(authId), userAgent);
-        Optional<String> tokenInRedis = redisUtil.getData(refreshTokenKey, String.class);
-        return tokenInRedis.isPresent() && tokenInRedis.get().equals(refreshTokenDto.getToken());
     }
 }
@@ -21,7 +21,7 @@ public interface JwtTokenCondition {
     default void setAuthentication(JwtTokenProvider jwtTokenProvider,
                                    TokenValidationResultDto jwtTokenDto) {
         SecurityContextHolder.getContext()
-                .setAuthentication(jwtTokenProvider.getAuthentication(jwtTokenDto.getToken()));
+                .setAuthentication(jwtTokenProvider.getAuthentication(jwtTokenDto.getPayload()));
     }
 
     default boolean isTokenValid(TokenValidationResultDto jwtTokenDto) {
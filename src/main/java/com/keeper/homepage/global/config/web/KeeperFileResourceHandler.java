@@ -0,0 +1,224 @@
+package com.keeper.homepage.global.config.web;
+
+import static com.keeper.homepage.global.util.file.server.FileServerConstants.RESOURCE_PATH;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+/**
+ * {@code /keeper_files/**} 정적 파일 핸들러.
+ * <p>
+ * 업로드 파일과 썸네일은 내용이 바뀌면 경로도 바뀌므로 immutable 로 오래 캐시하도록 응답한다. 파일 메타데이터(크기, 수정 시간, 미리 압축된
+ * {@code .br}, {@code .gz} 파일 여부)는 잠시 메모리에 보관해서 조건부 요청마다 파일 시스템을 조회하지 않는다. 다만 보관 중에 파일이
+ * 삭제되거나 격리될 수 있으므로 캐시된 메타데이터를 쓸 때도 파일이 아직 있는지는 확인하고, 없으면 캐시에서 지우고 404 로 응답한다.
+ */
+public class KeeperFileResourceHandler extends ResourceHttpRequestHandler {
+
+  private static final long MAX_AGE_DAYS = 365;
+  // 사용 중인 스프링 버전의 CacheControl 에는 immutable 지시어가 없어서 직접 붙인다.
+  private static final String CACHE_CONTROL = CacheControl.maxAge(MAX_AGE_DAYS, TimeUnit.DAYS)
+      .cachePublic()
+      .getHeaderValue() + ", immutable";
+  private static final int MAX_CACHED_METADATA = 10_000;
+  private static final long METADATA_TTL_MILLIS = Duration.ofMinutes(1).toMillis();
+  private static final List<String> PRECOMPRESSED_ENCODINGS = List.of("br", "gzip");
+  private static final Map<String, String> ENCODING_EXTENSIONS = Map.of("br", ".br", "gzip", ".gz");
+
+  private final Path rootPath = Paths.get(RESOURCE_PATH).toAbsolutePath().normalize();
+
+  private final Map<String, FileMetadata> metadataCache = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, FileMetadata> eldest) {
+      return size() > MAX_CACHED_METADATA;
+    }
+  };
+
+  public KeeperFileResourceHandler() {
+    setLocations(List.of(new FileSystemResource(RESOURCE_PATH)));
+    // If-None-Match 를 If-Modified-Since 보다 먼저 확인해야 하므로 직접 처리한다.
+    setUseLastModified(false);
+  }
+
+  @Override
+  public void handleRequest(HttpServletRequest request, HttpServletResponse response)
+      throws ServletException, IOException {
+    FileMetadata metadata = getMetadata(request);
+    if (metadata == null) {
+      super.handleRequest(request, response);
+      return;
+    }
+    response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+    if (new ServletWebRequest(request, response).checkNotModified(metadata.eTag(), metadata.lastModified())) {
+      return;
+    }
+    try {
+      super.handleRequest(request, response);
+    } catch (NoSuchFileException e) {
+      // 확인한 직후 파일이 지워진 경우
+      evictMetadata(metadata.key());
+      if (response.isCommitted()) {
+        throw e;
+      }
+      response.reset();
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+    }
+  }
+
+  @Override
+  @Nullable
+  protected Resource getResource(HttpServletRequest request) {
+    FileMetadata metadata = getMetadata(request);
+    if (metadata == null) {
+      return null;
+    }
+    Resource resource = createResource(metadata, request);
+    if (resource.isReadable()) {
+      return resource;
+    }
+    // 미리 압축된 파일만 지워졌을 수 있으므로 메타데이터를 다시 읽는다.
+    evictMetadata(metadata.key());
+    metadata = getMetadata(request);
+    if (metadata == null) {
+      return null;
+    }
+    resource = createResource(metadata, request);
+    return resource.isReadable() ? resource : null;
+  }
+
+  private static Resource createResource(FileMetadata metadata, HttpServletRequest request) {
+    String encoding = metadata.selectEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    return new KeeperFileResource(metadata.path(), encoding, !metadata.encodings().isEmpty());
+  }
+
+  @Nullable
+  private FileMetadata getMetadata(HttpServletRequest request) {
+    String path = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+    if (path == null) {
+      return null;
+    }
+    path = processPath(path);
+    if (path.isEmpty() || isInvalidPath(path)) {
+      return null;
+    }
+    long now = System.currentTimeMillis();
+    FileMetadata cached;
+    synchronized (metadataCache) {
+      cached = metadataCache.get(path);
+    }
+    if (cached != null && cached.expireTime() > now && Files.isRegularFile(cached.path())) {
+      return cached;
+    }
+    FileMetadata metadata = loadMetadata(path, now + METADATA_TTL_MILLIS);
+    synchronized (metadataCache) {
+      if (metadata == null) {
+        metadataCache.remove(path);
+      } else {
+        metadataCache.put(path, metadata);
+      }
+    }
+    return metadata;
+  }
+
+  private void evictMetadata(String path) {
+    synchronized (metadataCache) {
+      metadataCache.remove(path);
+    }
+  }
+
+  @Nullable
+  private FileMetadata loadMetadata(String path, long expireTime) {
+    Path file = rootPath.resolve(path).normalize();
+    if (!file.startsWith(rootPath)) {
+      return null;
+    }
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      if (!attributes.isRegularFile()) {
+        return null;
+      }
+      long lastModified = attributes.lastModifiedTime().toMillis();
+      String eTag = "\"%x-%x\"".formatted(attributes.size(), lastModified);
+      List<String> encodings = PRECOMPRESSED_ENCODINGS.stream()
+          .filter(encoding -> Files.isRegularFile(encodedPath(file, encoding)))
+          .toList();
+      return new FileMetadata(path, file, lastModified, eTag, encodings, expireTime);
+    } catch (IOException | SecurityException e) {
+      return null;
+    }
+  }
+
+  private static Path encodedPath(Path file, String encoding) {
+    return file.resolveSibling(file.getFileName() + ENCODING_EXTENSIONS.get(encoding));
+  }
+
+  private record FileMetadata(String key, Path path, long lastModified, String eTag,
+                              List<String> encodings, long expireTime) {
+
+    @Nullable
+    String selectEncoding(@Nullable String acceptEncoding) {
+      if (acceptEncoding == null || encodings.isEmpty()) {
+        return null;
+      }
+      String accepted = acceptEncoding.toLowerCase();
+      return encodings.stream()
+          .filter(accepted::contains)
+          .findFirst()
+          .orElse(null);
+    }
+  }
+
+  /**
+   * 미리 압축된 파일을 응답할 때도 Content-Type 은 원본 파일 이름으로 정해지도록 원본 파일 이름을 돌려준다.
+   */
+  private static class KeeperFileResource extends FileSystemResource implements HttpResource {
+
+    private final String filename;
+    private final String encoding;
+    private final boolean hasEncodings;
+
+    KeeperFileResource(Path path, @Nullable String encoding, boolean hasEncodings) {
+      super(encoding == null ? path : encodedPath(path, encoding));
+      this.filename = path.getFileName().toString();
+      this.encoding = encoding;
+      this.hasEncodings = hasEncodings;
+    }
+
+    @Override
+    public String getFilename() {
+      return filename;
+    }
+
+    @Override
+    public HttpHeaders getResponseHeaders() {
+      HttpHeaders headers = new HttpHeaders();
+      if (encoding != null) {
+        headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+      }
+      if (hasEncodings) {
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+      }
+      return headers;
+    }
+  }
+}
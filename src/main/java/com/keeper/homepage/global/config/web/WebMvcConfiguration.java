@@ -1,7 +1,5 @@
 package com.keeper.homepage.global.config.web;
 
-import static com.keeper.homepage.global.util.file.server.FileServerConstants.RESOURCE_PATH;
-
 import com.keeper.homepage.domain.library.converter.BookDepartmentTypeConverter;
 import com.keeper.homepage.domain.library.converter.BookSearchTypeConverter;
 import com.keeper.homepage.domain.library.converter.BorrowLogTypeConverter;
@@ -9,14 +7,17 @@ import com.keeper.homepage.domain.library.converter.BorrowStatusDtoConverter;
 import com.keeper.homepage.global.config.interceptor.AttendanceInterceptor;
 import com.keeper.homepage.global.config.security.annotation.LoginMemberArgumentResolver;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 
 @Configuration
 @RequiredArgsConstructor
@@ -25,6 +26,7 @@ public class WebMvcConfiguration implements WebMvcConfigurer {
   private final LoginMemberArgumentResolver loginMemberArgumentResolver;
   private final AttendanceInterceptor attendanceInterceptor;
 
+  private static final String KEEPER_FILE_PATH = "/keeper_files/**";
   private static final String[] ATTENDANCE_PATH = {"/posts/trend", "/members/point-rank", "/attendances/point"};
 
   @Override
@@ -32,11 +34,18 @@ public class WebMvcConfiguration implements WebMvcConfigurer {
     resolvers.add(loginMemberArgumentResolver);
   }
 
-  @Override
-  public void addResourceHandlers(ResourceHandlerRegistry registry) {
-    registry.addResourceHandler("/keeper_files/**")
-        .addResourceLocations("file:" + RESOURCE_PATH)
-        .setCachePeriod(3600);
+  @Bean
+  public KeeperFileResourceHandler keeperFileResourceHandler() {
+    return new KeeperFileResourceHandler();
+  }
+
+  @Bean
+  public SimpleUrlHandlerMapping keeperFileHandlerMapping(KeeperFileResourceHandler keeperFileResourceHandler) {
+    SimpleUrlHandlerMapping handlerMapping = new SimpleUrlHandlerMapping(
+        Map.of(KEEPER_FILE_PATH, keeperFileResourceHandler));
+    // 기본 정적 리소스 핸들러(/**) 보다 먼저 확인한다.
+    handlerMapping.setOrder(Ordered.LOWEST_PRECEDENCE - 2);
+    return handlerMapping;
   }
 
   @Override
@@ -13,6 +13,8 @@ public enum ErrorCode {
   TOKEN_NOT_AVAILABLE("유효하지 않은 토큰입니다.", HttpStatus.UNAUTHORIZED),
   AUTH_CODE_EXPIRED("인증 코드가 없거나 만료되었습니다.", HttpStatus.NOT_FOUND),
   AUTH_CODE_MISMATCH("인증 코드가 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+  PASSWORD_HASHING_BUSY("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+  TOO_MANY_REQUESTS("요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS),
   // MEMBER
   MEMBER_NOT_FOUND("해당 회원을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
   MEMBER_EMAIL_DUPLICATE("회원 이메일이 중복됩니다.", HttpStatus.CONFLICT),
@@ -47,6 +49,7 @@ public enum ErrorCode {
   POST_SEARCH_TYPE_NOT_FOUND("존재하지 않는 검색 타입입니다.", HttpStatus.BAD_REQUEST),
   POST_COMMENT_NEED("게시글에 댓글 작성이 필요합니다.", HttpStatus.BAD_REQUEST),
   POST_HAS_NOT_THAT_FILE("해당 파일은 해당 게시글의 파일이 아닙니다.", HttpStatus.BAD_REQUEST),
+  POST_SEARCH_INDEX_REBUILDING("검색 색인을 다시 만드는 중입니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT),
   // COMMENT
   COMMENT_NOT_FOUND("존재하지 않는 댓글입니다.", HttpStatus.NOT_FOUND),
   COMMENT_NOT_WRITER("댓글 작성자가 아닙니다.", HttpStatus.BAD_REQUEST),
@@ -83,6 +86,14 @@ public enum ErrorCode {
   NOT_PLAYED_YET("아직 게임을 시작하지 않았습니다.", HttpStatus.BAD_REQUEST),
   // FILE
   FILE_NOT_FOUND("해당 파일은 존재하지 않습니다.", HttpStatus.BAD_REQUEST),
+  FILE_UPLOAD_NOT_FOUND("존재하지 않거나 만료된 업로드입니다.", HttpStatus.NOT_FOUND),
+  FILE_UPLOAD_SIZE_EXCEEDED("업로드할 수 있는 파일 크기를 초과했습니다.", HttpStatus.BAD_REQUEST),
+  FILE_UPLOAD_CHUNK_INVALID("업로드 조각의 번호나 크기가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+  FILE_UPLOAD_TYPE_MISMATCH("파일 내용이 확장자와 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+  FILE_UPLOAD_INCOMPLETE("아직 받지 못한 업로드 조각이 있습니다.", HttpStatus.BAD_REQUEST),
+  // THUMBNAIL
+  THUMBNAIL_NOT_FOUND("해당 썸네일은 존재하지 않습니다.", HttpStatus.NOT_FOUND),
+  THUMBNAIL_TYPE_NOT_FOUND("지원하지 않는 썸네일 크기입니다.", HttpStatus.BAD_REQUEST),
   // ATTENDANCE
   ATTENDANCE_NOT_FOUND("출석 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
   // CTF
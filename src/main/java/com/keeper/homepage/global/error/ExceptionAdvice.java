@@ -2,6 +2,7 @@ package com.keeper.homepage.global.error;
 
 import jakarta.validation.ConstraintViolationException;
 import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -82,6 +83,14 @@ public class ExceptionAdvice {
         .body(ErrorResponse.from(errorMessage));
   }
 
+  @ExceptionHandler(RateLimitException.class)
+  public ResponseEntity<ErrorResponse> rateLimitException(RateLimitException e) {
+    String errorMessage = getErrorMessage(e.getInvalidValue(), e.getFieldName(), e.getMessage());
+    return ResponseEntity.status(e.getHttpStatus())
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+        .body(ErrorResponse.from(errorMessage));
+  }
+
   private static String getErrorMessage(BindException e) {
     BindingResult bindingResult = e.getBindingResult();
 
@@ -0,0 +1,19 @@
+package com.keeper.homepage.global.error;
+
+import static com.keeper.homepage.global.error.ErrorCode.TOO_MANY_REQUESTS;
+
+import lombok.Getter;
+
+/**
+ * 요청 횟수 제한을 초과했을 때 발생한다. 응답의 {@code Retry-After} 헤더에 {@link #retryAfterSeconds} 를 담는다.
+ */
+@Getter
+public class RateLimitException extends BusinessException {
+
+  private final long retryAfterSeconds;
+
+  public RateLimitException(Object invalidValue, String fieldName, long retryAfterSeconds) {
+    super(invalidValue, fieldName, TOO_MANY_REQUESTS);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
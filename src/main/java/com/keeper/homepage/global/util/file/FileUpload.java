@@ -0,0 +1,18 @@
+package com.keeper.homepage.global.util.file;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 진행 중인 이어 올리기 업로드 정보
+ *
+ * @param receivedChunks 받은 조각 번호 (오름차순)
+ * @param expireTime     이 시간까지 조각이 오지 않으면 업로드가 삭제된다.
+ */
+public record FileUpload(String uploadId, String fileName, long fileSize, int chunkSize, int chunkCount,
+                         List<Integer> receivedChunks, LocalDateTime expireTime) {
+
+  public boolean isCompleted() {
+    return receivedChunks.size() == chunkCount;
+  }
+}
@@ -0,0 +1,51 @@
+package com.keeper.homepage.global.util.file;
+
+import com.keeper.homepage.global.error.BusinessException;
+import com.keeper.homepage.global.util.file.exception.FileSaveFailedException;
+import java.io.InputStream;
+
+/**
+ * 큰 파일을 고정 크기 조각으로 나눠 받는 이어 올리기 업로드.
+ * <p>
+ * 조각은 순서와 상관없이 여러 번 보낼 수 있고, 끊긴 업로드는 {@link #get(long, long, String)} 으로 받은 조각을 확인한 뒤 나머지만 보내면 된다. 일정 시간
+ * 조각이 오지 않은 업로드는 만료되어 삭제된다.
+ * <p>
+ * 업로드는 시작한 회원과 게시글에 묶이므로, 이후 요청에는 같은 회원과 게시글을 넘겨야 합니다.
+ */
+public abstract class FileUploadUtil {
+
+  /**
+   * @param memberId 업로드를 시작한 회원. 이후 요청은 같은 회원만 할 수 있습니다.
+   * @param postId 파일을 추가할 게시글. 이후 요청은 같은 게시글로만 할 수 있습니다.
+   * @throws BusinessException 파일 크기가 허용 범위를 벗어날 경우 발생합니다.
+   */
+  public abstract FileUpload start(long memberId, long postId, String fileName, long fileSize);
+
+  /**
+   * @throws BusinessException 업로드가 없거나 만료되었거나 다른 회원 또는 다른 게시글의 업로드일 경우 발생합니다.
+   */
+  public abstract FileUpload get(long memberId, long postId, String uploadId);
+
+  /**
+   * 조각을 파일의 제 위치에 바로 쓴다. 이미 받은 조각을 다시 보내면 덮어쓴다.
+   *
+   * @param chunk 마지막 조각이 아니면 정확히 {@link FileUpload#chunkSize()} 바이트여야 합니다.
+   * @throws BusinessException 조각 번호나 크기가 올바르지 않거나, 첫 조각의 내용이 확장자와 맞지 않을 경우 발생합니다.
+   * @throws FileSaveFailedException 디스크 쓰기 실패 시 발생합니다.
+   */
+  public abstract FileUpload writeChunk(long memberId, long postId, String uploadId, int chunkIndex,
+      InputStream chunk);
+
+  /**
+   * 모든 조각을 받은 업로드를 저장소로 옮기고 업로드를 끝낸다. 반환된 파일은 {@link FileUtil#saveStoredFiles} 로 저장하거나
+   * {@link FileUtil#deleteStoredFiles} 로 정리해야 합니다. 쓰는 중인 조각이 있으면 다 쓸 때까지 기다린다.
+   *
+   * @throws BusinessException 받지 못한 조각이 있을 경우 발생합니다.
+   */
+  public abstract StoredFile complete(long memberId, long postId, String uploadId);
+
+  /**
+   * 쓰는 중인 조각이 있으면 다 쓸 때까지 기다린 뒤 업로드를 삭제한다.
+   */
+  public abstract void cancel(long memberId, long postId, String uploadId);
+}
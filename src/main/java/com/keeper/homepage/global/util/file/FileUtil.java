@@ -28,18 +28,38 @@ public abstract class FileUtil {
    * @see FileUtil#saveFile(MultipartFile)
    */
   public List<FileEntity> saveFiles(MultipartFile... files) {
-    return Arrays.stream(files)
-        .map(this::saveFile)
-        .map(file -> file.orElseThrow(FileSaveFailedException::new))
-        .toList();
+    return saveStoredFiles(storeFiles(Arrays.asList(files)));
   }
 
   protected abstract FileEntity save(@NonNull MultipartFile file);
 
+  /**
+   * 파일들을 DB 에 저장하지 않고 디스크에만 동시에 저장합니다. 같은 내용의 파일은 한 번만 저장되어 같은 경로를 가리킵니다. 트랜잭션 시작 전에 호출해 디스크 쓰기 동안 DB 커넥션을 잡지 않도록 합니다.
+   *
+   * @param files if null, return empty list
+   * @return 요청 순서와 같은 순서의 저장된 파일 정보
+   * @throws FileSaveFailedException 파일 중에 {@code null}이 있거나 하나라도 저장에 실패할 경우 발생하며, 이미 저장된 파일은 삭제됩니다.
+   */
+  public abstract List<StoredFile> storeFiles(List<MultipartFile> files);
+
+  /**
+   * 디스크에 저장된 파일들의 {@link FileEntity} 를 한 번에 저장합니다. 트랜잭션이 롤백되면 더 이상 참조되지 않는 디스크의 파일도
+   * 삭제됩니다.
+   *
+   * @return 요청 순서와 같은 순서의 {@link FileEntity}
+   */
+  public abstract List<FileEntity> saveStoredFiles(List<StoredFile> storedFiles);
+
+  /**
+   * {@link FileEntity} 로 저장하지 못한 파일들을 정리합니다. 같은 내용의 파일을 다른 곳에서 참조하고 있으면 디스크에서 삭제하지 않으며, 삭제에
+   * 실패한 파일은 건너뜁니다.
+   */
+  public abstract void deleteStoredFiles(List<StoredFile> storedFiles);
+
   /**
    * @param fileEntity {@code @NotNull}
    * @throws FileDeleteFailedException 파일 삭제 실패 시 발생합니다.
-   * @apiNote 저장된 파일과 Entity 모두 삭제합니다.
+   * @apiNote Entity 를 삭제하고, 같은 내용의 파일을 참조하는 Entity 가 남아있지 않으면 저장된 파일도 삭제합니다.
    */
   public void deleteFileAndEntity(@NonNull FileEntity fileEntity) {
     deleteEntity(fileEntity);
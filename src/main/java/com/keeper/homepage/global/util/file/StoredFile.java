@@ -0,0 +1,13 @@
+package com.keeper.homepage.global.util.file;
+
+import java.time.LocalDateTime;
+
+/**
+ * 디스크에는 저장되었지만 아직 {@link com.keeper.homepage.domain.file.entity.FileEntity} 로 저장되지 않은 파일 정보
+ *
+ * @param filePath 프로젝트 루트 기준 상대 경로
+ */
+public record StoredFile(String fileName, String filePath, long fileSize, LocalDateTime uploadTime,
+                         String ipAddress) {
+
+}
@@ -0,0 +1,366 @@
+package com.keeper.homepage.global.util.file.server;
+
+import static com.keeper.homepage.global.util.file.server.FileServerConstants.DEFAULT_FILE_PATH;
+import static com.keeper.homepage.global.util.file.server.FileServerConstants.ROOT_PATH;
+import static java.io.File.separator;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.keeper.homepage.domain.file.dao.FileRepository;
+import com.keeper.homepage.global.util.file.StoredFile;
+import com.keeper.homepage.global.util.file.exception.FileDeleteFailedException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 파일 내용의 SHA-256 해시를 이름으로 하는 blob 저장소.
+ * <p>
+ * 같은 내용의 파일은 한 번만 저장하고, 같은 경로를 가리키는 {@link com.keeper.homepage.domain.file.entity.FileEntity} 의 수를 참조 수로
+ * 본다. 아직 커밋되지 않은 트랜잭션에서 저장 중인 파일은 다른 트랜잭션에서 보이지 않으므로, 커밋 전까지는 메모리에 참조를 따로 기록해 지워지지 않도록
+ * 한다.
+ * <p>
+ * 참조 수 확인과 blob 이동은 같은 경로(내용 해시)끼리만 서로 막는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class FileServerBlobStore {
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final String TEMP_FILE_PATH = DEFAULT_FILE_PATH + "tmp" + separator;
+  private static final String TEMP_PREFIX = "upload-";
+  private static final String TRASH_SUFFIX = ".deleted-";
+  private static final int DIRECTORY_PREFIX_LENGTH = 2;
+
+  private final FileRepository fileRepository;
+
+  private final Map<String, BlobLock> blobLocks = new ConcurrentHashMap<>();
+  private final Map<String, Integer> pendingReferences = new ConcurrentHashMap<>();
+  private final Set<StoredFile> claims = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+  private final Set<Path> unlinkingBlobs = ConcurrentHashMap.newKeySet();
+
+  /**
+   * 임시 파일로 복사하면서 해시를 계산하고, 같은 내용의 blob 이 없을 때만 blob 으로 옮긴다.
+   * <p>
+   * 반환된 파일은 {@link #reference(Collection)} 로 트랜잭션에 넘기거나 {@link #discard(Collection)} 하기 전까지 삭제되지 않는다.
+   */
+  StoredFile store(MultipartFile file, LocalDateTime uploadTime, String ipAddress) throws IOException {
+    Path temp = Files.createTempFile(Files.createDirectories(Paths.get(TEMP_FILE_PATH)), TEMP_PREFIX, null);
+    try {
+      String digest = copyWithDigest(file, temp);
+      return publish(temp, digest, file.getOriginalFilename(), uploadTime, ipAddress);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * 이미 디스크에 있는 파일을 읽어 해시를 계산한 뒤 복사 없이 blob 으로 옮긴다. 같은 내용의 blob 이 있으면 원본 파일은 삭제된다.
+   * <p>
+   * 반환된 파일은 {@link #store(MultipartFile, LocalDateTime, String)} 와 같은 방식으로 정리해야 한다.
+   *
+   * @param source blob 과 같은 파일 시스템에 있는 파일
+   */
+  StoredFile storeLocal(Path source, String fileName, LocalDateTime uploadTime, String ipAddress)
+      throws IOException {
+    try {
+      return publish(source, digest(source), fileName, uploadTime, ipAddress);
+    } finally {
+      Files.deleteIfExists(source);
+    }
+  }
+
+  private StoredFile publish(Path source, String digest, String fileName, LocalDateTime uploadTime,
+      String ipAddress) throws IOException {
+    String filePath = getBlobPath(digest, getExtension(fileName));
+    StoredFile storedFile = new StoredFile(fileName, filePath, Files.size(source), uploadTime, ipAddress);
+    BlobLock blobLock = acquireLock(filePath);
+    try {
+      synchronized (blobLock) {
+        Path blob = toFullPath(filePath);
+        if (!Files.exists(blob)) {
+          Files.createDirectories(blob.getParent());
+          Files.move(source, blob, ATOMIC_MOVE);
+        }
+        pendingReferences.merge(filePath, 1, Integer::sum);
+        claims.add(storedFile);
+      }
+    } finally {
+      releaseLock(filePath);
+    }
+    return storedFile;
+  }
+
+  /**
+   * 경로별 잠금을 가져온다. 잠금을 기다리는 스레드가 없어지면 {@link #releaseLock(String)} 에서 지운다.
+   */
+  private BlobLock acquireLock(String filePath) {
+    return blobLocks.compute(filePath, (key, blobLock) -> {
+      BlobLock acquired = blobLock == null ? new BlobLock() : blobLock;
+      acquired.holders++;
+      return acquired;
+    });
+  }
+
+  private void releaseLock(String filePath) {
+    blobLocks.computeIfPresent(filePath, (key, blobLock) -> --blobLock.holders == 0 ? null : blobLock);
+  }
+
+  private static String copyWithDigest(MultipartFile file, Path temp) throws IOException {
+    MessageDigest messageDigest = newMessageDigest();
+    try (InputStream inputStream = new DigestInputStream(file.getInputStream(), messageDigest)) {
+      Files.copy(inputStream, temp, REPLACE_EXISTING);
+    }
+    return HexFormat.of().formatHex(messageDigest.digest());
+  }
+
+  private static String digest(Path file) throws IOException {
+    MessageDigest messageDigest = newMessageDigest();
+    try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), messageDigest)) {
+      inputStream.transferTo(OutputStream.nullOutputStream());
+    }
+    return HexFormat.of().formatHex(messageDigest.digest());
+  }
+
+  private static MessageDigest newMessageDigest() {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String getExtension(String filename) {
+    int extensionIndex = filename.lastIndexOf(".");
+    return extensionIndex < 0 ? "" : filename.substring(extensionIndex);
+  }
+
+  private static String getBlobPath(String digest, String extension) {
+    Path blob = Paths.get(DEFAULT_FILE_PATH, digest.substring(0, DIRECTORY_PREFIX_LENGTH), digest + extension);
+    return blob.toString().substring(ROOT_PATH.length() + 1);
+  }
+
+  private static Path toFullPath(String filePath) {
+    return Paths.get(ROOT_PATH, filePath);
+  }
+
+  /**
+   * 파일 정보가 현재 트랜잭션에서 DB 에 저장되었음을 알린다. 트랜잭션이 끝나면 메모리의 참조를 정리하고, 롤백된 경우 더 이상 참조되지 않는 blob 을
+   * 삭제한다.
+   */
+  void reference(Collection<StoredFile> storedFiles) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      storedFiles.forEach(this::release);
+      return;
+    }
+    getTransactionReferences().storedFiles.addAll(storedFiles);
+  }
+
+  private TransactionReferences getTransactionReferences() {
+    for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+      if (synchronization instanceof TransactionReferences references && references.isOwnedBy(this)) {
+        return references;
+      }
+    }
+    TransactionReferences references = new TransactionReferences();
+    TransactionSynchronizationManager.registerSynchronization(references);
+    return references;
+  }
+
+  /**
+   * DB 에 저장하지 못한 파일을 정리한다. 다른 곳에서 참조하지 않는 blob 만 삭제된다.
+   */
+  void discard(Collection<StoredFile> storedFiles) {
+    storedFiles.forEach(this::release);
+    storedFiles.forEach(storedFile -> deleteIfUnreferenced(storedFile.filePath()));
+  }
+
+  private void release(StoredFile storedFile) {
+    String filePath = storedFile.filePath();
+    BlobLock blobLock = acquireLock(filePath);
+    try {
+      synchronized (blobLock) {
+        if (claims.remove(storedFile)) {
+          pendingReferences.computeIfPresent(filePath, (key, count) -> count == 1 ? null : count - 1);
+        }
+      }
+    } finally {
+      releaseLock(filePath);
+    }
+  }
+
+  private void deleteIfUnreferenced(String filePath) {
+    BlobLock blobLock = acquireLock(filePath);
+    try {
+      synchronized (blobLock) {
+        if (pendingReferences.containsKey(filePath) || fileRepository.countByFilePath(filePath) > 0) {
+          return;
+        }
+        Files.deleteIfExists(toFullPath(filePath));
+      }
+    } catch (IOException | SecurityException e) {
+      log.warn("Failed to delete blob. filePath: {}", filePath, e);
+    } finally {
+      releaseLock(filePath);
+    }
+  }
+
+  /**
+   * 현재 트랜잭션에서 파일 정보를 삭제한 뒤 호출한다. 마지막 참조였다면 blob 을 삭제하는데, 트랜잭션이 롤백되면 되돌릴 수 있도록 커밋될 때까지는 이름만
+   * 바꿔둔다.
+   * <p>
+   * 다른 트랜잭션도 같은 blob 의 참조를 지우고 있다면 서로 상대의 삭제를 보지 못해 둘 다 참조가 남았다고 볼 수 있으므로, 참조가 남아 있으면 커밋 후에
+   * 한 번 더 확인한다. 마지막으로 커밋한 트랜잭션은 항상 다른 삭제를 볼 수 있다.
+   *
+   * @throws FileDeleteFailedException 삭제해야 할 blob 이 없거나 삭제에 실패할 경우 발생합니다.
+   */
+  void unlinkIfUnreferenced(String filePath) {
+    BlobLock blobLock = acquireLock(filePath);
+    try {
+      synchronized (blobLock) {
+        int otherPendingReferences = pendingReferences.getOrDefault(filePath, 0) - countTransactionClaims(filePath);
+        if (otherPendingReferences > 0 || fileRepository.countByFilePath(filePath) > 0) {
+          recheckAfterCommit(filePath);
+          return;
+        }
+        unlink(filePath);
+      }
+    } finally {
+      releaseLock(filePath);
+    }
+  }
+
+  private void unlink(String filePath) {
+    Path blob = toFullPath(filePath);
+    try {
+      if (!Files.exists(blob)) {
+        throw new FileDeleteFailedException();
+      }
+      if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+        Files.delete(blob);
+        return;
+      }
+      Path trash = blob.resolveSibling(blob.getFileName() + TRASH_SUFFIX + UUID.randomUUID());
+      Files.move(blob, trash, ATOMIC_MOVE);
+      unlinkingBlobs.add(trash);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          completeUnlink(filePath, trash, status == STATUS_COMMITTED);
+        }
+      });
+    } catch (IOException | SecurityException e) {
+      throw new FileDeleteFailedException(e);
+    }
+  }
+
+  private void recheckAfterCommit(String filePath) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        deleteIfUnreferenced(filePath);
+      }
+    });
+  }
+
+  private int countTransactionClaims(String filePath) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return 0;
+    }
+    return (int) getTransactionReferences().storedFiles.stream()
+        .filter(storedFile -> claims.contains(storedFile) && storedFile.filePath().equals(filePath))
+        .count();
+  }
+
+  private void completeUnlink(String filePath, Path trash, boolean committed) {
+    Path blob = toFullPath(filePath);
+    BlobLock blobLock = acquireLock(filePath);
+    try {
+      synchronized (blobLock) {
+        if (committed || Files.exists(blob)) {
+          Files.deleteIfExists(trash);
+        } else {
+          Files.move(trash, blob, ATOMIC_MOVE);
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Failed to complete blob deletion. blob: {}", blob, e);
+    } finally {
+      // 고아 파일 수거는 이름을 바꾼 파일의 경로로 잠그므로, 파일을 정리한 뒤에 목록에서 빼야 수거 대상이 되지 않는다.
+      unlinkingBlobs.remove(trash);
+      releaseLock(filePath);
+    }
+  }
+
+  /**
+   * 어떤 {@link com.keeper.homepage.domain.file.entity.FileEntity} 도 참조하지 않는 파일을 옮긴다. 저장 중이거나 삭제 트랜잭션이 끝나지
+   * 않은 파일은 옮기지 않는다.
+   *
+   * @param filePath {@code ROOT_PATH} 기준 상대 경로
+   * @return 옮겼으면 {@code true}
+   */
+  boolean moveIfUnreferenced(String filePath, Path target) throws IOException {
+    BlobLock blobLock = acquireLock(filePath);
+    try {
+      synchronized (blobLock) {
+        Path file = toFullPath(filePath);
+        if (pendingReferences.containsKey(filePath) || unlinkingBlobs.contains(file)
+            || fileRepository.countByFilePath(filePath) > 0) {
+          return false;
+        }
+        Files.createDirectories(target.getParent());
+        Files.move(file, target, ATOMIC_MOVE);
+        return true;
+      }
+    } finally {
+      releaseLock(filePath);
+    }
+  }
+
+  private static class BlobLock {
+
+    private int holders;
+  }
+
+  private class TransactionReferences implements TransactionSynchronization {
+
+    private final Set<StoredFile> storedFiles = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    boolean isOwnedBy(FileServerBlobStore blobStore) {
+      return FileServerBlobStore.this == blobStore;
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      storedFiles.forEach(FileServerBlobStore.this::release);
+      if (status != STATUS_COMMITTED) {
+        storedFiles.forEach(storedFile -> deleteIfUnreferenced(storedFile.filePath()));
+      }
+    }
+  }
+}
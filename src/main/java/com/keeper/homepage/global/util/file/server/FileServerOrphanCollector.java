@@ -0,0 +1,326 @@
+package com.keeper.homepage.global.util.file.server;
+
+import static com.keeper.homepage.global.util.file.server.FileServerConstants.DEFAULT_FILE_PATH;
+import static com.keeper.homepage.global.util.file.server.FileServerConstants.ROOT_PATH;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerConstants.DEFAULT_THUMBNAIL_PATH;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerConstants.PENDING_THUMBNAIL_FULL_PATH;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerConstants.VARIANT_THUMBNAIL_PATH;
+import static java.io.File.separator;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+
+import com.keeper.homepage.domain.file.dao.FileRepository;
+import com.keeper.homepage.domain.thumbnail.dao.ThumbnailRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 에서 참조하지 않는 업로드 파일과 썸네일을 정리한다.
+ * <p>
+ * 저장소 디렉터리를 스트림으로 순회하면서 경로를 모아 한 번에 DB 와 비교하고, 참조되지 않는 파일은 바로 지우지 않고 격리 디렉터리로 옮긴다. 격리된 지
+ * 보관 기간이 지난 파일만 실제로 삭제한다. 디스크 I/O 를 독점하지 않도록 초당 처리하는 파일 수를 제한한다.
+ * <p>
+ * 수거는 오래 걸리므로 스케줄러 스레드를 잡지 않도록 전용 스레드에서 실행한다.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+class FileServerOrphanCollector {
+
+  static final String QUARANTINE_PATH = ROOT_PATH + separator + "keeper_quarantine";
+
+  private static final int BATCH_SIZE = 2000;
+  private static final int MAX_FILES_PER_SECOND = 1000;
+  private static final Duration ORPHAN_GRACE_PERIOD = Duration.ofDays(1);
+  private static final long QUARANTINE_DAYS = 7;
+
+  private final FileServerBlobStore fileServerBlobStore;
+  private final FileRepository fileRepository;
+  private final ThumbnailRepository thumbnailRepository;
+
+  private final Object collectLock = new Object();
+  private final ExecutorService collectExecutor = Executors.newSingleThreadExecutor(
+      new CustomizableThreadFactory("orphan-collector-"));
+
+  @Scheduled(cron = "0 0 5 * * ?", zone = "Asia/Seoul") // 매일 5시에 실행
+  public void collectScheduled() {
+    try {
+      collectExecutor.execute(() -> {
+        CollectResult result = collect();
+        log.info("Orphan file collection finished. scanned: {}, quarantined: {} ({} bytes), "
+                + "deleted: {}, reclaimed: {} bytes", result.scannedCount(), result.quarantinedCount(),
+            result.quarantinedBytes(), result.deletedCount(), result.reclaimedBytes());
+      });
+    } catch (RejectedExecutionException e) {
+      // 서버 종료 중이면 다음 날 다시 실행된다.
+      log.info("Orphan file collection skipped while shutting down.");
+    }
+  }
+
+  /**
+   * 보관 기간이 지난 격리 파일을 삭제한 뒤, 참조되지 않는 파일을 격리한다.
+   */
+  CollectResult collect() {
+    synchronized (collectLock) {
+      CollectResult result = new CollectResult();
+      Instant graceTime = Instant.now().minus(ORPHAN_GRACE_PERIOD);
+      LocalDate today = LocalDate.now();
+      deleteExpiredQuarantine(today, result);
+      Path quarantine = Paths.get(QUARANTINE_PATH, today.toString());
+      collectRoot(Paths.get(DEFAULT_FILE_PATH), graceTime, batch -> quarantineFiles(batch, quarantine, result),
+          result);
+      collectRoot(Paths.get(DEFAULT_THUMBNAIL_PATH), graceTime,
+          batch -> quarantineThumbnails(batch, quarantine, result), result);
+      return result;
+    }
+  }
+
+  private void collectRoot(Path root, Instant graceTime, BatchHandler handler, CollectResult result) {
+    if (!Files.isDirectory(root)) {
+      return;
+    }
+    Path variantRoot = Paths.get(VARIANT_THUMBNAIL_PATH);
+    Path pendingThumbnail = Paths.get(PENDING_THUMBNAIL_FULL_PATH);
+    ScanThrottle scanThrottle = new ScanThrottle();
+    try (Stream<Path> paths = Files.walk(root)) {
+      Iterator<Path> iterator = paths
+          .filter(path -> !path.startsWith(variantRoot) && !path.equals(pendingThumbnail))
+          .filter(path -> isOldRegularFile(path, graceTime))
+          .iterator();
+      List<OrphanCandidate> batch = new ArrayList<>(BATCH_SIZE);
+      while (iterator.hasNext()) {
+        Path path = iterator.next();
+        batch.add(new OrphanCandidate(toRelativePath(path), path));
+        if (batch.size() == BATCH_SIZE) {
+          handleBatch(handler, batch, scanThrottle, result);
+        }
+      }
+      handleBatch(handler, batch, scanThrottle, result);
+    } catch (IOException | UncheckedIOException e) {
+      log.warn("Failed to walk storage directory. root: {}", root, e);
+    }
+  }
+
+  private void handleBatch(BatchHandler handler, List<OrphanCandidate> batch, ScanThrottle scanThrottle,
+      CollectResult result) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    result.scannedCount += batch.size();
+    handler.handle(batch);
+    scanThrottle.acquire(batch.size());
+    batch.clear();
+  }
+
+  private static boolean isOldRegularFile(Path path, Instant graceTime) {
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+      return attributes.isRegularFile() && attributes.lastModifiedTime().toInstant().isBefore(graceTime);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private void quarantineFiles(List<OrphanCandidate> batch, Path quarantine, CollectResult result) {
+    Set<String> referenced = new HashSet<>(fileRepository.findAllFilePathByFilePathIn(relativePaths(batch)));
+    for (OrphanCandidate candidate : batch) {
+      if (referenced.contains(candidate.relativePath())) {
+        continue;
+      }
+      long size = sizeOf(candidate.path());
+      try {
+        // 비교하는 사이 같은 내용의 파일이 다시 업로드되었을 수 있으므로 저장소 잠금 안에서 다시 확인한다.
+        if (fileServerBlobStore.moveIfUnreferenced(candidate.relativePath(),
+            quarantine.resolve(candidate.relativePath()))) {
+          result.addQuarantined(size);
+        }
+      } catch (IOException e) {
+        log.warn("Failed to quarantine orphan file. path: {}", candidate.path(), e);
+      }
+    }
+  }
+
+  private void quarantineThumbnails(List<OrphanCandidate> batch, Path quarantine, CollectResult result) {
+    Set<String> referenced = new HashSet<>(thumbnailRepository.findAllPathByPathIn(relativePaths(batch)));
+    for (OrphanCandidate candidate : batch) {
+      if (referenced.contains(candidate.relativePath())) {
+        continue;
+      }
+      long size = sizeOf(candidate.path());
+      try {
+        Path target = quarantine.resolve(candidate.relativePath());
+        Files.createDirectories(target.getParent());
+        Files.move(candidate.path(), target, ATOMIC_MOVE);
+        result.addQuarantined(size);
+      } catch (IOException e) {
+        log.warn("Failed to quarantine orphan thumbnail. path: {}", candidate.path(), e);
+      }
+    }
+  }
+
+  private void deleteExpiredQuarantine(LocalDate today, CollectResult result) {
+    Path quarantineRoot = Paths.get(QUARANTINE_PATH);
+    if (!Files.isDirectory(quarantineRoot)) {
+      return;
+    }
+    List<Path> expiredDirectories;
+    try (Stream<Path> directories = Files.list(quarantineRoot)) {
+      expiredDirectories = directories
+          .filter(directory -> isExpiredQuarantine(directory, today))
+          .toList();
+    } catch (IOException e) {
+      log.warn("Failed to list quarantine directory. path: {}", quarantineRoot, e);
+      return;
+    }
+    expiredDirectories.forEach(directory -> deleteDirectory(directory, result));
+  }
+
+  private static boolean isExpiredQuarantine(Path directory, LocalDate today) {
+    try {
+      return LocalDate.parse(directory.getFileName().toString())
+          .isBefore(today.minusDays(QUARANTINE_DAYS));
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+
+  private static void deleteDirectory(Path directory, CollectResult result) {
+    ScanThrottle scanThrottle = new ScanThrottle();
+    // 하위 경로부터 지우기 위해 역순으로 정렬한다.
+    try (Stream<Path> paths = Files.walk(directory)) {
+      Iterator<Path> iterator = paths.sorted(Comparator.reverseOrder()).iterator();
+      while (iterator.hasNext()) {
+        Path path = iterator.next();
+        long size = Files.isRegularFile(path) ? sizeOf(path) : -1;
+        Files.delete(path);
+        if (size >= 0) {
+          result.addDeleted(size);
+          scanThrottle.acquire(1);
+        }
+      }
+    } catch (IOException | UncheckedIOException e) {
+      log.warn("Failed to delete quarantine directory. path: {}", directory, e);
+    }
+  }
+
+  private static List<String> relativePaths(List<OrphanCandidate> batch) {
+    return batch.stream()
+        .map(OrphanCandidate::relativePath)
+        .toList();
+  }
+
+  private static String toRelativePath(Path path) {
+    return Paths.get(ROOT_PATH).relativize(path).toString();
+  }
+
+  private static long sizeOf(Path path) {
+    try {
+      return Files.size(path);
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  @FunctionalInterface
+  private interface BatchHandler {
+
+    void handle(List<OrphanCandidate> batch);
+  }
+
+  private record OrphanCandidate(String relativePath, Path path) {
+
+  }
+
+  @PreDestroy
+  void shutdownCollectExecutor() {
+    collectExecutor.shutdownNow();
+  }
+
+  /**
+   * 처리한 파일 수가 초당 제한을 넘으면 그만큼 쉰다.
+   */
+  private static class ScanThrottle {
+
+    private final long startNanos = System.nanoTime();
+    private long permits = 0;
+
+    void acquire(int count) {
+      permits += count;
+      long expectedNanos = TimeUnit.SECONDS.toNanos(permits) / MAX_FILES_PER_SECOND;
+      long sleepNanos = expectedNanos - (System.nanoTime() - startNanos);
+      if (sleepNanos <= 0) {
+        return;
+      }
+      try {
+        TimeUnit.NANOSECONDS.sleep(sleepNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  static class CollectResult {
+
+    private long scannedCount;
+    private long quarantinedCount;
+    private long quarantinedBytes;
+    private long deletedCount;
+    private long reclaimedBytes;
+
+    void addQuarantined(long bytes) {
+      quarantinedCount++;
+      quarantinedBytes += bytes;
+    }
+
+    void addDeleted(long bytes) {
+      deletedCount++;
+      reclaimedBytes += bytes;
+    }
+
+    long scannedCount() {
+      return scannedCount;
+    }
+
+    long quarantinedCount() {
+      return quarantinedCount;
+    }
+
+    long quarantinedBytes() {
+      return quarantinedBytes;
+    }
+
+    long deletedCount() {
+      return deletedCount;
+    }
+
+    long reclaimedBytes() {
+      return reclaimedBytes;
+    }
+  }
+}
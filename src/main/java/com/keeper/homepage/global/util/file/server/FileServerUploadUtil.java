@@ -0,0 +1,395 @@
+package com.keeper.homepage.global.util.file.server;
+
+import static com.keeper.homepage.global.error.ErrorCode.FILE_UPLOAD_CHUNK_INVALID;
+import static com.keeper.homepage.global.error.ErrorCode.FILE_UPLOAD_INCOMPLETE;
+import static com.keeper.homepage.global.error.ErrorCode.FILE_UPLOAD_NOT_FOUND;
+import static com.keeper.homepage.global.error.ErrorCode.FILE_UPLOAD_SIZE_EXCEEDED;
+import static com.keeper.homepage.global.error.ErrorCode.FILE_UPLOAD_TYPE_MISMATCH;
+import static com.keeper.homepage.global.util.file.server.FileServerConstants.ROOT_PATH;
+import static java.io.File.separator;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.keeper.homepage.global.error.BusinessException;
+import com.keeper.homepage.global.util.file.FileUpload;
+import com.keeper.homepage.global.util.file.FileUploadUtil;
+import com.keeper.homepage.global.util.file.StoredFile;
+import com.keeper.homepage.global.util.file.exception.FileSaveFailedException;
+import com.keeper.homepage.global.util.web.WebUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 업로드마다 {@code keeper_uploads/{uploadId}} 디렉토리에 정보, 데이터 파일, 받은 조각 표시를 둔다.
+ * <p>
+ * 조각은 요청 본문을 작은 버퍼로 읽어 데이터 파일의 {@code chunkIndex * chunkSize} 위치에 바로 쓰므로, 파일 크기와 상관없이 요청마다
+ * 버퍼 하나만큼의 메모리만 쓴다. 완료되면 데이터 파일을 복사하지 않고 blob 저장소로 옮긴다. 받은 조각 표시 파일의 수정 시간을 마지막 활동 시간으로
+ * 보고, {@link #SESSION_TTL} 동안 조각이 오지 않은 업로드는 만료된다.
+ * <p>
+ * 조각은 같은 업로드에 동시에 여러 개 쓸 수 있지만, 완료와 취소는 업로드마다 하나씩만 하고 쓰는 중인 조각이 끝날 때까지 기다린다.
+ */
+@Slf4j
+@Service
+@EnableScheduling
+@RequiredArgsConstructor
+class FileServerUploadUtil extends FileUploadUtil {
+
+  static final String UPLOAD_PATH = ROOT_PATH + separator + "keeper_uploads" + separator;
+  static final int CHUNK_SIZE = 5 * 1024 * 1024;
+  static final long MAX_FILE_SIZE = 500L * 1024 * 1024;
+  static final Duration SESSION_TTL = Duration.ofHours(24);
+
+  private static final String SESSION_FILE = "session.json";
+  private static final String DATA_FILE = "data";
+  private static final String CHUNKS_FILE = "chunks";
+  private static final String COMPLETING_SUFFIX = ".completing";
+  private static final byte RECEIVED = 1;
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final Pattern UPLOAD_ID_PATTERN = Pattern.compile("[0-9a-f]{32}");
+
+  /**
+   * 확장자별 파일 시그니처. 목록에 없는 확장자는 내용을 검사하지 않는다.
+   */
+  private static final Map<String, List<byte[]>> SIGNATURES = Map.ofEntries(
+      Map.entry("png", List.of(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})),
+      Map.entry("jpg", List.of(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})),
+      Map.entry("jpeg", List.of(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})),
+      Map.entry("gif", List.of(new byte[]{'G', 'I', 'F', '8'})),
+      Map.entry("pdf", List.of(new byte[]{'%', 'P', 'D', 'F'})),
+      Map.entry("zip", zipSignatures()),
+      Map.entry("docx", zipSignatures()),
+      Map.entry("xlsx", zipSignatures()),
+      Map.entry("pptx", zipSignatures()),
+      Map.entry("hwpx", zipSignatures()),
+      Map.entry("hwp", oleSignatures()),
+      Map.entry("doc", oleSignatures()),
+      Map.entry("xls", oleSignatures()),
+      Map.entry("ppt", oleSignatures()),
+      Map.entry("7z", List.of(new byte[]{'7', 'z', (byte) 0xBC, (byte) 0xAF, 0x27, 0x1C})),
+      Map.entry("gz", List.of(new byte[]{0x1F, (byte) 0x8B}))
+  );
+
+  private final FileServerBlobStore fileServerBlobStore;
+  private final ObjectMapper objectMapper;
+
+  private final Map<String, UploadLock> uploadLocks = new ConcurrentHashMap<>();
+
+  private static List<byte[]> zipSignatures() {
+    return List.of(new byte[]{'P', 'K', 3, 4}, new byte[]{'P', 'K', 5, 6});
+  }
+
+  private static List<byte[]> oleSignatures() {
+    return List.of(new byte[]{(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A,
+        (byte) 0xE1});
+  }
+
+  @Override
+  public FileUpload start(long memberId, long postId, String fileName, long fileSize) {
+    if (fileSize <= 0 || fileSize > MAX_FILE_SIZE) {
+      throw new BusinessException(fileSize, "fileSize", FILE_UPLOAD_SIZE_EXCEEDED);
+    }
+    String uploadId = UUID.randomUUID().toString().replace("-", "");
+    UploadSession session = new UploadSession(memberId, postId, fileName, fileSize, CHUNK_SIZE);
+    Path directory = Paths.get(UPLOAD_PATH, uploadId);
+    try {
+      Files.createDirectories(directory);
+      objectMapper.writeValue(directory.resolve(SESSION_FILE).toFile(), session);
+      Files.createFile(directory.resolve(DATA_FILE));
+      Files.write(directory.resolve(CHUNKS_FILE), new byte[session.chunkCount()]);
+      return toFileUpload(uploadId, directory, session);
+    } catch (IOException e) {
+      deleteDirectory(directory);
+      throw new FileSaveFailedException(e);
+    }
+  }
+
+  @Override
+  public FileUpload get(long memberId, long postId, String uploadId) {
+    Path directory = getDirectory(uploadId);
+    UploadSession session = readSession(memberId, postId, uploadId, directory);
+    try {
+      return toFileUpload(uploadId, directory, session);
+    } catch (IOException e) {
+      throw new BusinessException(uploadId, "uploadId", FILE_UPLOAD_NOT_FOUND);
+    }
+  }
+
+  @Override
+  public FileUpload writeChunk(long memberId, long postId, String uploadId, int chunkIndex, InputStream chunk) {
+    Path directory = getDirectory(uploadId);
+    return withLock(uploadId, false, () -> {
+      UploadSession session = readSession(memberId, postId, uploadId, directory);
+      if (chunkIndex < 0 || chunkIndex >= session.chunkCount()) {
+        throw new BusinessException(chunkIndex, "chunkIndex", FILE_UPLOAD_CHUNK_INVALID);
+      }
+      try {
+        writeData(directory.resolve(DATA_FILE), session, chunkIndex, chunk);
+        try (FileChannel chunks = FileChannel.open(directory.resolve(CHUNKS_FILE), WRITE)) {
+          chunks.write(ByteBuffer.wrap(new byte[]{RECEIVED}), chunkIndex);
+        }
+        return toFileUpload(uploadId, directory, session);
+      } catch (NoSuchFileException e) {
+        throw new BusinessException(uploadId, "uploadId", FILE_UPLOAD_NOT_FOUND);
+      } catch (IOException e) {
+        throw new FileSaveFailedException(e);
+      }
+    });
+  }
+
+  /**
+   * 요청 본문을 끝까지 읽기 전이라도 조각 크기를 넘으면 바로 거절한다. 첫 조각은 첫 버퍼를 쓰기 전에 파일 시그니처를 확인한다.
+   */
+  private static void writeData(Path data, UploadSession session, int chunkIndex, InputStream chunk)
+      throws IOException {
+    long position = (long) chunkIndex * session.chunkSize();
+    long expectedSize = Math.min(session.chunkSize(), session.fileSize() - position);
+    byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, expectedSize + 1)];
+    long written = 0;
+    try (FileChannel channel = FileChannel.open(data, WRITE)) {
+      int read;
+      while ((read = chunk.readNBytes(buffer, 0, buffer.length)) > 0) {
+        if (written + read > expectedSize) {
+          throw new BusinessException(chunkIndex, "chunkIndex", FILE_UPLOAD_CHUNK_INVALID);
+        }
+        if (chunkIndex == 0 && written == 0) {
+          checkSignature(session.fileName(), buffer, read);
+        }
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+        while (byteBuffer.hasRemaining()) {
+          written += channel.write(byteBuffer, position + written);
+        }
+      }
+      if (written != expectedSize) {
+        throw new BusinessException(chunkIndex, "chunkIndex", FILE_UPLOAD_CHUNK_INVALID);
+      }
+      channel.force(false);
+    }
+  }
+
+  private static void checkSignature(String fileName, byte[] head, int length) {
+    int extensionIndex = fileName.lastIndexOf('.');
+    if (extensionIndex < 0) {
+      return;
+    }
+    List<byte[]> signatures = SIGNATURES.get(fileName.substring(extensionIndex + 1).toLowerCase(Locale.ROOT));
+    if (signatures == null) {
+      return;
+    }
+    boolean matched = signatures.stream()
+        .anyMatch(signature -> length >= signature.length
+            && Arrays.equals(head, 0, signature.length, signature, 0, signature.length));
+    if (!matched) {
+      throw new BusinessException(fileName, "fileName", FILE_UPLOAD_TYPE_MISMATCH);
+    }
+  }
+
+  /**
+   * 쓰는 중인 조각이 끝나기를 기다린 뒤 디렉토리 이름을 바꿔, 이후 들어오는 조각 요청과 중복 완료 요청이 업로드를 찾지 못하게 한다.
+   */
+  @Override
+  public StoredFile complete(long memberId, long postId, String uploadId) {
+    Path directory = getDirectory(uploadId);
+    Path completing = directory.resolveSibling(uploadId + COMPLETING_SUFFIX);
+    UploadSession session = withLock(uploadId, true, () -> {
+      UploadSession received = readSession(memberId, postId, uploadId, directory);
+      try {
+        if (!isAllReceived(directory.resolve(CHUNKS_FILE))) {
+          throw new BusinessException(uploadId, "uploadId", FILE_UPLOAD_INCOMPLETE);
+        }
+        Files.move(directory, completing, ATOMIC_MOVE);
+        return received;
+      } catch (NoSuchFileException e) {
+        throw new BusinessException(uploadId, "uploadId", FILE_UPLOAD_NOT_FOUND);
+      } catch (IOException e) {
+        throw new FileSaveFailedException(e);
+      }
+    });
+    try {
+      return fileServerBlobStore.storeLocal(completing.resolve(DATA_FILE), session.fileName(), LocalDateTime.now(),
+          WebUtil.getUserIP());
+    } catch (IOException | RuntimeException e) {
+      throw new FileSaveFailedException(e);
+    } finally {
+      deleteDirectory(completing);
+    }
+  }
+
+  @Override
+  public void cancel(long memberId, long postId, String uploadId) {
+    Path directory = getDirectory(uploadId);
+    withLock(uploadId, true, () -> {
+      readSession(memberId, postId, uploadId, directory);
+      deleteDirectory(directory);
+      return null;
+    });
+  }
+
+  /**
+   * 조각 쓰기는 공유 잠금으로, 완료와 취소는 배타 잠금으로 실행한다. 업로드별 잠금은 기다리는 요청이 없어지면 지운다.
+   */
+  private <T> T withLock(String uploadId, boolean exclusive, Supplier<T> action) {
+    UploadLock uploadLock = uploadLocks.compute(uploadId, (key, value) -> {
+      UploadLock acquired = value == null ? new UploadLock() : value;
+      acquired.holders++;
+      return acquired;
+    });
+    Lock lock = exclusive ? uploadLock.readWriteLock.writeLock() : uploadLock.readWriteLock.readLock();
+    lock.lock();
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+      uploadLocks.computeIfPresent(uploadId, (key, value) -> --value.holders == 0 ? null : value);
+    }
+  }
+
+  @Scheduled(cron = "0 0 * * * ?", zone = "Asia/Seoul") // 매시 정각에 실행
+  public void deleteExpiredUploads() {
+    Path uploadRoot = Paths.get(UPLOAD_PATH);
+    if (!Files.isDirectory(uploadRoot)) {
+      return;
+    }
+    List<Path> expired = new ArrayList<>();
+    try (DirectoryStream<Path> directories = Files.newDirectoryStream(uploadRoot)) {
+      for (Path directory : directories) {
+        Path activity = directory.getFileName().toString().endsWith(COMPLETING_SUFFIX)
+            ? directory : directory.resolve(CHUNKS_FILE);
+        if (isExpired(activity)) {
+          expired.add(directory);
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Failed to list uploads. path: {}", uploadRoot, e);
+    }
+    expired.forEach(FileServerUploadUtil::deleteDirectory);
+    if (!expired.isEmpty()) {
+      log.info("Deleted expired uploads. count: {}", expired.size());
+    }
+  }
+
+  private static boolean isExpired(Path activity) {
+    try {
+      return getExpireInstant(activity).isBefore(Instant.now());
+    } catch (IOException e) {
+      // 정보 파일을 만들기 전이거나 깨진 업로드는 디렉토리 기준으로 판단한다.
+      try {
+        return getExpireInstant(activity.getParent()).isBefore(Instant.now());
+      } catch (IOException ignore) {
+        return false;
+      }
+    }
+  }
+
+  private static Instant getExpireInstant(Path activity) throws IOException {
+    return Files.getLastModifiedTime(activity).toInstant().plus(SESSION_TTL);
+  }
+
+  private static Path getDirectory(String uploadId) {
+    if (uploadId == null || !UPLOAD_ID_PATTERN.matcher(uploadId).matches()) {
+      throw new BusinessException(uploadId, "uploadId", FILE_UPLOAD_NOT_FOUND);
+    }
+    return Paths.get(UPLOAD_PATH, uploadId);
+  }
+
+  private UploadSession readSession(long memberId, long postId, String uploadId, Path directory) {
+    UploadSession session;
+    try {
+      if (isExpired(directory.resolve(CHUNKS_FILE))) {
+        deleteDirectory(directory);
+        throw new BusinessException(uploadId, "uploadId", FILE_UPLOAD_NOT_FOUND);
+      }
+      session = objectMapper.readValue(directory.resolve(SESSION_FILE).toFile(), UploadSession.class);
+    } catch (IOException e) {
+      throw new BusinessException(uploadId, "uploadId", FILE_UPLOAD_NOT_FOUND);
+    }
+    if (session.memberId() != memberId || session.postId() != postId) {
+      throw new BusinessException(uploadId, "uploadId", FILE_UPLOAD_NOT_FOUND);
+    }
+    return session;
+  }
+
+  private static FileUpload toFileUpload(String uploadId, Path directory, UploadSession session)
+      throws IOException {
+    Path chunks = directory.resolve(CHUNKS_FILE);
+    byte[] received = Files.readAllBytes(chunks);
+    List<Integer> receivedChunks = new ArrayList<>();
+    for (int i = 0; i < received.length; i++) {
+      if (received[i] == RECEIVED) {
+        receivedChunks.add(i);
+      }
+    }
+    LocalDateTime expireTime = LocalDateTime.ofInstant(getExpireInstant(chunks), ZoneId.systemDefault());
+    return new FileUpload(uploadId, session.fileName(), session.fileSize(), session.chunkSize(),
+        session.chunkCount(), receivedChunks, expireTime);
+  }
+
+  private static boolean isAllReceived(Path chunks) throws IOException {
+    for (byte chunk : Files.readAllBytes(chunks)) {
+      if (chunk != RECEIVED) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void deleteDirectory(Path directory) {
+    if (!Files.exists(directory)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+        try {
+          Files.deleteIfExists(path);
+        } catch (IOException e) {
+          log.warn("Failed to delete upload file. path: {}", path, e);
+        }
+      });
+    } catch (IOException e) {
+      log.warn("Failed to delete upload. path: {}", directory, e);
+    }
+  }
+
+  private static class UploadLock {
+
+    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    private int holders;
+  }
+
+  record UploadSession(long memberId, long postId, String fileName, long fileSize, int chunkSize) {
+
+    int chunkCount() {
+      return (int) ((fileSize + chunkSize - 1) / chunkSize);
+    }
+  }
+}
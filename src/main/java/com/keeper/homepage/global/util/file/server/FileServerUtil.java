@@ -1,33 +1,61 @@
 package com.keeper.homepage.global.util.file.server;
 
 import static com.keeper.homepage.global.util.file.server.FileServerConstants.DEFAULT_FILE_PATH;
-import static com.keeper.homepage.global.util.file.server.FileServerConstants.ROOT_PATH;
-import static java.io.File.separator;
 
 import com.keeper.homepage.domain.file.dao.FileRepository;
 import com.keeper.homepage.domain.file.entity.FileEntity;
 import com.keeper.homepage.global.util.file.FileUtil;
-import com.keeper.homepage.global.util.file.exception.FileDeleteFailedException;
+import com.keeper.homepage.global.util.file.StoredFile;
 import com.keeper.homepage.global.util.file.exception.FileSaveFailedException;
 import com.keeper.homepage.global.util.web.WebUtil;
-import java.io.File;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.time.LocalDate;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 class FileServerUtil extends FileUtil {
 
   private final FileRepository fileRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final FileServerBlobStore fileServerBlobStore;
+
+  private static final int FILE_WRITE_THREAD_COUNT = 4;
+  private static final String INSERT_FILE_SQL =
+      "INSERT INTO file (file_name, file_path, file_size, upload_time, ip_address) VALUES ";
+  private static final String INSERT_FILE_VALUES = "(?, ?, ?, ?, ?)";
+
+  private final ExecutorService fileWriteExecutor = Executors.newFixedThreadPool(FILE_WRITE_THREAD_COUNT,
+      new CustomizableThreadFactory("file-write-"));
 
   static {
     createDirectoryWhenIsNotExist(DEFAULT_FILE_PATH);
@@ -43,52 +71,123 @@ class FileServerUtil extends FileUtil {
   @Transactional
   @Override
   protected FileEntity save(@NonNull MultipartFile file) {
+    StoredFile storedFile = storeFile(file, LocalDateTime.now(), WebUtil.getUserIP());
+    try {
+      FileEntity fileEntity = fileRepository.save(toEntity(storedFile));
+      fileServerBlobStore.reference(List.of(storedFile));
+      return fileEntity;
+    } catch (RuntimeException e) {
+      deleteStoredFiles(List.of(storedFile));
+      throw new FileSaveFailedException(e);
+    }
+  }
+
+  @Override
+  public List<StoredFile> storeFiles(List<MultipartFile> files) {
+    if (files == null || files.isEmpty()) {
+      return List.of();
+    }
+    if (files.stream().anyMatch(Objects::isNull)) {
+      throw new FileSaveFailedException();
+    }
+    // 요청 정보는 요청 스레드에서만 꺼낼 수 있으므로 미리 구해둔다.
+    String ipAddress = WebUtil.getUserIP();
+    LocalDateTime fileUploadTime = LocalDateTime.now();
+    List<CompletableFuture<StoredFile>> futures = files.stream()
+        .map(file -> CompletableFuture.supplyAsync(() -> storeFile(file, fileUploadTime, ipAddress),
+            fileWriteExecutor))
+        .toList();
+
+    List<StoredFile> storedFiles = new ArrayList<>();
+    Throwable failure = null;
+    for (CompletableFuture<StoredFile> future : futures) {
+      try {
+        storedFiles.add(future.join());
+      } catch (CompletionException e) {
+        failure = failure == null ? e.getCause() : failure;
+      }
+    }
+    if (failure != null) {
+      deleteStoredFiles(storedFiles);
+      throw new FileSaveFailedException(failure);
+    }
+    return storedFiles;
+  }
+
+  private StoredFile storeFile(MultipartFile file, LocalDateTime fileUploadTime, String ipAddress) {
     try {
-      LocalDateTime fileUploadTime = LocalDateTime.now();
-      File newFile = saveFileInServer(file, fileUploadTime);
-      return saveFileEntity(file, newFile, fileUploadTime);
+      return fileServerBlobStore.store(file, fileUploadTime, ipAddress);
     } catch (IOException | RuntimeException e) {
       throw new FileSaveFailedException(e);
     }
   }
 
-  private static File saveFileInServer(MultipartFile file, LocalDateTime now)
-      throws IOException {
-    LocalDate fileUploadDate = now.toLocalDate();
-    String fileDirectoryPath = getFileDirectoryPath(fileUploadDate);
-    String fileName = generateRandomFilename(file);
-    File newFile = new File(fileDirectoryPath + fileName);
-    file.transferTo(newFile);
-    return newFile;
+  @Transactional
+  @Override
+  public List<FileEntity> saveStoredFiles(List<StoredFile> storedFiles) {
+    if (storedFiles.isEmpty()) {
+      return List.of();
+    }
+    List<Long> ids;
+    try {
+      ids = insertFileEntities(storedFiles);
+    } catch (RuntimeException e) {
+      deleteStoredFiles(storedFiles);
+      throw e;
+    }
+    fileServerBlobStore.reference(storedFiles);
+
+    // 같은 내용의 파일은 경로가 같으므로 생성된 id 로 다시 조회한다.
+    Map<Long, FileEntity> fileEntities = fileRepository.findAllById(ids)
+        .stream()
+        .collect(Collectors.toMap(FileEntity::getId, Function.identity()));
+    return ids.stream()
+        .map(fileEntities::get)
+        .toList();
   }
 
-  private static String getFileDirectoryPath(LocalDate fileUploadDate) {
-    String fileUploadDirectory = DEFAULT_FILE_PATH + fileUploadDate + separator;
-    createDirectoryWhenIsNotExist(fileUploadDirectory);
-    return fileUploadDirectory;
+  /**
+   * IDENTITY 전략에서는 JPA 배치 insert 가 동작하지 않으므로 multi-row insert 한 번으로 저장한다.
+   */
+  private List<Long> insertFileEntities(List<StoredFile> storedFiles) {
+    String sql = INSERT_FILE_SQL + String.join(", ", Collections.nCopies(storedFiles.size(), INSERT_FILE_VALUES));
+    Object[] args = storedFiles.stream()
+        .flatMap(storedFile -> Stream.of(storedFile.fileName(), storedFile.filePath(),
+            storedFile.fileSize(), Timestamp.valueOf(storedFile.uploadTime()), storedFile.ipAddress()))
+        .toArray();
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.update(connection -> {
+      PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+      new ArgumentPreparedStatementSetter(args).setValues(statement);
+      return statement;
+    }, keyHolder);
+    return keyHolder.getKeyList()
+        .stream()
+        .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+        .toList();
   }
 
-  private static String generateRandomFilename(@NonNull MultipartFile file) {
-    String filename = file.getOriginalFilename();
-    String ext = filename.substring(filename.lastIndexOf("."));
-    return UUID.randomUUID() + ext;
+  /**
+   * 같은 내용의 파일이 다른 곳에서 참조되고 있으면 디스크에서 삭제하지 않는다.
+   */
+  @Override
+  public void deleteStoredFiles(List<StoredFile> storedFiles) {
+    fileServerBlobStore.discard(storedFiles);
   }
 
-  private FileEntity saveFileEntity(MultipartFile file, File newFile, LocalDateTime now) {
-    String ipAddress = WebUtil.getUserIP();
-    return fileRepository.save(
-        FileEntity.builder()
-            .fileName(file.getOriginalFilename())
-            .filePath(getFileUrl(newFile))
-            .fileSize(file.getSize())
-            .uploadTime(now)
-            .ipAddress(ipAddress)
-            .build());
+  @PreDestroy
+  void shutdownFileWriteExecutor() {
+    fileWriteExecutor.shutdown();
   }
 
-  private static String getFileUrl(File newFile) {
-    String path = newFile.getPath();
-    return path.substring(ROOT_PATH.length() + 1);
+  private static FileEntity toEntity(StoredFile storedFile) {
+    return FileEntity.builder()
+        .fileName(storedFile.fileName())
+        .filePath(storedFile.filePath())
+        .fileSize(storedFile.fileSize())
+        .uploadTime(storedFile.uploadTime())
+        .ipAddress(storedFile.ipAddress())
+        .build();
   }
 
   @Transactional
@@ -97,16 +196,11 @@ class FileServerUtil extends FileUtil {
     fileRepository.delete(fileEntity);
   }
 
+  /**
+   * 같은 내용의 파일을 참조하는 {@link FileEntity} 가 남아있지 않을 때만 디스크에서 삭제한다.
+   */
   @Override
   protected void deleteFile(FileEntity fileEntity) {
-    try {
-      String filePath = ROOT_PATH + separator + fileEntity.getFilePath();
-      File newFile = new File(filePath);
-      if (!newFile.delete()) {
-        throw new FileDeleteFailedException();
-      }
-    } catch (SecurityException e) {
-      throw new FileDeleteFailedException(e);
-    }
+    fileServerBlobStore.unlinkIfUnreferenced(fileEntity.getFilePath());
   }
 }
@@ -0,0 +1,53 @@
+package com.keeper.homepage.global.util.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버별 IP 단위 토큰 버킷. 한 IP 에서 몰려오는 요청을 Redis 를 거치기 전에 거절한다.
+ */
+class LocalTokenBucket {
+
+  private static final int BUCKET_CACHE_SIZE = 10_000;
+
+  private final int capacity;
+  private final double refillPerSecond;
+  private final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+      return size() > BUCKET_CACHE_SIZE;
+    }
+  };
+
+  LocalTokenBucket(int capacity, double refillPerSecond) {
+    this.capacity = capacity;
+    this.refillPerSecond = refillPerSecond;
+  }
+
+  /**
+   * @return 토큰을 얻었으면 0, 아니면 다음 토큰이 찰 때까지 남은 시간 (millis)
+   */
+  synchronized long tryConsume(String key, long nowNanos) {
+    Bucket bucket = buckets.computeIfAbsent(key, ignore -> new Bucket(capacity, nowNanos));
+    double elapsedSeconds = (double) (nowNanos - bucket.refilledNanos) / TimeUnit.SECONDS.toNanos(1);
+    bucket.tokens = Math.min(capacity, bucket.tokens + elapsedSeconds * refillPerSecond);
+    bucket.refilledNanos = nowNanos;
+    if (bucket.tokens >= 1) {
+      bucket.tokens--;
+      return 0;
+    }
+    return (long) Math.ceil((1 - bucket.tokens) / refillPerSecond * 1000);
+  }
+
+  private static class Bucket {
+
+    private double tokens;
+    private long refilledNanos;
+
+    private Bucket(double tokens, long refilledNanos) {
+      this.tokens = tokens;
+      this.refilledNanos = refilledNanos;
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.keeper.homepage.global.util.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 횟수 제한 정책. 기본값은 {@code rate-limit.{name}.limit}, {@code rate-limit.{name}.window-seconds} 설정으로 바꿀 수 있다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitPolicy {
+  SIGN_IN_LOGIN_ID("sign-in-login-id", 10, 5 * 60),
+  SIGN_IN_IP("sign-in-ip", 50, 5 * 60),
+  AUTH_CODE_EMAIL("auth-code-email", 5, 10 * 60),
+  AUTH_CODE_IP("auth-code-ip", 20, 10 * 60),
+  AUTH_CODE_CHECK_LOGIN_ID("auth-code-check-login-id", 10, 10 * 60),
+  SIGN_UP_IP("sign-up-ip", 10, 60 * 60);
+
+  private final String name;
+  private final int defaultLimit;
+  private final long defaultWindowSeconds;
+
+  public RateLimitKey key(String value) {
+    return new RateLimitKey(this, value);
+  }
+
+  /**
+   * @param value 로그인 아이디, 이메일, IP 등 횟수를 셀 대상. 대소문자를 구분하지 않는다.
+   */
+  public record RateLimitKey(RateLimitPolicy policy, String value) {
+
+  }
+}
@@ -0,0 +1,127 @@
+package com.keeper.homepage.global.util.ratelimit;
+
+import com.keeper.homepage.global.error.RateLimitException;
+import com.keeper.homepage.global.util.ratelimit.RateLimitPolicy.RateLimitKey;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인, 인증 메일 발송처럼 비용이 큰 요청의 횟수를 제한한다.
+ * <p>
+ * 먼저 서버별 IP 토큰 버킷({@code rate-limit.local.*})으로 순간적인 폭주를 막고, 통과한 요청은 Redis 의 sliding window 로 로그인
+ * 아이디, 이메일, IP 별 횟수를 모든 서버에 걸쳐 센다.
+ */
+@Component
+public class RateLimiter {
+
+  private static final String KEY_PREFIX = "rateLimit:";
+  private static final int DEFAULT_LOCAL_CAPACITY = 20;
+  private static final double DEFAULT_LOCAL_REFILL_PER_SECOND = 1;
+
+  /**
+   * KEYS: 횟수를 셀 키 / ARGV[1]: 요청 ID, ARGV[2i], ARGV[2i + 1]: i 번째 키의 허용 횟수, 구간 (millis)
+   * <p>
+   * 모든 키가 허용 횟수 안이면 요청을 기록하고 {0, 0} 을, 아니면 기록하지 않고 {다시 시도할 수 있을 때까지 남은 시간, 초과한 키 번호} 를 돌려준다.
+   * 서버마다 시계가 다를 수 있으므로 Redis 의 시각을 사용한다.
+   */
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> SLIDING_WINDOW_SCRIPT = RedisScript.of("""
+      local time = redis.call('TIME')
+      local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+      local retryAfter = 0
+      local exceededIndex = 0
+      for i, key in ipairs(KEYS) do
+        local limit = tonumber(ARGV[i * 2])
+        local window = tonumber(ARGV[i * 2 + 1])
+        redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+        if redis.call('ZCARD', key) >= limit then
+          local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+          local keyRetryAfter = (tonumber(oldest[2]) or now) + window - now
+          if keyRetryAfter > retryAfter then
+            retryAfter = keyRetryAfter
+            exceededIndex = i
+          end
+        end
+      end
+      if exceededIndex > 0 then
+        return {retryAfter, exceededIndex}
+      end
+      for i, key in ipairs(KEYS) do
+        redis.call('ZADD', key, now, ARGV[1])
+        redis.call('PEXPIRE', key, ARGV[i * 2 + 1])
+      end
+      return {0, 0}
+      """, List.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final boolean enabled;
+  private final LocalTokenBucket localTokenBucket;
+  private final Map<RateLimitPolicy, Limit> limits = new EnumMap<>(RateLimitPolicy.class);
+
+  public RateLimiter(StringRedisTemplate redisTemplate, Environment environment) {
+    this.redisTemplate = redisTemplate;
+    this.enabled = environment.getProperty("rate-limit.enabled", Boolean.class, true);
+    this.localTokenBucket = new LocalTokenBucket(
+        environment.getProperty("rate-limit.local.capacity", Integer.class, DEFAULT_LOCAL_CAPACITY),
+        environment.getProperty("rate-limit.local.refill-per-second", Double.class, DEFAULT_LOCAL_REFILL_PER_SECOND));
+    for (RateLimitPolicy policy : RateLimitPolicy.values()) {
+      String prefix = "rate-limit." + policy.getName();
+      limits.put(policy, new Limit(
+          environment.getProperty(prefix + ".limit", Integer.class, policy.getDefaultLimit()),
+          environment.getProperty(prefix + ".window-seconds", Long.class, policy.getDefaultWindowSeconds()) * 1000));
+    }
+  }
+
+  /**
+   * 모든 키가 허용 횟수 안일 때만 요청을 기록한다.
+   *
+   * @param ip 서버별 토큰 버킷을 나눌 IP
+   * @throws RateLimitException 허용 횟수를 초과한 경우 발생합니다.
+   */
+  public void acquire(String ip, RateLimitKey... keys) {
+    if (!enabled) {
+      return;
+    }
+    long localRetryAfterMillis = localTokenBucket.tryConsume(ip, System.nanoTime());
+    if (localRetryAfterMillis > 0) {
+      throw new RateLimitException(ip, "ip", toSeconds(localRetryAfterMillis));
+    }
+
+    List<String> redisKeys = new ArrayList<>();
+    List<String> args = new ArrayList<>();
+    args.add(UUID.randomUUID().toString());
+    for (RateLimitKey key : keys) {
+      Limit limit = limits.get(key.policy());
+      redisKeys.add(KEY_PREFIX + key.policy().getName() + ":" + normalize(key.value()));
+      args.add(String.valueOf(limit.limit()));
+      args.add(String.valueOf(limit.windowMillis()));
+    }
+    List<?> result = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, redisKeys, args.toArray());
+    long retryAfterMillis = ((Number) result.get(0)).longValue();
+    if (retryAfterMillis > 0) {
+      RateLimitKey exceededKey = keys[((Number) result.get(1)).intValue() - 1];
+      throw new RateLimitException(exceededKey.value(), exceededKey.policy().getName(),
+          toSeconds(retryAfterMillis));
+    }
+  }
+
+  private static String normalize(String value) {
+    return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static long toSeconds(long millis) {
+    return Math.max(1, (millis + 999) / 1000);
+  }
+
+  private record Limit(int limit, long windowMillis) {
+
+  }
+}
@@ -8,10 +8,14 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -21,6 +25,17 @@ public class RedisUtil {
   private final StringRedisTemplate redisTemplate;
   private final ObjectMapper objectMapper;
 
+  /**
+   * SADD 와 EXPIRE 사이에 서버가 죽어 만료 시간 없는 Set 이 남지 않도록 한 번에 실행한다.
+   */
+  private static final RedisScript<Long> ADD_TO_SET_WITH_EXPIRE_SCRIPT = RedisScript.of("""
+      local added = redis.call('SADD', KEYS[1], ARGV[1])
+      if added == 1 then
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+      end
+      return added
+      """, Long.class);
+
   public <T> Optional<T> getData(String key, Class<T> classType) {
     ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
     String value = valueOperations.get(key);
@@ -64,6 +79,25 @@ public class RedisUtil {
     return secondsUntilMidnight * 1000;
   }
 
+  public boolean addToSetWithExpire(String key, String value, long durationMillis) {
+    Long addedCount = redisTemplate.execute(ADD_TO_SET_WITH_EXPIRE_SCRIPT, List.of(key), value,
+        String.valueOf(durationMillis));
+    return addedCount != null && addedCount > 0;
+  }
+
+  public void increaseHashValue(String key, String hashKey, long delta) {
+    redisTemplate.opsForHash().increment(key, hashKey, delta);
+  }
+
+  public Map<String, String> getHashEntries(String key) {
+    HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+    return hashOperations.entries(key);
+  }
+
+  public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+    return redisTemplate.execute(script, keys, (Object[]) args);
+  }
+
   public void deleteData(String key) {
     redisTemplate.delete(key);
   }
@@ -1,15 +1,20 @@
 package com.keeper.homepage.global.util.thumbnail;
 
 
-import static java.awt.Image.SCALE_SMOOTH;
+import static java.awt.RenderingHints.KEY_INTERPOLATION;
+import static java.awt.RenderingHints.VALUE_INTERPOLATION_BILINEAR;
 import static java.awt.image.BufferedImage.TYPE_INT_RGB;
 
-import java.awt.Image;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Optional;
 import lombok.Getter;
 
 @Getter
 public enum ThumbnailType {
+  SMALL(64, 64),
+  MEDIUM(128, 128),
   DEFAULT(200, 200);
 
   private final int widthPixel;
@@ -20,10 +25,43 @@ public enum ThumbnailType {
     this.heightPixel = heightPixel;
   }
 
+  public static Optional<ThumbnailType> fromWidth(int widthPixel) {
+    return Arrays.stream(values())
+        .filter(type -> type.widthPixel == widthPixel)
+        .findFirst();
+  }
+
+  /**
+   * 디코딩 시 건너뛸 픽셀 간격. 점진적 축소의 품질을 위해 디코딩된 이미지가 썸네일 크기의 2배 이상이 되도록 한다.
+   */
+  public int getSubsampling(int originalWidth, int originalHeight) {
+    return Math.max(1, Math.min(originalWidth / (widthPixel * 2), originalHeight / (heightPixel * 2)));
+  }
+
+  /**
+   * 한 번에 크게 줄이면 bilinear 보간이 픽셀을 건너뛰므로 절반씩 여러 번 나눠서 줄인다.
+   */
   public BufferedImage resizing(BufferedImage original) {
-    Image scaledInstance = original.getScaledInstance(widthPixel, heightPixel, SCALE_SMOOTH);
-    BufferedImage outputImage = new BufferedImage(widthPixel, heightPixel, TYPE_INT_RGB);
-    outputImage.getGraphics().drawImage(scaledInstance, 0, 0, null);
-    return outputImage;
+    BufferedImage current = original;
+    int width = original.getWidth();
+    int height = original.getHeight();
+    do {
+      width = Math.max(widthPixel, width / 2);
+      height = Math.max(heightPixel, height / 2);
+      current = scale(current, width, height);
+    } while (width != widthPixel || height != heightPixel);
+    return current;
+  }
+
+  private static BufferedImage scale(BufferedImage source, int width, int height) {
+    BufferedImage scaled = new BufferedImage(width, height, TYPE_INT_RGB);
+    Graphics2D graphics = scaled.createGraphics();
+    try {
+      graphics.setRenderingHint(KEY_INTERPOLATION, VALUE_INTERPOLATION_BILINEAR);
+      graphics.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return scaled;
   }
 }
@@ -4,9 +4,12 @@ import static com.keeper.homepage.global.util.thumbnail.ThumbnailType.DEFAULT;
 
 import com.keeper.homepage.domain.thumbnail.entity.Thumbnail;
 import com.keeper.homepage.global.util.thumbnail.exception.ThumbnailException;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -14,6 +17,7 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 public abstract class ThumbnailUtil {
 
   public static final String THUMBNAIL_EXTENSION = ".jpeg";
+  public static final String THUMBNAIL_VARIANT_PATH = "thumbnails";
 
   /**
    * 타입은 기본적으로 {@link  ThumbnailType#DEFAULT} 가 들어갑니다. 그 외에는 {@code @see}를 참고해주세요.
@@ -26,7 +30,8 @@ public abstract class ThumbnailUtil {
 
   /**
    * @param thumbnail 이미지 파일이어야 합니다. if null, return {@code Optional.empty()}
-   * @return 썸네일 저장에 성공할 경우 {@link Thumbnail} 엔티티를 담아서 반환합니다.
+   * @return 썸네일 저장에 성공할 경우 {@link Thumbnail} 엔티티를 담아서 반환합니다. 썸네일 이미지는 트랜잭션이 커밋된 뒤 따로 만들어지며, 그
+   * 전까지 {@link Thumbnail#getPath()} 는 대기 중 이미지 경로입니다.
    * @throws IllegalArgumentException 이미지 파일이 아니거나 파일 이름의 길이가 너무 길 경우 발생합니다.
    * @throws NullPointerException     인자에 null이 포함되어 있을 경우 발생합니다.
    * @throws ThumbnailException       `ThumbnailUtil` 자체에 문제가 있을 경우 발생합니다.
@@ -66,5 +71,41 @@ public abstract class ThumbnailUtil {
     }
   }
 
+  /**
+   * 처리할 때가 된 썸네일 생성 작업을 현재 스레드에서 바로 처리합니다. 트랜잭션 안에서 호출하면 아직 커밋되지 않은 작업도 처리됩니다.
+   *
+   * @return 처리한 작업 수
+   */
+  public abstract int processPendingThumbnails();
+
   public abstract String getThumbnailPath(String thumbnailPath);
+
+  /**
+   * 크기별 썸네일을 반환합니다. 처음 요청된 크기는 원본 이미지로부터 만들어서 보관합니다.
+   *
+   * @param thumbnailPath {@link Thumbnail#getPath()}
+   * @throws com.keeper.homepage.global.error.BusinessException 해당 경로의 썸네일이 없을 경우 발생합니다.
+   * @throws ThumbnailException                                 썸네일 생성에 실패할 경우 발생합니다.
+   */
+  public abstract Resource getVariant(@NonNull String thumbnailPath, @NonNull ThumbnailType type);
+
+  /**
+   * @param thumbnailPath {@link Thumbnail#getPath()}. if null, return null
+   * @return {@code <img srcset>} 에 바로 쓸 수 있는 크기별 썸네일 경로. 예: {@code thumbnails/64/{경로} 64w, ..., {경로} 200w}
+   */
+  public static String getSrcset(String thumbnailPath) {
+    if (thumbnailPath == null) {
+      return null;
+    }
+    return Arrays.stream(ThumbnailType.values())
+        .map(type -> getVariantPath(thumbnailPath, type) + " " + type.getWidthPixel() + "w")
+        .collect(Collectors.joining(", "));
+  }
+
+  public static String getVariantPath(@NonNull String thumbnailPath, @NonNull ThumbnailType type) {
+    if (type == DEFAULT) {
+      return thumbnailPath;
+    }
+    return THUMBNAIL_VARIANT_PATH + "/" + type.getWidthPixel() + "/" + thumbnailPath;
+  }
 }
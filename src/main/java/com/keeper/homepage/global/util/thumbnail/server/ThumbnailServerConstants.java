@@ -1,9 +1,14 @@
 package com.keeper.homepage.global.util.thumbnail.server;
 
 import static com.keeper.homepage.global.util.file.server.FileServerConstants.RESOURCE_PATH;
+import static com.keeper.homepage.global.util.file.server.FileServerConstants.ROOT_PATH;
+import static com.keeper.homepage.global.util.thumbnail.ThumbnailUtil.THUMBNAIL_EXTENSION;
 import static java.io.File.separator;
 
 public class ThumbnailServerConstants {
 
   public static final String DEFAULT_THUMBNAIL_PATH = RESOURCE_PATH + "thumbnail" + separator;
+  public static final String VARIANT_THUMBNAIL_PATH = DEFAULT_THUMBNAIL_PATH + "variant" + separator;
+  public static final String PENDING_THUMBNAIL_FULL_PATH = DEFAULT_THUMBNAIL_PATH + "pending" + THUMBNAIL_EXTENSION;
+  public static final String PENDING_THUMBNAIL_PATH = PENDING_THUMBNAIL_FULL_PATH.substring(ROOT_PATH.length() + 1);
 }
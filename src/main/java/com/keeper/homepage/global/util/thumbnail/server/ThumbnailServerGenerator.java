@@ -0,0 +1,152 @@
+package com.keeper.homepage.global.util.thumbnail.server;
+
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerValidator.getValidImageReader;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerValidator.notImageFile;
+
+import com.keeper.homepage.global.util.thumbnail.ThumbnailType;
+import com.keeper.homepage.global.util.thumbnail.exception.ThumbnailException;
+import jakarta.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.imageio.IIOException;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드된 이미지를 한 번만 디코딩해서 썸네일을 만든다.
+ * <p>
+ * 헤더의 해상도가 {@code thumbnail.max-pixels} 를 넘는 이미지는 디코딩하지 않고, 디코딩할 때는 결과가 {@link #MAX_DECODED_PIXELS} 를 넘지
+ * 않도록 픽셀을 건너뛰며 읽는다. 디코딩은 크기가 정해진 작업 스레드에서만 실행하므로 디코딩에 쓰는 메모리는 최대
+ * {@code WORKER_COUNT * MAX_DECODED_PIXELS * 4} byte 로 제한된다.
+ */
+@Component
+class ThumbnailServerGenerator {
+
+  static final long MAX_DECODED_PIXELS = 2048L * 2048;
+
+  private static final int WORKER_COUNT = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+  private final long maxPixels;
+  private final ExecutorService thumbnailExecutor = Executors.newFixedThreadPool(WORKER_COUNT,
+      new CustomizableThreadFactory("thumbnail-"));
+
+  ThumbnailServerGenerator(
+      @Value("${thumbnail.max-pixels:" + ThumbnailServerValidator.DEFAULT_MAX_PIXELS + "}") long maxPixels) {
+    this.maxPixels = maxPixels;
+  }
+
+  /**
+   * 헤더만 읽어서 이미지 여부와 해상도를 확인한다.
+   *
+   * @throws IllegalArgumentException 이미지 파일이 아니거나 해상도가 너무 클 경우 발생합니다.
+   */
+  public void validate(MultipartFile file) throws IOException {
+    ThumbnailServerValidator.validate(file, maxPixels);
+  }
+
+  /**
+   * @throws IllegalArgumentException 이미지 파일이 아니거나 해상도가 너무 클 경우 발생합니다.
+   */
+  public BufferedImage generate(MultipartFile file, ThumbnailType type) throws IOException {
+    return submit(() -> generate(file.getInputStream(), file.getOriginalFilename(), type, maxPixels));
+  }
+
+  /**
+   * 파일에서 바로 읽으므로 원본을 메모리에 올리지 않는다.
+   *
+   * @param source 원본 이미지 파일 경로
+   * @throws IllegalArgumentException 이미지 파일이 아니거나 해상도가 너무 클 경우 발생합니다.
+   */
+  public BufferedImage generate(Path source, ThumbnailType type) throws IOException {
+    return submit(() -> {
+      try (ImageInputStream imageInputStream = new FileImageInputStream(source.toFile())) {
+        return generate(imageInputStream, source.getFileName().toString(), type, maxPixels);
+      }
+    });
+  }
+
+  private BufferedImage submit(Callable<BufferedImage> task) throws IOException {
+    Future<BufferedImage> future = thumbnailExecutor.submit(task);
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ThumbnailException("썸네일 생성 도중 인터럽트가 발생하였습니다.", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new ThumbnailException("썸네일 생성 도중 오류가 발생하였습니다.", e.getCause());
+    }
+  }
+
+  static BufferedImage generate(InputStream inputStream, String originalFilename, ThumbnailType type,
+      long maxPixels) throws IOException {
+    try (inputStream; ImageInputStream imageInputStream = new MemoryCacheImageInputStream(inputStream)) {
+      return generate(imageInputStream, originalFilename, type, maxPixels);
+    }
+  }
+
+  private static BufferedImage generate(ImageInputStream imageInputStream, String originalFilename,
+      ThumbnailType type, long maxPixels) throws IOException {
+    ImageReader reader = getValidImageReader(imageInputStream, originalFilename, maxPixels);
+    try {
+      return type.resizing(decode(reader, type, originalFilename));
+    } finally {
+      reader.dispose();
+    }
+  }
+
+  private static BufferedImage decode(ImageReader reader, ThumbnailType type, String originalFilename)
+      throws IOException {
+    int subsampling = getSubsampling(reader.getWidth(0), reader.getHeight(0), type);
+    ImageReadParam param = reader.getDefaultReadParam();
+    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+    try {
+      return reader.read(0, param);
+    } catch (IIOException e) {
+      throw notImageFile(originalFilename, e);
+    }
+  }
+
+  /**
+   * 썸네일 품질을 위한 간격보다 작더라도, 가로세로 비율이 극단적인 이미지는 디코딩 결과가 {@link #MAX_DECODED_PIXELS} 이하가 될 때까지 간격을
+   * 늘린다.
+   */
+  static int getSubsampling(int width, int height, ThumbnailType type) {
+    int subsampling = Math.max(type.getSubsampling(width, height),
+        (int) Math.sqrt((double) width * height / MAX_DECODED_PIXELS));
+    while (getDecodedPixels(width, height, subsampling) > MAX_DECODED_PIXELS) {
+      subsampling++;
+    }
+    return subsampling;
+  }
+
+  static long getDecodedPixels(int width, int height, int subsampling) {
+    return (long) ((width + subsampling - 1) / subsampling) * ((height + subsampling - 1) / subsampling);
+  }
+
+  @PreDestroy
+  void shutdownThumbnailExecutor() {
+    thumbnailExecutor.shutdown();
+  }
+}
@@ -0,0 +1,250 @@
+package com.keeper.homepage.global.util.thumbnail.server;
+
+import static com.keeper.homepage.global.util.file.server.FileServerConstants.ROOT_PATH;
+import static com.keeper.homepage.global.util.thumbnail.ThumbnailUtil.THUMBNAIL_EXTENSION;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerConstants.PENDING_THUMBNAIL_FULL_PATH;
+
+import com.keeper.homepage.domain.post.dao.PostRepository;
+import com.keeper.homepage.domain.post.event.PostChangedEvent;
+import com.keeper.homepage.domain.thumbnail.dao.ThumbnailJobRepository;
+import com.keeper.homepage.domain.thumbnail.dao.ThumbnailJobSource;
+import com.keeper.homepage.domain.thumbnail.dao.ThumbnailRepository;
+import com.keeper.homepage.domain.thumbnail.entity.Thumbnail;
+import com.keeper.homepage.domain.thumbnail.entity.ThumbnailJob;
+import com.keeper.homepage.global.util.thumbnail.ThumbnailType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import javax.imageio.ImageIO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * DB 에 저장된 썸네일 생성 작업을 처리한다.
+ * <p>
+ * 새 작업은 트랜잭션이 커밋된 뒤 바로 처리하고, 실패한 작업의 재시도와 서버가 죽어서 끝나지 못한 작업은 주기적으로 다시 찾아서 처리한다. 이미지가 아닌
+ * 파일처럼 다시 시도해도 실패할 작업은 바로 실패 처리한다.
+ * <p>
+ * 게시글 목록 캐시와 트렌드 게시글은 썸네일 경로를 복사해 두므로, 썸네일이 준비되면 그 썸네일을 쓰는 게시글마다 {@link PostChangedEvent} 를
+ * 발행한다.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+class ThumbnailServerJobQueue {
+
+  private static final int WORKER_COUNT = 2;
+  private static final int POLL_BATCH_SIZE = 100;
+  private static final int MAX_ATTEMPT_COUNT = 5;
+  private static final long LEASE_SECONDS = 300;
+  private static final long RETRY_DELAY_SECONDS = 30;
+  private static final Color PENDING_THUMBNAIL_COLOR = new Color(0xEE, 0xEE, 0xEE);
+
+  private final ThumbnailJobRepository thumbnailJobRepository;
+  private final ThumbnailRepository thumbnailRepository;
+  private final PostRepository postRepository;
+  private final ThumbnailServerGenerator thumbnailServerGenerator;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final ExecutorService jobExecutor = Executors.newFixedThreadPool(WORKER_COUNT,
+      new CustomizableThreadFactory("thumbnail-job-"));
+  private final Set<Long> runningJobIds = ConcurrentHashMap.newKeySet();
+
+  @PostConstruct
+  void createPendingThumbnail() {
+    File pendingThumbnail = new File(PENDING_THUMBNAIL_FULL_PATH);
+    if (pendingThumbnail.exists()) {
+      return;
+    }
+    ThumbnailType type = ThumbnailType.DEFAULT;
+    BufferedImage image = new BufferedImage(type.getWidthPixel(), type.getHeightPixel(), BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    try {
+      graphics.setColor(PENDING_THUMBNAIL_COLOR);
+      graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+    } finally {
+      graphics.dispose();
+    }
+    try {
+      Files.createDirectories(pendingThumbnail.toPath().getParent());
+      ImageIO.write(image, THUMBNAIL_EXTENSION.substring(1), pendingThumbnail);
+    } catch (IOException e) {
+      log.warn("Failed to create pending thumbnail. path: {}", PENDING_THUMBNAIL_FULL_PATH, e);
+    }
+  }
+
+  /**
+   * 썸네일 생성 작업을 저장하고, 현재 트랜잭션이 커밋되면 바로 처리를 시작한다.
+   */
+  void enqueue(Thumbnail thumbnail, ThumbnailType type) {
+    ThumbnailJob job = thumbnailJobRepository.save(ThumbnailJob.builder()
+        .thumbnail(thumbnail)
+        .type(type)
+        // DB 에서 초 단위로 반올림되어 바로 처리되지 않는 일이 없도록 초 단위로 버린다.
+        .nextAttemptTime(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))
+        .build());
+    long jobId = job.getId();
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      submit(jobId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        submit(jobId);
+      }
+    });
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelay = 60_000, initialDelay = 60_000) // 1분마다 실행
+  public void pollDueJobs() {
+    thumbnailJobRepository.findAllDueIds(LocalDateTime.now(), PageRequest.of(0, POLL_BATCH_SIZE))
+        .forEach(this::submit);
+  }
+
+  /**
+   * 처리할 때가 된 작업을 현재 스레드에서 바로 처리한다.
+   *
+   * @return 처리한 작업 수
+   */
+  int processDueJobs() {
+    List<Long> jobIds = thumbnailJobRepository.findAllDueIds(LocalDateTime.now(),
+        PageRequest.of(0, POLL_BATCH_SIZE));
+    jobIds.forEach(this::process);
+    return jobIds.size();
+  }
+
+  private void submit(long jobId) {
+    if (!runningJobIds.add(jobId)) {
+      return;
+    }
+    try {
+      jobExecutor.execute(() -> {
+        try {
+          process(jobId);
+        } finally {
+          runningJobIds.remove(jobId);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // 서버 종료 중이면 다음에 실행될 때 다시 처리된다.
+      runningJobIds.remove(jobId);
+    }
+  }
+
+  private void process(long jobId) {
+    Optional<ThumbnailJobSource> claimed = transactionTemplate.execute(status -> claim(jobId));
+    if (claimed.isEmpty()) {
+      return;
+    }
+    ThumbnailJobSource source = claimed.get();
+    String thumbnailFullPath;
+    try {
+      thumbnailFullPath = generate(source);
+    } catch (IllegalArgumentException e) {
+      log.warn("Thumbnail source is not an image. thumbnailId: {}", source.thumbnailId(), e);
+      transactionTemplate.executeWithoutResult(status -> fail(source));
+      return;
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to generate thumbnail. thumbnailId: {}, attempt: {}", source.thumbnailId(),
+          source.attemptCount(), e);
+      transactionTemplate.executeWithoutResult(status -> retryOrFail(source));
+      return;
+    }
+    complete(source, thumbnailFullPath);
+  }
+
+  private Optional<ThumbnailJobSource> claim(long jobId) {
+    LocalDateTime now = LocalDateTime.now();
+    if (thumbnailJobRepository.claim(jobId, now, now.plusSeconds(LEASE_SECONDS)) == 0) {
+      return Optional.empty();
+    }
+    return thumbnailJobRepository.findSourceById(jobId);
+  }
+
+  private String generate(ThumbnailJobSource source) throws IOException {
+    BufferedImage image = thumbnailServerGenerator.generate(Path.of(ROOT_PATH, source.filePath()), source.type());
+    String thumbnailFullPath = ThumbnailServerPathGenerator.generate();
+    ImageIO.write(image, THUMBNAIL_EXTENSION.substring(1), new File(thumbnailFullPath));
+    return thumbnailFullPath;
+  }
+
+  private void complete(ThumbnailJobSource source, String thumbnailFullPath) {
+    try {
+      Boolean completed = transactionTemplate.execute(status -> {
+        Optional<Thumbnail> thumbnail = thumbnailRepository.findById(source.thumbnailId());
+        thumbnail.ifPresent(value -> {
+          value.ready(thumbnailFullPath.substring(ROOT_PATH.length() + 1));
+          postRepository.findAllByThumbnail(value).forEach(post ->
+              eventPublisher.publishEvent(new PostChangedEvent(post.getId(), post.getCategory().getId())));
+        });
+        thumbnailJobRepository.deleteByJobId(source.jobId());
+        return thumbnail.isPresent();
+      });
+      if (!Boolean.TRUE.equals(completed)) {
+        // 처리하는 도중 썸네일이 삭제되었다.
+        Files.deleteIfExists(Path.of(thumbnailFullPath));
+      }
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to complete thumbnail job. thumbnailId: {}", source.thumbnailId(), e);
+      deleteQuietly(thumbnailFullPath);
+    }
+  }
+
+  private void retryOrFail(ThumbnailJobSource source) {
+    if (source.attemptCount() >= MAX_ATTEMPT_COUNT) {
+      fail(source);
+      return;
+    }
+    long delaySeconds = RETRY_DELAY_SECONDS << (source.attemptCount() - 1);
+    thumbnailJobRepository.retryAt(source.jobId(), LocalDateTime.now().plusSeconds(delaySeconds));
+  }
+
+  private void fail(ThumbnailJobSource source) {
+    thumbnailRepository.findById(source.thumbnailId())
+        .ifPresent(Thumbnail::fail);
+    thumbnailJobRepository.deleteByJobId(source.jobId());
+  }
+
+  private static void deleteQuietly(String path) {
+    try {
+      Files.deleteIfExists(Path.of(path));
+    } catch (IOException e) {
+      log.warn("Failed to delete thumbnail. path: {}", path, e);
+    }
+  }
+
+  @PreDestroy
+  void shutdownJobExecutor() {
+    jobExecutor.shutdown();
+  }
+}
@@ -1,30 +1,33 @@
 package com.keeper.homepage.global.util.thumbnail.server;
 
 import static com.keeper.homepage.global.util.file.server.FileServerConstants.ROOT_PATH;
-import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerValidator.checkInvalidImageFile;
+import static com.keeper.homepage.global.error.ErrorCode.THUMBNAIL_NOT_FOUND;
+import static com.keeper.homepage.global.util.thumbnail.ThumbnailType.DEFAULT;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerConstants.PENDING_THUMBNAIL_FULL_PATH;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerConstants.PENDING_THUMBNAIL_PATH;
 import static java.io.File.separator;
 
 import com.keeper.homepage.domain.file.entity.FileEntity;
+import com.keeper.homepage.domain.thumbnail.dao.ThumbnailJobRepository;
 import com.keeper.homepage.domain.thumbnail.dao.ThumbnailRepository;
+import com.keeper.homepage.domain.thumbnail.dao.ThumbnailSource;
 import com.keeper.homepage.domain.thumbnail.entity.Thumbnail;
+import com.keeper.homepage.domain.thumbnail.entity.Thumbnail.ThumbnailStatus;
+import com.keeper.homepage.global.error.BusinessException;
 import com.keeper.homepage.global.util.file.FileUtil;
 import com.keeper.homepage.global.util.thumbnail.ThumbnailType;
 import com.keeper.homepage.global.util.thumbnail.ThumbnailUtil;
 import com.keeper.homepage.global.util.thumbnail.exception.ThumbnailException;
-import java.awt.image.BufferedImage;
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import javax.imageio.ImageIO;
+import java.nio.file.Paths;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -34,7 +37,11 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 class ThumbnailServerUtil extends ThumbnailUtil {
 
   private final ThumbnailRepository thumbnailRepository;
+  private final ThumbnailJobRepository thumbnailJobRepository;
   private final FileUtil fileUtil;
+  private final ThumbnailServerGenerator thumbnailServerGenerator;
+  private final ThumbnailServerJobQueue thumbnailServerJobQueue;
+  private final ThumbnailServerVariantCache thumbnailServerVariantCache;
 
   @Transactional
   @Override
@@ -51,64 +58,36 @@ class ThumbnailServerUtil extends ThumbnailUtil {
   }
 
   private Thumbnail trySave(MultipartFile file, ThumbnailType type) throws IOException {
-    byte[] fileData = getFileData(file);
-    checkInvalidImageFile(fileData, file.getOriginalFilename());
+    thumbnailServerGenerator.validate(file);
     FileEntity fileEntity = fileUtil.saveFile(file).orElseThrow(RuntimeException::new);
-    String fullPath = ThumbnailServerPathGenerator.generate();
-    tryResizingAndSave(fullPath, fileData, type);
-    return saveThumbnailEntity(fullPath, type, fileEntity);
-  }
-
-  private static byte[] getFileData(MultipartFile file) throws IOException {
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    FileCopyUtils.copy(file.getInputStream(), outputStream);
-    return outputStream.toByteArray();
-  }
-
-  private static void tryResizingAndSave(String path, byte[] fileData, ThumbnailType type)
-      throws IOException {
-    BufferedImage bufferedImage = ImageIO.read(new ByteArrayInputStream(fileData));
-    BufferedImage resizingBufferedImage = type.resizing(bufferedImage);
-    File thumbnail = new File(path);
-    ImageIO.write(resizingBufferedImage, THUMBNAIL_EXTENSION.substring(1), thumbnail);
-  }
-
-  private Thumbnail saveThumbnailEntity(String fullPath, ThumbnailType type, FileEntity fileEntity)
-      throws IOException {
-    try {
-      return trySaveThumbnailEntity(fullPath, type, fileEntity);
-    } catch (RuntimeException e) {
-      Files.deleteIfExists(Path.of(fullPath));
-      throw e;
-    }
-  }
-
-  private Thumbnail trySaveThumbnailEntity(String thumbnailFullPath, ThumbnailType type,
-      FileEntity fileEntity) {
-    String thumbnailURI = getThumbnailURI(thumbnailFullPath);
-    return thumbnailRepository.save(Thumbnail.builder()
-        .path(thumbnailURI)
+    Thumbnail thumbnail = thumbnailRepository.save(Thumbnail.builder()
+        .path(PENDING_THUMBNAIL_PATH)
         .fileEntity(fileEntity)
+        .status(ThumbnailStatus.PENDING)
         .build());
+    thumbnailServerJobQueue.enqueue(thumbnail, type);
+    return thumbnail;
   }
 
-  private String getThumbnailURI(String thumbnailFullPath) {
-    String thumbnailURI = thumbnailFullPath;
-    if (thumbnailFullPath.startsWith(ROOT_PATH)) {
-      thumbnailURI = thumbnailFullPath.substring(ROOT_PATH.length() + 1);
-    }
-    return thumbnailURI;
+  @Override
+  public int processPendingThumbnails() {
+    return thumbnailServerJobQueue.processDueJobs();
   }
 
   @Transactional
   @Override
   protected void deleteEntity(Thumbnail thumbnail) {
+    thumbnailJobRepository.deleteByThumbnailId(thumbnail.getId());
     thumbnailRepository.delete(thumbnail);
   }
 
   @Override
   protected void deleteFile(Thumbnail thumbnail) {
+    thumbnailServerVariantCache.remove(thumbnail.getId());
     fileUtil.deleteFileAndEntity(thumbnail.getFileEntity());
+    if (!thumbnail.isReady()) {
+      return;
+    }
     String thumbnailFilePath = ROOT_PATH + separator + thumbnail.getPath();
     try {
       Files.deleteIfExists(Path.of(thumbnailFilePath));
@@ -117,6 +96,27 @@ class ThumbnailServerUtil extends ThumbnailUtil {
     }
   }
 
+  @Override
+  public Resource getVariant(String thumbnailPath, ThumbnailType type) {
+    if (thumbnailPath.equals(PENDING_THUMBNAIL_PATH)) {
+      return new FileSystemResource(Paths.get(PENDING_THUMBNAIL_FULL_PATH));
+    }
+    ThumbnailSource source = thumbnailRepository.findSourceByPath(thumbnailPath)
+        .orElseThrow(() -> new BusinessException(thumbnailPath, "thumbnailPath", THUMBNAIL_NOT_FOUND));
+    if (type == DEFAULT) {
+      return new FileSystemResource(Paths.get(ROOT_PATH, thumbnailPath));
+    }
+    try {
+      Path variant = thumbnailServerVariantCache.getOrGenerate(source.thumbnailId(),
+          Paths.get(ROOT_PATH, source.filePath()), type);
+      return new FileSystemResource(variant);
+    } catch (IOException | RuntimeException e) {
+      String message = "크기별 썸네일을 만드는 도중 오류가 발생하였습니다. 썸네일 경로: " + thumbnailPath;
+      log.warn(message, e);
+      throw new ThumbnailException(message, e);
+    }
+  }
+
   public String getThumbnailPath(String thumbnailPath) {
     return ServletUriComponentsBuilder.fromCurrentContextPath()
         .path(thumbnailPath)
@@ -1,20 +1,68 @@
 package com.keeper.homepage.global.util.thumbnail.server;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.util.Iterator;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import org.springframework.web.multipart.MultipartFile;
 
 class ThumbnailServerValidator {
 
-  public static void checkInvalidImageFile(byte[] fileData, String originalFilename) throws IOException {
-    if (isNotImageFile(fileData)) {
-      throw new IllegalArgumentException("파일이 이미지가 아닙니다. 파일 이름: " + originalFilename);
+  /**
+   * 헤더에 적힌 해상도의 기본 상한. 작은 파일이 아주 큰 해상도를 선언해 디코딩 시 메모리를 고갈시키는 것을 막는다.
+   */
+  public static final long DEFAULT_MAX_PIXELS = 100_000_000L;
+
+  /**
+   * 파일 헤더만 읽어서 이미지 여부와 해상도를 확인하므로 이미지 전체를 디코딩하지 않는다.
+   *
+   * @param maxPixels 허용하는 최대 픽셀 수 (가로 * 세로)
+   * @return 헤더를 읽은 상태의 {@link ImageReader}. 사용 후 {@link ImageReader#dispose()} 해야 한다.
+   * @throws IllegalArgumentException 이미지 파일이 아니거나 해상도가 {@code maxPixels} 를 넘을 경우 발생합니다.
+   */
+  public static ImageReader getValidImageReader(ImageInputStream imageInputStream, String originalFilename,
+      long maxPixels) {
+    Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+    if (!readers.hasNext()) {
+      throw notImageFile(originalFilename, null);
+    }
+    ImageReader reader = readers.next();
+    reader.setInput(imageInputStream, true, true);
+    int width;
+    int height;
+    try {
+      width = reader.getWidth(0);
+      height = reader.getHeight(0);
+    } catch (IOException | RuntimeException e) {
+      reader.dispose();
+      throw notImageFile(originalFilename, e);
+    }
+    if (width <= 0 || height <= 0) {
+      reader.dispose();
+      throw notImageFile(originalFilename, null);
+    }
+    if ((long) width * height > maxPixels) {
+      reader.dispose();
+      throw new IllegalArgumentException(
+          "이미지 해상도가 너무 큽니다. 파일 이름: %s, 해상도: %dx%d".formatted(originalFilename, width, height));
+    }
+    return reader;
+  }
+
+  /**
+   * 썸네일 생성은 나중에 하므로 저장 전에 헤더만 읽어서 이미지 여부를 미리 확인한다.
+   *
+   * @throws IllegalArgumentException 이미지 파일이 아니거나 해상도가 {@code maxPixels} 를 넘을 경우 발생합니다.
+   */
+  public static void validate(MultipartFile file, long maxPixels) throws IOException {
+    try (ImageInputStream imageInputStream = new MemoryCacheImageInputStream(file.getInputStream())) {
+      getValidImageReader(imageInputStream, file.getOriginalFilename(), maxPixels).dispose();
     }
   }
 
-  private static boolean isNotImageFile(byte[] fileData) throws IOException {
-    InputStream originalInputStream = new ByteArrayInputStream(fileData);
-    return ImageIO.read(originalInputStream) == null;
+  static IllegalArgumentException notImageFile(String originalFilename, Throwable cause) {
+    return new IllegalArgumentException("파일이 이미지가 아닙니다. 파일 이름: " + originalFilename, cause);
   }
 }
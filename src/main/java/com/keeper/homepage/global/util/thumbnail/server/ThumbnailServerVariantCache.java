@@ -0,0 +1,181 @@
+package com.keeper.homepage.global.util.thumbnail.server;
+
+import static com.keeper.homepage.global.util.thumbnail.ThumbnailUtil.THUMBNAIL_EXTENSION;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerConstants.VARIANT_THUMBNAIL_PATH;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.keeper.homepage.global.util.thumbnail.ThumbnailType;
+import com.keeper.homepage.global.util.thumbnail.exception.ThumbnailException;
+import jakarta.annotation.PostConstruct;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 크기별 썸네일을 처음 요청될 때 원본 이미지로부터 만들어 디스크에 보관한다.
+ * <p>
+ * 보관된 파일의 전체 크기가 {@link #MAX_CACHE_BYTES} 를 넘으면 가장 오래 사용되지 않은 파일부터 지운다. 같은 썸네일을 동시에 요청하면 한 요청만
+ * 생성하고 나머지는 그 결과를 기다린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class ThumbnailServerVariantCache {
+
+  private static final long MAX_CACHE_BYTES = 256L * 1024 * 1024;
+  private static final String TEMP_EXTENSION = ".tmp";
+
+  private final ThumbnailServerGenerator thumbnailServerGenerator;
+
+  private final LinkedHashMap<Path, Long> variants = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<Path, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+  private long totalBytes = 0;
+
+  /**
+   * 재시작 전에 만들어둔 파일을 마지막 수정 시간 순으로 다시 등록한다.
+   */
+  @PostConstruct
+  void loadVariants() throws IOException {
+    Path root = Paths.get(VARIANT_THUMBNAIL_PATH);
+    Files.createDirectories(root);
+    try (Stream<Path> paths = Files.walk(root)) {
+      paths.filter(Files::isRegularFile)
+          .filter(path -> path.toString().endsWith(THUMBNAIL_EXTENSION))
+          .sorted(Comparator.comparing(ThumbnailServerVariantCache::getLastModifiedTime))
+          .forEach(this::register);
+    }
+  }
+
+  private static long getLastModifiedTime(Path path) {
+    try {
+      return Files.readAttributes(path, BasicFileAttributes.class).lastModifiedTime().toMillis();
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * @param source 원본 이미지 파일 경로
+   * @return 크기별 썸네일 파일 경로
+   */
+  public Path getOrGenerate(long thumbnailId, Path source, ThumbnailType type) throws IOException {
+    Path variant = Paths.get(VARIANT_THUMBNAIL_PATH, String.valueOf(type.getWidthPixel()),
+        thumbnailId + THUMBNAIL_EXTENSION);
+    if (touch(variant)) {
+      return variant;
+    }
+
+    CompletableFuture<Path> generation = new CompletableFuture<>();
+    CompletableFuture<Path> running = inFlight.putIfAbsent(variant, generation);
+    if (running != null) {
+      return await(running);
+    }
+    try {
+      generate(source, variant, type);
+      register(variant);
+      generation.complete(variant);
+      return variant;
+    } catch (IOException | RuntimeException e) {
+      generation.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(variant, generation);
+    }
+  }
+
+  private synchronized boolean touch(Path variant) {
+    return variants.get(variant) != null && Files.exists(variant);
+  }
+
+  private static Path await(CompletableFuture<Path> running) throws IOException {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new ThumbnailException("썸네일 생성 도중 오류가 발생하였습니다.", e.getCause());
+    }
+  }
+
+  private void generate(Path source, Path variant, ThumbnailType type) throws IOException {
+    BufferedImage image = thumbnailServerGenerator.generate(source, type);
+    Files.createDirectories(variant.getParent());
+    // 다 쓰지 않은 파일이 노출되지 않도록 임시 파일에 쓴 뒤 옮긴다.
+    Path temp = variant.resolveSibling(variant.getFileName() + TEMP_EXTENSION);
+    try {
+      ImageIO.write(image, THUMBNAIL_EXTENSION.substring(1), temp.toFile());
+      Files.move(temp, variant, ATOMIC_MOVE, REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private synchronized void register(Path variant) {
+    long size;
+    try {
+      size = Files.size(variant);
+    } catch (IOException e) {
+      return;
+    }
+    Long previous = variants.put(variant, size);
+    totalBytes += size - (previous == null ? 0 : previous);
+    evict(variant);
+  }
+
+  private void evict(Path recent) {
+    Iterator<Entry<Path, Long>> eldest = variants.entrySet().iterator();
+    while (totalBytes > MAX_CACHE_BYTES && eldest.hasNext()) {
+      Entry<Path, Long> entry = eldest.next();
+      if (entry.getKey().equals(recent)) {
+        continue;
+      }
+      eldest.remove();
+      totalBytes -= entry.getValue();
+      try {
+        Files.deleteIfExists(entry.getKey());
+      } catch (IOException e) {
+        log.warn("크기별 썸네일 삭제 실패 : {}", entry.getKey(), e);
+      }
+    }
+  }
+
+  /**
+   * 원본 썸네일이 삭제될 때 크기별 썸네일도 함께 삭제한다.
+   */
+  public synchronized void remove(long thumbnailId) {
+    for (ThumbnailType type : ThumbnailType.values()) {
+      Path variant = Paths.get(VARIANT_THUMBNAIL_PATH, String.valueOf(type.getWidthPixel()),
+          thumbnailId + THUMBNAIL_EXTENSION);
+      Long size = variants.remove(variant);
+      if (size != null) {
+        totalBytes -= size;
+      }
+      try {
+        Files.deleteIfExists(variant);
+      } catch (IOException e) {
+        log.warn("크기별 썸네일 삭제 실패 : {}", variant, e);
+      }
+    }
+  }
+}
@@ -22,6 +22,7 @@ import com.keeper.homepage.domain.auth.application.EmailAuthService;
 import com.keeper.homepage.domain.auth.application.SignInService;
 import com.keeper.homepage.domain.auth.application.SignUpService;
 import com.keeper.homepage.domain.auth.dao.redis.EmailAuthRedisRepository;
+import com.keeper.homepage.domain.auth.dao.redis.RefreshTokenRepository;
 import com.keeper.homepage.domain.comment.CommentTestHelper;
 import com.keeper.homepage.domain.comment.application.CommentService;
 import com.keeper.homepage.domain.comment.dao.CommentRepository;
@@ -65,6 +66,7 @@ import com.keeper.homepage.domain.member.application.MemberJobService;
 import com.keeper.homepage.domain.member.application.MemberProfileService;
 import com.keeper.homepage.domain.member.application.MemberService;
 import com.keeper.homepage.domain.member.application.convenience.MemberFindService;
+import com.keeper.homepage.domain.member.application.convenience.MemberPrincipalService;
 import com.keeper.homepage.domain.member.dao.MemberRepository;
 import com.keeper.homepage.domain.member.dao.comment.MemberHasCommentDislikeRepository;
 import com.keeper.homepage.domain.member.dao.comment.MemberHasCommentLikeRepository;
@@ -86,7 +88,13 @@ import com.keeper.homepage.domain.point.application.GivePointService;
 import com.keeper.homepage.domain.point.application.PointLogService;
 import com.keeper.homepage.domain.point.dao.PointLogRepository;
 import com.keeper.homepage.domain.post.PostTestHelper;
+import com.keeper.homepage.domain.post.application.PostCounterService;
+import com.keeper.homepage.domain.post.application.PostNavigationService;
+import com.keeper.homepage.domain.post.application.PostResponseCacheService;
+import com.keeper.homepage.domain.post.application.PostSearchService;
 import com.keeper.homepage.domain.post.application.PostService;
+import com.keeper.homepage.domain.post.application.PostTrendService;
+import com.keeper.homepage.domain.post.application.PostVisitCountService;
 import com.keeper.homepage.domain.post.dao.PostHasFileRepository;
 import com.keeper.homepage.domain.post.dao.PostRepository;
 import com.keeper.homepage.domain.post.dao.category.CategoryRepository;
@@ -114,6 +122,7 @@ import com.keeper.homepage.global.config.password.PasswordFactory;
 import com.keeper.homepage.global.config.security.JwtTokenProvider;
 import com.keeper.homepage.global.util.file.FileUtil;
 import com.keeper.homepage.global.util.mail.MailUtil;
+import com.keeper.homepage.global.util.ratelimit.RateLimiter;
 import com.keeper.homepage.global.util.redis.RedisUtil;
 import com.keeper.homepage.global.util.thumbnail.ThumbnailTestHelper;
 import com.keeper.homepage.global.util.thumbnail.ThumbnailUtil;
@@ -142,7 +151,7 @@ import org.springframework.web.filter.CharacterEncodingFilter;
 
 @ExtendWith({RestDocumentationExtension.class})
 @Transactional
-@SpringBootTest
+@SpringBootTest(properties = "rate-limit.enabled=false")
 public class IntegrationTest {
 
   public static final Random RANDOM = new Random();
@@ -232,6 +241,9 @@ public class IntegrationTest {
   @Autowired
   protected EmailAuthRedisRepository emailAuthRedisRepository;
 
+  @Autowired
+  protected RefreshTokenRepository refreshTokenRepository;
+
   @Autowired
   protected GameRepository gameRepository;
 
@@ -323,6 +335,24 @@ public class IntegrationTest {
   @SpyBean
   protected PostService postService;
 
+  @Autowired
+  protected PostVisitCountService postVisitCountService;
+
+  @Autowired
+  protected PostTrendService postTrendService;
+
+  @Autowired
+  protected PostSearchService postSearchService;
+
+  @Autowired
+  protected PostCounterService postCounterService;
+
+  @Autowired
+  protected PostNavigationService postNavigationService;
+
+  @Autowired
+  protected PostResponseCacheService postResponseCacheService;
+
   @Autowired
   protected ValidSeminarFindService validSeminarFindService;
 
@@ -472,6 +502,9 @@ public class IntegrationTest {
   @SpyBean
   protected MailUtil mailUtil;
 
+  @SpyBean
+  protected RateLimiter rateLimiter;
+
   protected PasswordEncoder passwordEncoder = PasswordFactory.getPasswordEncoder();
 
   /******* Spring Bean *******/
@@ -481,6 +514,9 @@ public class IntegrationTest {
   @Autowired
   protected JwtTokenProvider jwtTokenProvider;
 
+  @Autowired
+  protected MemberPrincipalService memberPrincipalService;
+
   @Autowired
   protected ObjectMapper objectMapper;
 
@@ -2,10 +2,15 @@ package com.keeper.homepage.domain.auth.api;
 
 import static com.keeper.homepage.global.config.security.data.JwtType.ACCESS_TOKEN;
 import static com.keeper.homepage.global.config.security.data.JwtType.REFRESH_TOKEN;
+import static com.keeper.homepage.global.util.ratelimit.RateLimitPolicy.SIGN_IN_LOGIN_ID;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.restdocs.cookies.CookieDocumentation.cookieWithName;
 import static org.springframework.restdocs.cookies.CookieDocumentation.responseCookies;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -19,6 +24,7 @@ import static org.springframework.restdocs.request.RequestDocumentation.paramete
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,12 +36,17 @@ import com.keeper.homepage.domain.auth.dto.request.SignInRequest;
 import com.keeper.homepage.domain.member.entity.Member;
 import com.keeper.homepage.domain.member.entity.embedded.LoginId;
 import com.keeper.homepage.domain.member.entity.embedded.Password;
+import com.keeper.homepage.global.error.RateLimitException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.util.LinkedMultiValueMap;
 
 class SignInControllerTest extends IntegrationTest {
@@ -99,6 +110,58 @@ class SignInControllerTest extends IntegrationTest {
               )
           ));
     }
+
+    @Test
+    @DisplayName("이전 홈페이지의 MD5 비밀번호로 로그인하면 현재 알고리즘으로 다시 해시되어야 한다.")
+    void should_rehashPassword_when_signInWithLegacyPassword() throws Exception {
+      Member legacyMember = memberTestHelper.builder()
+          .loginId(LoginId.from("legacyId"))
+          .password(Password.from("password123", new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+              try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("MD5")
+                    .digest(rawPassword.toString().getBytes()));
+              } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+              }
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+              return false;
+            }
+          }))
+          .build();
+      assertThat(legacyMember.getProfile().getPassword().needsRehash()).isTrue();
+
+      mockMvc.perform(post("/sign-in")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(asJsonString(SignInRequest.builder()
+                  .loginId("legacyId")
+                  .rawPassword("password123")
+                  .build())))
+          .andExpect(status().isOk());
+
+      Password password = legacyMember.getProfile().getPassword();
+      assertThat(password.needsRehash()).isFalse();
+      assertThat(password.isWrongPassword("password123")).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청 횟수를 초과하면 로그인을 시도하지 않고 429 와 Retry-After 헤더를 반환해야 한다.")
+    void should_tooManyRequests_when_rateLimitExceeded() throws Exception {
+      doThrow(new RateLimitException("loginId", SIGN_IN_LOGIN_ID.getName(), 30))
+          .when(rateLimiter).acquire(anyString(), any());
+
+      mockMvc.perform(post("/sign-in")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(asJsonString(validRequest)))
+          .andExpect(status().isTooManyRequests())
+          .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+
+      verify(signInService, never()).signIn(any(), any(), any(), any());
+    }
   }
 
   @Nested
@@ -42,8 +42,9 @@ class SignOutControllerTest extends IntegrationTest {
         void should_successfullySignOut_when_validRequest() throws Exception {
             Cookie accessTokenCookie = new Cookie(ACCESS_TOKEN.getTokenName(),
                     jwtTokenProvider.createAccessToken(ACCESS_TOKEN, member.getId(), ROLE_회원));
-            Cookie refreshTokenCookie = new Cookie(REFRESH_TOKEN.getTokenName(),
-                    jwtTokenProvider.createAccessToken(REFRESH_TOKEN, member.getId(), ROLE_회원));
+            String refreshToken = jwtTokenProvider.createAccessToken(REFRESH_TOKEN, member.getId(), ROLE_회원);
+            Cookie refreshTokenCookie = new Cookie(REFRESH_TOKEN.getTokenName(), refreshToken);
+            refreshTokenRepository.save(member.getId(), null, refreshToken);
             callSignOutApi(accessTokenCookie, refreshTokenCookie)
                     .andExpect(status().isNoContent())
                     .andExpect(cookie().maxAge(ACCESS_TOKEN.getTokenName(), 0))
@@ -54,7 +55,7 @@ class SignOutControllerTest extends IntegrationTest {
                                     cookieWithName(REFRESH_TOKEN.getTokenName()).description("REFRESH TOKEN")
                             )));
 
-            assertThat(redisUtil.getData(String.valueOf(member.getId()), String.class)).isEmpty();
+            assertThat(refreshTokenRepository.findAll(member.getId())).isEmpty();
         }
 
 //    @Test
@@ -12,7 +12,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.keeper.homepage.IntegrationTest;
-import com.keeper.homepage.global.config.security.JwtTokenProvider;
 import com.keeper.homepage.global.config.security.data.JwtType;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.kotest.core.spec.style.AnnotationSpec.Ignore;
@@ -180,7 +179,7 @@ class AuthTestControllerTest extends IntegrationTest {
 
       @BeforeEach
       void setupRefreshToken() {
-        redisUtil.setDataExpire(JwtTokenProvider.getRefreshTokenKeyForRedis("0", null), refreshToken, REFRESH_TOKEN.getExpiredMillis());
+        refreshTokenRepository.save(0L, null, refreshToken);
       }
 
 //      @Test
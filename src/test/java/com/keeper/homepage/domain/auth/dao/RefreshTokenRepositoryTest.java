@@ -0,0 +1,122 @@
+package com.keeper.homepage.domain.auth.dao;
+
+import static com.keeper.homepage.global.config.security.JwtTokenProvider.getRefreshTokenKeyForRedis;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.keeper.homepage.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RefreshTokenRepositoryTest extends IntegrationTest {
+
+  private static final String USER_AGENT = "Mozilla/5.0";
+  private static final String OTHER_USER_AGENT = "Chrome/114.0";
+
+  private long memberId;
+
+  @BeforeEach
+  void setUp() {
+    memberId = memberTestHelper.generate().getId();
+  }
+
+  @AfterEach
+  void tearDown() {
+    refreshTokenRepository.deleteAll(memberId);
+  }
+
+  @Nested
+  @DisplayName("refresh token 교체 테스트")
+  class Rotate {
+
+    @Test
+    @DisplayName("현재 토큰으로 요청하면 새 토큰으로 교체되어야 한다.")
+    void should_rotate_when_currentToken() {
+      refreshTokenRepository.save(memberId, USER_AGENT, "first");
+
+      assertThat(refreshTokenRepository.rotate(memberId, USER_AGENT, "first", "second")).contains("second");
+      assertThat(refreshTokenRepository.findAll(memberId)).containsValue("second");
+    }
+
+    @Test
+    @DisplayName("방금 교체된 토큰으로 동시에 요청하면 교체된 현재 토큰을 받아야 한다.")
+    void should_returnCurrentToken_when_justRotatedToken() {
+      refreshTokenRepository.save(memberId, USER_AGENT, "first");
+      refreshTokenRepository.rotate(memberId, USER_AGENT, "first", "second");
+
+      assertThat(refreshTokenRepository.rotate(memberId, USER_AGENT, "first", "third")).contains("second");
+      assertThat(refreshTokenRepository.findAll(memberId)).containsValue("second");
+    }
+
+    @Test
+    @DisplayName("다른 기기의 토큰으로 요청하면 교체에 실패해야 한다.")
+    void should_fail_when_otherSessionToken() {
+      refreshTokenRepository.save(memberId, USER_AGENT, "first");
+
+      assertThat(refreshTokenRepository.rotate(memberId, OTHER_USER_AGENT, "first", "second")).isEmpty();
+      assertThat(refreshTokenRepository.findAll(memberId)).containsValue("first");
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 교체된 토큰으로 요청하면 그 기기의 현재 토큰도 폐기되어야 한다.")
+    void should_revokeSession_when_reusedToken() {
+      refreshTokenRepository.save(memberId, USER_AGENT, "first");
+      refreshTokenRepository.save(memberId, OTHER_USER_AGENT, "other");
+      refreshTokenRepository.rotate(memberId, USER_AGENT, "first", "second");
+      refreshTokenRepository.rotate(memberId, USER_AGENT, "second", "third");
+
+      assertThat(refreshTokenRepository.rotate(memberId, USER_AGENT, "first", "fourth")).isEmpty();
+      assertThat(refreshTokenRepository.rotate(memberId, USER_AGENT, "third", "fourth")).isEmpty();
+      assertThat(refreshTokenRepository.findAll(memberId))
+          .containsOnly(entry(getRefreshTokenKeyForRedis(String.valueOf(memberId), OTHER_USER_AGENT), "other"));
+    }
+
+    @Test
+    @DisplayName("기존에 JSON 문자열로 저장된 토큰도 교체되어야 한다.")
+    void should_rotate_when_legacyJsonToken() {
+      redisUtil.setDataExpire(getRefreshTokenKeyForRedis(String.valueOf(memberId), USER_AGENT), "first", 60 * 1000L);
+
+      assertThat(refreshTokenRepository.rotate(memberId, USER_AGENT, "first", "second")).contains("second");
+    }
+  }
+
+  @Nested
+  @DisplayName("refresh token 삭제 테스트")
+  class Delete {
+
+    @Test
+    @DisplayName("기기 하나를 삭제하면 다른 기기의 토큰은 남아 있어야 한다.")
+    void should_deleteOnlyOneSession_when_delete() {
+      refreshTokenRepository.save(memberId, USER_AGENT, "first");
+      refreshTokenRepository.save(memberId, OTHER_USER_AGENT, "other");
+
+      assertThat(refreshTokenRepository.delete(memberId, USER_AGENT)).contains("first");
+      assertThat(refreshTokenRepository.findAll(memberId))
+          .containsOnly(entry(getRefreshTokenKeyForRedis(String.valueOf(memberId), OTHER_USER_AGENT), "other"));
+    }
+
+    @Test
+    @DisplayName("모든 기기를 삭제하면 삭제된 토큰을 돌려주고 더 이상 교체할 수 없어야 한다.")
+    void should_deleteAllSessions_when_deleteAll() {
+      refreshTokenRepository.save(memberId, USER_AGENT, "first");
+      refreshTokenRepository.save(memberId, OTHER_USER_AGENT, "other");
+
+      assertThat(refreshTokenRepository.deleteAll(memberId)).containsExactlyInAnyOrder("first", "other");
+      assertThat(refreshTokenRepository.findAll(memberId)).isEmpty();
+      assertThat(refreshTokenRepository.rotate(memberId, USER_AGENT, "first", "second")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 기기를 삭제하면 기기 목록에 없는 기존 토큰도 삭제되어야 한다.")
+    void should_deleteLegacySessions_when_deleteAll() {
+      redisUtil.setDataExpire(getRefreshTokenKeyForRedis(String.valueOf(memberId), USER_AGENT), "first", 60 * 1000L);
+      refreshTokenRepository.save(memberId, OTHER_USER_AGENT, "other");
+
+      assertThat(refreshTokenRepository.deleteAll(memberId)).containsExactlyInAnyOrder("first", "other");
+      assertThat(refreshTokenRepository.rotate(memberId, USER_AGENT, "first", "second")).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.keeper.homepage.domain.member.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.keeper.homepage.domain.member.application.convenience.MemberPrincipalCache;
+import com.keeper.homepage.global.config.security.data.MemberPrincipal;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemberPrincipalCacheTest {
+
+  private final MemberPrincipalCache memberPrincipalCache = new MemberPrincipalCache();
+
+  private static MemberPrincipal principal(long memberId, int point) {
+    return new MemberPrincipal(memberId, "이름", "1.0", point, null, List.of("ROLE_회원"), null);
+  }
+
+  @Test
+  @DisplayName("저장한 회원 정보는 지우기 전까지 조회되어야 한다.")
+  void should_getPrincipal_until_evict() {
+    memberPrincipalCache.put(principal(1L, 0), memberPrincipalCache.version());
+    assertThat(memberPrincipalCache.get(1L)).isEqualTo(principal(1L, 0));
+
+    memberPrincipalCache.evict(1L);
+    assertThat(memberPrincipalCache.get(1L)).isNull();
+  }
+
+  @Test
+  @DisplayName("조회 중에 회원 정보가 지워졌다면 조회한 값은 저장되지 않아야 한다.")
+  void should_notPut_when_evictedWhileLoading() {
+    long version = memberPrincipalCache.version();
+    memberPrincipalCache.evict(1L);
+
+    memberPrincipalCache.put(principal(1L, 0), version);
+
+    assertThat(memberPrincipalCache.get(1L)).isNull();
+  }
+}
@@ -0,0 +1,75 @@
+package com.keeper.homepage.domain.member.application;
+
+import static com.keeper.homepage.domain.member.entity.job.MemberJob.MemberJobType.ROLE_회장;
+import static com.keeper.homepage.global.error.ErrorCode.MEMBER_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.keeper.homepage.IntegrationTest;
+import com.keeper.homepage.domain.member.entity.Member;
+import com.keeper.homepage.global.config.security.data.MemberPrincipal;
+import com.keeper.homepage.global.error.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class MemberPrincipalServiceTest extends IntegrationTest {
+
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    member = memberTestHelper.generate();
+    em.flush();
+  }
+
+  @Nested
+  @DisplayName("로그인 회원 정보 조회 테스트")
+  class GetPrincipal {
+
+    @Test
+    @DisplayName("회원 정보를 조회하면 회원의 ID, 이름, 포인트, 직책이 담겨야 한다.")
+    public void 회원_정보를_조회하면_회원의_ID_이름_포인트_직책이_담겨야_한다() throws Exception {
+      MemberPrincipal principal = memberPrincipalService.getPrincipal(member.getId());
+
+      assertThat(principal.id()).isEqualTo(member.getId());
+      assertThat(principal.realName()).isEqualTo(member.getRealName());
+      assertThat(principal.point()).isEqualTo(member.getPoint());
+      assertThat(principal.roles()).containsExactlyInAnyOrderElementsOf(member.getJobs());
+    }
+
+    @Test
+    @DisplayName("포인트가 바뀌면 바뀐 포인트가 조회되어야 한다.")
+    public void 포인트가_바뀌면_바뀐_포인트가_조회되어야_한다() throws Exception {
+      int point = memberPrincipalService.getPrincipal(member.getId()).point();
+
+      member.addPoint(100, "테스트");
+      em.flush();
+
+      assertThat(memberPrincipalService.getPrincipal(member.getId()).point()).isEqualTo(point + 100);
+    }
+
+    @Test
+    @DisplayName("직책이 바뀌면 바뀐 직책이 조회되어야 한다.")
+    public void 직책이_바뀌면_바뀐_직책이_조회되어야_한다() throws Exception {
+      assertThat(memberPrincipalService.getPrincipal(member.getId()).roles()).doesNotContain(ROLE_회장.name());
+
+      member.assignJob(ROLE_회장);
+      em.flush();
+      assertThat(memberPrincipalService.getPrincipal(member.getId()).roles()).contains(ROLE_회장.name());
+
+      member.deleteJob(ROLE_회장);
+      em.flush();
+      assertThat(memberPrincipalService.getPrincipal(member.getId()).roles()).doesNotContain(ROLE_회장.name());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원은 조회에 실패한다.")
+    public void 존재하지_않는_회원은_조회에_실패한다() throws Exception {
+      assertThatThrownBy(() -> memberPrincipalService.getPrincipal(-1L))
+          .isInstanceOf(BusinessException.class)
+          .hasMessageContaining(MEMBER_NOT_FOUND.getMessage());
+    }
+  }
+}
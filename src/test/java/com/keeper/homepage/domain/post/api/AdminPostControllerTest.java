@@ -72,4 +72,30 @@ public class AdminPostControllerTest extends PostApiTestHelper {
           .andExpect(status().isForbidden());
     }
   }
+
+  @Nested
+  @DisplayName("게시글 검색 색인 재생성")
+  class RebuildSearchIndex {
+
+    @Test
+    @DisplayName("관리자라면 검색 색인 재생성이 성공한다.")
+    public void should_success_when_admin() throws Exception {
+      String securedValue = getSecuredValue(AdminPostController.class, "rebuildSearchIndex");
+
+      callRebuildSearchIndexApi(adminToken)
+          .andExpect(status().isNoContent())
+          .andDo(document("admin-rebuild-post-search-index",
+              requestCookies(
+                  cookieWithName(ACCESS_TOKEN.getTokenName())
+                      .description("ACCESS TOKEN %s".formatted(securedValue))
+              )));
+    }
+
+    @Test
+    @DisplayName("일반 회원이라면 검색 색인 재생성이 실패한다.")
+    public void should_fail_when_member() throws Exception {
+      callRebuildSearchIndexApi(memberToken)
+          .andExpect(status().isForbidden());
+    }
+  }
 }
@@ -5,11 +5,13 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.multipart;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.patch;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 
 import com.keeper.homepage.IntegrationTest;
 import com.keeper.homepage.domain.post.dto.request.PostFileDeleteRequest;
+import com.keeper.homepage.domain.post.dto.request.PostFileUploadRequest;
 import com.keeper.homepage.domain.post.dto.request.PostUpdateRequest;
 import jakarta.servlet.http.Cookie;
 import org.springframework.http.MediaType;
@@ -100,6 +102,12 @@ public class PostApiTestHelper extends IntegrationTest {
         .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), adminToken)));
   }
 
+  ResultActions callRebuildSearchIndexApi(String adminToken)
+      throws Exception {
+    return mockMvc.perform(post("/admin/posts/search-index")
+        .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), adminToken)));
+  }
+
   ResultActions callLikePostApi(String memberToken, long postId)
       throws Exception {
     return mockMvc.perform(patch("/posts/{postId}/likes", postId)
@@ -138,12 +146,51 @@ public class PostApiTestHelper extends IntegrationTest {
         .contentType(MediaType.APPLICATION_JSON));
   }
 
+  ResultActions callStartFileUploadApi(String accessToken, long postId, PostFileUploadRequest request)
+      throws Exception {
+    return mockMvc.perform(post("/posts/{postId}/files/uploads", postId)
+        .content(asJsonString(request))
+        .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), accessToken))
+        .contentType(MediaType.APPLICATION_JSON));
+  }
+
+  ResultActions callUploadFileChunkApi(String accessToken, long postId, String uploadId, int chunkIndex,
+      byte[] chunk) throws Exception {
+    return mockMvc.perform(put("/posts/{postId}/files/uploads/{uploadId}/chunks/{chunkIndex}", postId, uploadId,
+        chunkIndex)
+        .content(chunk)
+        .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), accessToken))
+        .contentType(MediaType.APPLICATION_OCTET_STREAM));
+  }
+
+  ResultActions callGetFileUploadApi(String accessToken, long postId, String uploadId) throws Exception {
+    return mockMvc.perform(get("/posts/{postId}/files/uploads/{uploadId}", postId, uploadId)
+        .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), accessToken)));
+  }
+
+  ResultActions callCompleteFileUploadApi(String accessToken, long postId, String uploadId) throws Exception {
+    return mockMvc.perform(post("/posts/{postId}/files/uploads/{uploadId}/complete", postId, uploadId)
+        .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), accessToken)));
+  }
+
+  ResultActions callCancelFileUploadApi(String accessToken, long postId, String uploadId) throws Exception {
+    return mockMvc.perform(delete("/posts/{postId}/files/uploads/{uploadId}", postId, uploadId)
+        .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), accessToken)));
+  }
+
   ResultActions callGetPostsApi(String memberToken, MultiValueMap<String, String> params) throws Exception {
     return mockMvc.perform(get("/posts")
         .params(params)
         .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), memberToken)));
   }
 
+  ResultActions callGetPostsByCursorApi(String memberToken, MultiValueMap<String, String> params) throws Exception {
+    return mockMvc.perform(get("/posts")
+        .param("paging", "cursor")
+        .params(params)
+        .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), memberToken)));
+  }
+
   FieldDescriptor[] getPostsResponse() {
     return new FieldDescriptor[]{
         fieldWithPath("id").description("게시글 ID"),
@@ -151,10 +198,12 @@ public class PostApiTestHelper extends IntegrationTest {
         fieldWithPath("writerId").description("게시글 작성자 ID"),
         fieldWithPath("writerName").description("게시글 작성자 실명"),
         fieldWithPath("writerThumbnailPath").description("게시글 작성자 썸네일 주소").optional(),
+        fieldWithPath("writerThumbnailSrcset").description("게시글 작성자 크기별 썸네일 주소 (srcset 형식)").optional(),
         fieldWithPath("visitCount").description("게시글 조회수"),
         fieldWithPath("commentCount").description("게시글 댓글수"),
         fieldWithPath("isSecret").description("비밀글 여부"),
         fieldWithPath("thumbnailPath").description("게시글 썸네일 주소").optional(),
+        fieldWithPath("thumbnailSrcset").description("게시글 크기별 썸네일 주소 (srcset 형식)").optional(),
         fieldWithPath("likeCount").description("게시글 좋아요 수"),
         fieldWithPath("registerTime").description("게시글 등록 시간")
     };
@@ -187,6 +236,18 @@ public class PostApiTestHelper extends IntegrationTest {
     };
   }
 
+  FieldDescriptor[] getFileUploadResponse() {
+    return new FieldDescriptor[]{
+        fieldWithPath("uploadId").description("업로드 ID"),
+        fieldWithPath("fileName").description("파일 이름"),
+        fieldWithPath("fileSize").description("파일 크기 (byte)"),
+        fieldWithPath("chunkSize").description("조각 크기 (byte). 마지막 조각을 제외한 모든 조각은 이 크기여야 합니다."),
+        fieldWithPath("chunkCount").description("전체 조각 수"),
+        fieldWithPath("receivedChunks").description("서버가 받은 조각 번호 (0부터 시작)"),
+        fieldWithPath("expireTime").description("이 시간까지 조각을 보내지 않으면 업로드가 만료됩니다.")
+    };
+  }
+
   FieldDescriptor[] getTempPostsResponse() {
     return new FieldDescriptor[]{
         fieldWithPath("id").description("게시글 ID"),
@@ -6,6 +6,8 @@ import static com.keeper.homepage.domain.post.dto.request.PostCreateRequest.POST
 import static com.keeper.homepage.domain.post.entity.category.Category.CategoryType.자유게시판;
 import static com.keeper.homepage.domain.post.entity.category.Category.getCategoryBy;
 import static com.keeper.homepage.global.config.security.data.JwtType.ACCESS_TOKEN;
+import static com.keeper.homepage.global.error.ErrorCode.FILE_UPLOAD_INCOMPLETE;
+import static com.keeper.homepage.global.error.ErrorCode.FILE_UPLOAD_TYPE_MISMATCH;
 import static com.keeper.homepage.global.error.ErrorCode.POST_COMMENT_NEED;
 import static com.keeper.homepage.global.error.ErrorCode.POST_HAS_NOT_THAT_FILE;
 import static com.keeper.homepage.global.restdocs.RestDocsHelper.getSecuredValue;
@@ -16,9 +18,16 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.LAST_MODIFIED;
+import static org.springframework.http.HttpHeaders.RANGE;
 import static org.springframework.restdocs.cookies.CookieDocumentation.cookieWithName;
 import static org.springframework.restdocs.cookies.CookieDocumentation.requestCookies;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
@@ -32,22 +41,31 @@ import static org.springframework.restdocs.request.RequestDocumentation.pathPara
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.restdocs.request.RequestDocumentation.requestParts;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.keeper.homepage.domain.file.entity.FileEntity;
 import com.keeper.homepage.domain.member.entity.Member;
+import com.keeper.homepage.domain.post.application.PostResponseCacheService.CachedResponse;
 import com.keeper.homepage.domain.post.dto.request.PostCreateRequest;
 import com.keeper.homepage.domain.post.dto.request.PostFileDeleteRequest;
+import com.keeper.homepage.domain.post.dto.request.PostFileUploadRequest;
 import com.keeper.homepage.domain.post.dto.request.PostUpdateRequest;
 import com.keeper.homepage.domain.post.entity.Post;
 import com.keeper.homepage.domain.post.entity.category.Category;
+import com.keeper.homepage.domain.post.event.PostChangedEvent;
 import com.keeper.homepage.global.util.web.WebUtil;
 import jakarta.servlet.http.Cookie;
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -630,6 +648,7 @@ public class PostControllerTest extends PostApiTestHelper {
     public void 공지글_목록_조회는_성공한다() throws Exception {
       String securedValue = getSecuredValue(PostController.class, "getNoticePosts");
 
+      postResponseCacheService.evict(new PostChangedEvent(virtualPostId, category.getId()));
       callGetNoticePostsApi(memberToken, category.getId())
           .andExpect(status().isOk())
           .andDo(document("get-notice-posts",
@@ -647,10 +666,13 @@ public class PostControllerTest extends PostApiTestHelper {
                   fieldWithPath("posts[].writerId").description("게시글 작성자 ID"),
                   fieldWithPath("posts[].writerName").description("게시글 작성자 실명"),
                   fieldWithPath("posts[].writerThumbnailPath").description("게시글 작성자 썸네일 주소").optional(),
+                  fieldWithPath("posts[].writerThumbnailSrcset").description("게시글 작성자 크기별 썸네일 주소 (srcset 형식)")
+                      .optional(),
                   fieldWithPath("posts[].visitCount").description("게시글 조회수"),
                   fieldWithPath("posts[].commentCount").description("게시글 댓글 개수"),
                   fieldWithPath("posts[].isSecret").description("게시글 비밀글 여부"),
                   fieldWithPath("posts[].thumbnailPath").description("게시글 썸네일 주소").optional(),
+                  fieldWithPath("posts[].thumbnailSrcset").description("게시글 크기별 썸네일 주소 (srcset 형식)").optional(),
                   fieldWithPath("posts[].likeCount").description("게시글 좋아요 수"),
                   fieldWithPath("posts[].registerTime").description("게시글 작성 시간")
               )));
@@ -706,6 +728,203 @@ public class PostControllerTest extends PostApiTestHelper {
     }
   }
 
+  @Nested
+  @DisplayName("게시글 파일 이어 올리기")
+  class UploadFile {
+
+    private byte[] fileContent;
+
+    @BeforeEach
+    void setUp() throws IOException {
+      fileContent = file.getBytes();
+    }
+
+    private String startFileUpload(String fileName) throws Exception {
+      PostFileUploadRequest request = PostFileUploadRequest.builder()
+          .fileName(fileName)
+          .fileSize((long) fileContent.length)
+          .build();
+      String response = callStartFileUploadApi(memberToken, postId, request)
+          .andReturn()
+          .getResponse()
+          .getContentAsString();
+      return objectMapper.readTree(response).get("uploadId").asText();
+    }
+
+    @Test
+    @DisplayName("유효한 요청일 경우 업로드 시작은 성공한다.")
+    public void should_startUpload_when_validRequest() throws Exception {
+      String securedValue = getSecuredValue(PostController.class, "startFileUpload");
+      PostFileUploadRequest request = PostFileUploadRequest.builder()
+          .fileName("testImage_1x1.png")
+          .fileSize((long) fileContent.length)
+          .build();
+
+      callStartFileUploadApi(memberToken, postId, request)
+          .andExpect(status().isCreated())
+          .andDo(document("start-post-file-upload",
+              requestCookies(
+                  cookieWithName(ACCESS_TOKEN.getTokenName())
+                      .description("ACCESS TOKEN %s".formatted(securedValue))
+              ),
+              pathParameters(
+                  parameterWithName("postId").description("파일을 추가하고자 하는 게시글의 ID")
+              ),
+              requestFields(
+                  fieldWithPath("fileName").description("파일 이름"),
+                  fieldWithPath("fileSize").description("파일 크기 (byte)")
+              ),
+              responseHeaders(
+                  headerWithName("Location").description("업로드 상태 조회 URL")
+              ),
+              responseFields(getFileUploadResponse())));
+    }
+
+    @Test
+    @DisplayName("유효한 요청일 경우 조각 업로드는 성공한다.")
+    public void should_uploadChunk_when_validRequest() throws Exception {
+      String securedValue = getSecuredValue(PostController.class, "uploadFileChunk");
+      String uploadId = startFileUpload("testImage_1x1.png");
+
+      callUploadFileChunkApi(memberToken, postId, uploadId, 0, fileContent)
+          .andExpect(status().isOk())
+          .andDo(document("upload-post-file-chunk",
+              requestCookies(
+                  cookieWithName(ACCESS_TOKEN.getTokenName())
+                      .description("ACCESS TOKEN %s".formatted(securedValue))
+              ),
+              pathParameters(
+                  parameterWithName("postId").description("파일을 추가하고자 하는 게시글의 ID"),
+                  parameterWithName("uploadId").description("업로드 ID"),
+                  parameterWithName("chunkIndex").description("조각 번호 (0부터 시작)")
+              ),
+              responseFields(getFileUploadResponse())));
+    }
+
+    @Test
+    @DisplayName("유효한 요청일 경우 업로드 상태 조회는 성공한다.")
+    public void should_getUpload_when_validRequest() throws Exception {
+      String securedValue = getSecuredValue(PostController.class, "getFileUpload");
+      String uploadId = startFileUpload("testImage_1x1.png");
+
+      callGetFileUploadApi(memberToken, postId, uploadId)
+          .andExpect(status().isOk())
+          .andDo(document("get-post-file-upload",
+              requestCookies(
+                  cookieWithName(ACCESS_TOKEN.getTokenName())
+                      .description("ACCESS TOKEN %s".formatted(securedValue))
+              ),
+              pathParameters(
+                  parameterWithName("postId").description("파일을 추가하고자 하는 게시글의 ID"),
+                  parameterWithName("uploadId").description("업로드 ID")
+              ),
+              responseFields(getFileUploadResponse())));
+    }
+
+    @Test
+    @DisplayName("모든 조각을 받은 경우 업로드 완료는 성공한다.")
+    public void should_completeUpload_when_allChunksReceived() throws Exception {
+      String securedValue = getSecuredValue(PostController.class, "completeFileUpload");
+      String uploadId = startFileUpload("testImage_1x1.png");
+      callUploadFileChunkApi(memberToken, postId, uploadId, 0, fileContent);
+
+      callCompleteFileUploadApi(memberToken, postId, uploadId)
+          .andExpect(status().isCreated())
+          .andDo(document("complete-post-file-upload",
+              requestCookies(
+                  cookieWithName(ACCESS_TOKEN.getTokenName())
+                      .description("ACCESS TOKEN %s".formatted(securedValue))
+              ),
+              pathParameters(
+                  parameterWithName("postId").description("파일을 추가하고자 하는 게시글의 ID"),
+                  parameterWithName("uploadId").description("업로드 ID")
+              ),
+              responseFields(
+                  fieldWithPath("fileId").description("파일 ID"),
+                  fieldWithPath("name").description("파일 이름"),
+                  fieldWithPath("path").description("파일 경로"),
+                  fieldWithPath("size").description("파일 크기"),
+                  fieldWithPath("ipAddress").description("파일 업로드 IP"),
+                  fieldWithPath("uploadTime").description("파일 업로드 시간")
+              )));
+
+      em.flush();
+      em.clear();
+      assertThat(postHasFileRepository.findByPost(postRepository.findById(postId).orElseThrow())).isPresent();
+    }
+
+    @Test
+    @DisplayName("유효한 요청일 경우 업로드 취소는 성공한다.")
+    public void should_cancelUpload_when_validRequest() throws Exception {
+      String securedValue = getSecuredValue(PostController.class, "cancelFileUpload");
+      String uploadId = startFileUpload("testImage_1x1.png");
+
+      callCancelFileUploadApi(memberToken, postId, uploadId)
+          .andExpect(status().isNoContent())
+          .andDo(document("cancel-post-file-upload",
+              requestCookies(
+                  cookieWithName(ACCESS_TOKEN.getTokenName())
+                      .description("ACCESS TOKEN %s".formatted(securedValue))
+              ),
+              pathParameters(
+                  parameterWithName("postId").description("파일을 추가하고자 하는 게시글의 ID"),
+                  parameterWithName("uploadId").description("업로드 ID")
+              )));
+
+      callGetFileUploadApi(memberToken, postId, uploadId)
+          .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("받지 못한 조각이 있을 경우 업로드 완료는 실패한다.")
+    public void should_fail_when_chunkMissing() throws Exception {
+      String uploadId = startFileUpload("testImage_1x1.png");
+
+      MvcResult mvcResult = callCompleteFileUploadApi(memberToken, postId, uploadId)
+          .andExpect(status().isBadRequest())
+          .andReturn();
+
+      String content = mvcResult.getResponse().getContentAsString();
+      assertThat(content).contains(FILE_UPLOAD_INCOMPLETE.getMessage());
+    }
+
+    @Test
+    @DisplayName("첫 조각의 내용이 확장자와 다를 경우 조각 업로드는 실패한다.")
+    public void should_fail_when_signatureMismatch() throws Exception {
+      String uploadId = startFileUpload("testImage_1x1.pdf");
+
+      MvcResult mvcResult = callUploadFileChunkApi(memberToken, postId, uploadId, 0, fileContent)
+          .andExpect(status().isBadRequest())
+          .andReturn();
+
+      String content = mvcResult.getResponse().getContentAsString();
+      assertThat(content).contains(FILE_UPLOAD_TYPE_MISMATCH.getMessage());
+    }
+
+    @Test
+    @DisplayName("다른 회원의 업로드에는 조각을 보낼 수 없다.")
+    public void should_fail_when_otherMemberUpload() throws Exception {
+      String uploadId = startFileUpload("testImage_1x1.png");
+
+      callUploadFileChunkApi(otherToken, postId, uploadId, 0, fileContent)
+          .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("다른 게시글로 시작한 업로드에는 조각을 보내거나 완료할 수 없다.")
+    public void should_fail_when_otherPostUpload() throws Exception {
+      String uploadId = startFileUpload("testImage_1x1.png");
+      long otherPostId = postTestHelper.builder().member(member).build().getId();
+
+      callUploadFileChunkApi(memberToken, otherPostId, uploadId, 0, fileContent)
+          .andExpect(status().isNotFound());
+      callUploadFileChunkApi(memberToken, postId, uploadId, 0, fileContent)
+          .andExpect(status().isOk());
+      callCompleteFileUploadApi(memberToken, otherPostId, uploadId)
+          .andExpect(status().isNotFound());
+    }
+  }
+
   @Nested
   @DisplayName("게시글 파일 제거")
   class DeletePostFile {
@@ -808,11 +1027,64 @@ public class PostControllerTest extends PostApiTestHelper {
           .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("유효한 요청이면 커서 기반 게시글 목록 조회는 성공한다.")
+    public void 유효한_요청이면_커서_기반_게시글_목록_조회는_성공한다() throws Exception {
+      String securedValue = getSecuredValue(PostController.class, "getPostsByCursor");
+
+      em.flush();
+      em.clear();
+      params.add("categoryId", String.valueOf(category.getId()));
+      params.add("cursorRegisterTime", post.getRegisterTime().toString());
+      params.add("cursorId", String.valueOf(post.getId()));
+      params.add("size", "3");
+      params.add("withTotalCount", "true");
+      callGetPostsByCursorApi(memberToken, params)
+          .andExpect(status().isOk())
+          .andDo(document("get-posts-by-cursor",
+              requestCookies(
+                  cookieWithName(ACCESS_TOKEN.getTokenName())
+                      .description("ACCESS TOKEN %s".formatted(securedValue))
+              ),
+              queryParameters(
+                  parameterWithName("paging").description("커서 기반으로 조회할 때 cursor"),
+                  parameterWithName("categoryId").description("게시글 카테고리 ID"),
+                  parameterWithName("cursorRegisterTime")
+                      .attributes(new Attribute("format", "yyyy-MM-ddTHH:mm:ss"))
+                      .description("이전 응답의 nextCursorRegisterTime (첫 페이지는 생략)")
+                      .optional(),
+                  parameterWithName("cursorId").description("이전 응답의 nextCursorId (첫 페이지는 생략)")
+                      .optional(),
+                  parameterWithName("size").description("한 번에 불러올 개수 (default: 10)")
+                      .optional(),
+                  parameterWithName("withTotalCount").description("전체 게시글 수 포함 여부 (default: false)")
+                      .optional()
+              ),
+              responseFields(
+                  listHelper("posts", getPostsResponse())
+              ).and(
+                  fieldWithPath("hasNext").description("다음 게시글 존재 여부"),
+                  fieldWithPath("nextCursorRegisterTime").description("다음 요청에 사용할 커서의 등록 시간").optional(),
+                  fieldWithPath("nextCursorId").description("다음 요청에 사용할 커서의 게시글 ID").optional(),
+                  fieldWithPath("totalCount").description("전체 게시글 수 (withTotalCount 가 true 일 때만)").optional()
+              )));
+    }
+
+    @Test
+    @DisplayName("size가 0 이하면 커서 기반 게시글 목록 조회는 실패한다.")
+    public void size가_0_이하면_커서_기반_게시글_목록_조회는_실패한다() throws Exception {
+      params.add("categoryId", String.valueOf(category.getId()));
+      params.add("size", "0");
+      callGetPostsByCursorApi(memberToken, params)
+          .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("유효한 요청이면 최근 게시글 목록 조회는 성공한다.")
     public void 유효한_요청이면_최근_게시글_목록_조회는_성공한다() throws Exception {
       em.flush();
       em.clear();
+      postResponseCacheService.evict(new PostChangedEvent(post.getId(), category.getId()));
       mockMvc.perform(get("/posts/recent"))
           .andExpect(status().isOk())
           .andDo(document("get-recent-posts",
@@ -821,11 +1093,83 @@ public class PostControllerTest extends PostApiTestHelper {
               )));
     }
 
+    @Test
+    @DisplayName("ETag 가 같으면 최근 게시글 목록 조회는 304 로 응답한다.")
+    public void ETag_가_같으면_최근_게시글_목록_조회는_304_로_응답한다() throws Exception {
+      em.flush();
+      em.clear();
+      postResponseCacheService.evict(new PostChangedEvent(post.getId(), category.getId()));
+      String eTag = mockMvc.perform(get("/posts/recent"))
+          .andExpect(status().isOk())
+          .andExpect(header().exists(ETAG))
+          .andReturn()
+          .getResponse()
+          .getHeader(ETAG);
+
+      mockMvc.perform(get("/posts/recent")
+              .header(IF_NONE_MATCH, eTag))
+          .andExpect(status().isNotModified())
+          .andDo(document("get-recent-posts-not-modified",
+              requestHeaders(
+                  headerWithName(IF_NONE_MATCH).description("이전 응답의 ETag")
+              ),
+              responseHeaders(
+                  headerWithName(ETAG).description("응답 본문의 ETag")
+              )));
+    }
+
+    @Test
+    @DisplayName("게시글이 생성되면 최근 게시글 목록 캐시는 무효화된다.")
+    public void 게시글이_생성되면_최근_게시글_목록_캐시는_무효화된다() throws Exception {
+      String eTag = postResponseCacheService.getRecentPosts().eTag();
+
+      Post newPost = Post.builder()
+          .member(member)
+          .title("새 게시글")
+          .content("내용")
+          .ipAddress("0.0.0.0")
+          .allowComment(true)
+          .isNotice(false)
+          .isSecret(false)
+          .isTemp(false)
+          .build();
+      long newPostId = postService.create(newPost, category.getId(), null, null);
+
+      CachedResponse recentPosts = postResponseCacheService.getRecentPosts();
+      assertThat(recentPosts.eTag()).isNotEqualTo(eTag);
+      assertThat(new String(recentPosts.body(), StandardCharsets.UTF_8)).contains("\"id\":" + newPostId + ",");
+    }
+
+    @Test
+    @DisplayName("게시글 썸네일이 준비되면 최근 게시글 목록 캐시는 무효화된다.")
+    public void 게시글_썸네일이_준비되면_최근_게시글_목록_캐시는_무효화된다() throws Exception {
+      Post newPost = Post.builder()
+          .member(member)
+          .title("새 게시글")
+          .content("내용")
+          .ipAddress("0.0.0.0")
+          .allowComment(true)
+          .isNotice(false)
+          .isSecret(false)
+          .isTemp(false)
+          .build();
+      postService.create(newPost, category.getId(), thumbnailTestHelper.getSmallThumbnailFile(), null);
+      String eTag = postResponseCacheService.getRecentPosts().eTag();
+
+      thumbnailUtil.processPendingThumbnails();
+
+      CachedResponse recentPosts = postResponseCacheService.getRecentPosts();
+      assertThat(recentPosts.eTag()).isNotEqualTo(eTag);
+      assertThat(new String(recentPosts.body(), StandardCharsets.UTF_8)).contains(newPost.getThumbnailPath());
+    }
+
     @Test
     @DisplayName("유효한 요청이면 트렌드 게시글 목록 조회는 성공한다.")
     public void 유효한_요청이면_트렌드_게시글_목록_조회는_성공한다() throws Exception {
       em.flush();
       em.clear();
+      postTrendService.rebuild();
+      postResponseCacheService.evict(new PostChangedEvent(post.getId(), category.getId()));
       mockMvc.perform(get("/posts/trend"))
           .andExpect(status().isOk())
           .andDo(document("get-trend-posts",
@@ -964,6 +1308,66 @@ public class PostControllerTest extends PostApiTestHelper {
               )));
     }
 
+    @Test
+    @DisplayName("Range 요청일 경우 요청한 구간만 206으로 응답한다.")
+    public void should_returnPartialContent_when_requestRange() throws Exception {
+      String securedValue = getSecuredValue(PostController.class, "downloadFile");
+
+      postService.create(post, 자유게시판.getId(), thumbnail, List.of(file));
+
+      em.flush();
+      em.clear();
+      FileEntity file = postHasFileRepository.findByPost(post).get().getFile();
+
+      mockMvc.perform(get("/posts/{postId}/files/{fileId}", postId, file.getId())
+              .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), memberToken))
+              .header(RANGE, "bytes=0-9"))
+          .andExpect(status().isPartialContent())
+          .andExpect(header().string(CONTENT_RANGE, "bytes 0-9/" + file.getFileSize()))
+          .andExpect(header().longValue(CONTENT_LENGTH, 10))
+          .andDo(document("download-post-file-range",
+              requestCookies(
+                  cookieWithName(ACCESS_TOKEN.getTokenName())
+                      .description("ACCESS TOKEN %s".formatted(securedValue))
+              ),
+              pathParameters(
+                  parameterWithName("postId").description("게시글 ID"),
+                  parameterWithName("fileId").description("파일 ID")
+              ),
+              requestHeaders(
+                  headerWithName(RANGE).description("받고자 하는 파일의 바이트 구간")
+              ),
+              responseHeaders(
+                  headerWithName(CONTENT_RANGE).description("응답한 바이트 구간과 전체 파일 크기"),
+                  headerWithName(ETAG).description("파일의 ETag"),
+                  headerWithName(LAST_MODIFIED).description("파일 업로드 시간")
+              )));
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 파일 다운로드는 본문 없이 304로 응답한다.")
+    public void should_returnNotModified_when_eTagMatches() throws Exception {
+      postService.create(post, 자유게시판.getId(), thumbnail, List.of(file));
+
+      em.flush();
+      em.clear();
+      FileEntity file = postHasFileRepository.findByPost(post).get().getFile();
+
+      String eTag = mockMvc.perform(get("/posts/{postId}/files/{fileId}", postId, file.getId())
+              .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), memberToken)))
+          .andExpect(status().isOk())
+          .andExpect(header().longValue(CONTENT_LENGTH, file.getFileSize()))
+          .andExpect(header().exists(LAST_MODIFIED))
+          .andReturn()
+          .getResponse()
+          .getHeader(ETAG);
+
+      mockMvc.perform(get("/posts/{postId}/files/{fileId}", postId, file.getId())
+              .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), memberToken))
+              .header(IF_NONE_MATCH, eTag))
+          .andExpect(status().isNotModified());
+    }
+
     @Test
     @DisplayName("게시글에 댓글을 달지 않았을 경우 파일 다운로드는 실패한다.")
     public void 게시글에_댓글을_달지_않았을_경우_파일_다운로드는_실패한다() throws Exception {
@@ -1027,4 +1431,71 @@ public class PostControllerTest extends PostApiTestHelper {
       assertThat(content).contains(POST_HAS_NOT_THAT_FILE.getMessage());
     }
   }
+
+  @Nested
+  @DisplayName("게시글 파일 모두 다운로드")
+  class DownloadFiles {
+
+    @Test
+    @DisplayName("유효한 요청일 경우 게시글의 모든 파일을 ZIP 으로 다운로드한다.")
+    public void should_downloadZip_when_validRequest() throws Exception {
+      String securedValue = getSecuredValue(PostController.class, "downloadFiles");
+      MockMultipartFile textFile = new MockMultipartFile("files", "note.txt", "text/plain",
+          "keeper".getBytes(StandardCharsets.UTF_8));
+
+      postService.create(post, 자유게시판.getId(), thumbnail, List.of(file, file, textFile));
+      commentTestHelper.builder().post(post).member(other).build();
+
+      em.flush();
+      em.clear();
+
+      byte[] body = mockMvc.perform(get("/posts/{postId}/files.zip", postId)
+              .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), otherToken)))
+          .andExpect(status().isOk())
+          .andExpect(content().contentType("application/zip"))
+          .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=\"" + postId + ".zip\""))
+          .andDo(document("download-post-files-zip",
+              requestCookies(
+                  cookieWithName(ACCESS_TOKEN.getTokenName())
+                      .description("ACCESS TOKEN %s".formatted(securedValue))
+              ),
+              pathParameters(
+                  parameterWithName("postId").description("게시글 ID")
+              ),
+              responseHeaders(
+                  headerWithName(CONTENT_DISPOSITION).description("ZIP 파일 이름을 포함한 응답 헤더입니다.")
+              )))
+          .andReturn()
+          .getResponse()
+          .getContentAsByteArray();
+
+      Map<String, Integer> entryMethods = new HashMap<>();
+      try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(body))) {
+        ZipEntry entry;
+        while ((entry = zipInputStream.getNextEntry()) != null) {
+          entryMethods.put(entry.getName(), entry.getMethod());
+        }
+      }
+      assertThat(entryMethods).containsOnlyKeys("testImage_1x1.png", "testImage_1x1 (1).png", "note.txt");
+      assertThat(entryMethods.get("testImage_1x1.png")).isEqualTo(ZipEntry.STORED);
+      assertThat(entryMethods.get("note.txt")).isEqualTo(ZipEntry.DEFLATED);
+    }
+
+    @Test
+    @DisplayName("게시글에 댓글을 달지 않았을 경우 파일 모두 다운로드는 실패한다.")
+    public void should_fail_when_noComment() throws Exception {
+      postService.create(post, 자유게시판.getId(), thumbnail, List.of(file));
+
+      em.flush();
+      em.clear();
+
+      MvcResult mvcResult = mockMvc.perform(get("/posts/{postId}/files.zip", postId)
+              .cookie(new Cookie(ACCESS_TOKEN.getTokenName(), otherToken)))
+          .andExpect(status().isBadRequest())
+          .andReturn();
+
+      String content = mvcResult.getResponse().getContentAsString();
+      assertThat(content).contains(POST_COMMENT_NEED.getMessage());
+    }
+  }
 }
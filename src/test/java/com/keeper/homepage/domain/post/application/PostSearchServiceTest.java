@@ -0,0 +1,145 @@
+package com.keeper.homepage.domain.post.application;
+
+import static com.keeper.homepage.domain.post.entity.category.Category.CategoryType.자유게시판;
+import static com.keeper.homepage.domain.post.entity.category.Category.CategoryType.정보게시판;
+import static com.keeper.homepage.domain.post.entity.category.Category.getCategoryBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.keeper.homepage.IntegrationTest;
+import com.keeper.homepage.domain.member.entity.Member;
+import com.keeper.homepage.domain.post.application.PostSearchService.SearchType;
+import com.keeper.homepage.domain.post.dao.PostSummary;
+import com.keeper.homepage.domain.post.entity.Post;
+import com.keeper.homepage.domain.post.entity.category.Category;
+import com.keeper.homepage.domain.post.event.PostChangedEvent;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+public class PostSearchServiceTest extends IntegrationTest {
+
+  private Category category;
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    category = getCategoryBy(자유게시판);
+    member = memberTestHelper.generate();
+  }
+
+  private List<Long> search(SearchType searchType, String search) {
+    return postSearchService.search(category.getId(), searchType, search, PageRequest.of(0, 100))
+        .map(PostSummary::id)
+        .getContent();
+  }
+
+  @Nested
+  @DisplayName("게시글 검색")
+  class Search {
+
+    @Test
+    @DisplayName("한글 검색어는 부분 일치로 검색되어야 한다.")
+    public void should_findPartialMatch_when_searchHangul() throws Exception {
+      long postId = postTestHelper.builder().category(category).title("보안 동아리 신입 모집").build().getId();
+      em.flush();
+      postSearchService.rebuild();
+
+      assertThat(search(SearchType.TITLE, "동아리")).contains(postId);
+      assertThat(search(SearchType.TITLE, "아리 신")).contains(postId);
+      assertThat(search(SearchType.TITLE, "모")).contains(postId);
+      assertThat(search(SearchType.TITLE, "동아라")).doesNotContain(postId);
+    }
+
+    @Test
+    @DisplayName("bigram 이 모두 포함되어도 검색어가 연속되지 않으면 검색되지 않아야 한다.")
+    public void should_notFind_when_bigramsAreNotContinuous() throws Exception {
+      long postId = postTestHelper.builder().category(category).content("가나 나다").build().getId();
+      em.flush();
+      postSearchService.rebuild();
+
+      assertThat(search(SearchType.CONTENT, "가나다")).doesNotContain(postId);
+    }
+
+    @Test
+    @DisplayName("공지글, 임시글, 다른 카테고리 게시글은 검색되지 않아야 한다.")
+    public void should_notFind_when_noticeOrTempOrOtherCategory() throws Exception {
+      long noticeId = postTestHelper.builder().category(category).title("키퍼 공지").isNotice(true).build().getId();
+      long tempId = postTestHelper.builder().category(category).title("키퍼 임시").isTemp(true).build().getId();
+      long otherId = postTestHelper.builder().category(getCategoryBy(정보게시판)).title("키퍼 질문").build().getId();
+      em.flush();
+      postSearchService.rebuild();
+
+      assertThat(search(SearchType.TITLE, "키퍼")).doesNotContain(noticeId, tempId, otherId);
+    }
+
+    @Test
+    @DisplayName("제목+내용 검색은 제목에 포함된 게시글을 먼저 보여줘야 한다.")
+    public void should_rankTitleMatchFirst_when_searchTitleAndContent() throws Exception {
+      long contentMatchId = postTestHelper.builder().category(category).title("일반 글").content("해킹 스터디").build()
+          .getId();
+      long titleMatchId = postTestHelper.builder().category(category).title("해킹 스터디").content("일반 글").build()
+          .getId();
+      em.flush();
+      postSearchService.rebuild();
+
+      assertThat(search(SearchType.TITLE_AND_CONTENT, "해킹")).containsSubsequence(titleMatchId, contentMatchId);
+    }
+
+    @Test
+    @DisplayName("작성자 실명으로 검색되어야 한다.")
+    public void should_findByWriterName_when_searchWriter() throws Exception {
+      long postId = postTestHelper.builder().category(category).member(member).build().getId();
+      em.flush();
+      postSearchService.rebuild();
+
+      assertThat(search(SearchType.WRITER, member.getRealName())).contains(postId);
+    }
+  }
+
+  @Nested
+  @DisplayName("검색 색인 갱신")
+  class UpdateIndex {
+
+    @Test
+    @DisplayName("게시글 생성, 수정, 삭제는 커밋된 뒤에 색인에 반영되어야 한다.")
+    public void should_updateIndex_when_createUpdateDeletePostCommitted() throws Exception {
+      Post post = Post.builder()
+          .title("색인 테스트")
+          .content("내용")
+          .member(member)
+          .visitCount(0)
+          .ipAddress("0.0.0.0")
+          .allowComment(true)
+          .isNotice(false)
+          .isSecret(false)
+          .isTemp(false)
+          .build();
+      long postId = postService.create(post, category.getId(), null, null);
+      PostChangedEvent event = new PostChangedEvent(postId, category.getId());
+      assertThat(search(SearchType.TITLE, "색인")).doesNotContain(postId);
+      postSearchService.onPostChanged(event);
+      assertThat(search(SearchType.TITLE, "색인")).contains(postId);
+
+      Post newPost = Post.builder()
+          .title("변경된 제목")
+          .content("내용")
+          .ipAddress("0.0.0.0")
+          .allowComment(true)
+          .isNotice(false)
+          .isSecret(false)
+          .isTemp(false)
+          .build();
+      postService.update(member, postId, newPost);
+      postSearchService.onPostChanged(event);
+      assertThat(search(SearchType.TITLE, "색인")).doesNotContain(postId);
+      assertThat(search(SearchType.TITLE, "변경")).contains(postId);
+
+      postService.delete(member, postId);
+      postSearchService.onPostChanged(event);
+      assertThat(search(SearchType.TITLE, "변경")).doesNotContain(postId);
+    }
+  }
+}
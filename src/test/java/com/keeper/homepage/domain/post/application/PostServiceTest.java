@@ -17,8 +17,10 @@ import com.keeper.homepage.domain.file.entity.FileEntity;
 import com.keeper.homepage.domain.member.entity.Member;
 import com.keeper.homepage.domain.post.dto.response.PostDetailResponse;
 import com.keeper.homepage.domain.post.dto.response.PostResponse;
+import com.keeper.homepage.domain.post.dto.response.PostSliceResponse;
 import com.keeper.homepage.domain.post.entity.Post;
 import com.keeper.homepage.domain.post.entity.category.Category;
+import com.keeper.homepage.domain.post.event.PostChangedEvent;
 import com.keeper.homepage.domain.thumbnail.entity.Thumbnail;
 import com.keeper.homepage.global.error.BusinessException;
 import com.keeper.homepage.global.util.web.WebUtil;
@@ -27,7 +29,11 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -116,6 +122,23 @@ public class PostServiceTest extends IntegrationTest {
       examCategory = getCategoryBy(시험게시판);
     }
 
+    @Test
+    @DisplayName("좋아요한 게시글을 조회하면 좋아요 여부가 참이어야 한다.")
+    void should_isLikeTrue_when_getLikedPost() {
+      post = postTestHelper.builder().category(category).build();
+      Post otherPost = postTestHelper.builder().category(category).build();
+      postService.like(bestMember, post.getId());
+      postService.dislike(bestMember, otherPost.getId());
+
+      em.flush();
+      em.clear();
+      bestMember = memberRepository.findById(bestMember.getId()).orElseThrow();
+      PostDetailResponse response = postService.find(bestMember, post.getId(), null);
+
+      assertThat(response.getIsLike()).isTrue();
+      assertThat(response.getIsDislike()).isFalse();
+    }
+
     @Test
     @DisplayName("게시글을 조회하면 성공적으로 조회된다.")
     void should_success_when_getPost() {
@@ -184,6 +207,7 @@ public class PostServiceTest extends IntegrationTest {
       em.clear();
       member = memberRepository.findById(member.getId()).orElseThrow();
       postService.find(member, postId, null);
+      postVisitCountService.flushVisitCounts();
 
       em.flush();
       em.clear();
@@ -192,6 +216,7 @@ public class PostServiceTest extends IntegrationTest {
       assertThat(post.getVisitCount()).isEqualTo(1);
 
       postService.find(member, postId, null);
+      postVisitCountService.flushVisitCounts();
       em.flush();
       em.clear();
       post = postRepository.findById(postId).orElseThrow();
@@ -307,6 +332,42 @@ public class PostServiceTest extends IntegrationTest {
       assertThat(response.getNextPost().getPostId()).isEqualTo(last.getId());
     }
 
+    @Test
+    @DisplayName("임시글 발행이나 게시글 삭제가 커밋되면 이전, 다음 게시글에 반영된다.")
+    public void 임시글_발행이나_게시글_삭제가_커밋되면_이전_다음_게시글에_반영된다() throws Exception {
+      Post first = postTestHelper.builder().category(category).build();
+      Post middle = postTestHelper.builder().member(member).category(category).build();
+      Post temp = postTestHelper.builder().member(member).category(category).isTemp(true).build();
+      em.flush();
+      List.of(first, middle, temp).forEach(this::commit);
+
+      Post newPost = Post.builder()
+          .title("발행된 임시글")
+          .content("내용")
+          .ipAddress("0.0.0.0")
+          .allowComment(true)
+          .isNotice(false)
+          .isSecret(false)
+          .isTemp(false)
+          .build();
+      postService.update(member, temp.getId(), newPost);
+      assertThat(postService.find(member, middle.getId(), null).getNextPost()).isNull();
+      commit(temp);
+      assertThat(postService.find(member, middle.getId(), null).getNextPost().getPostId()).isEqualTo(temp.getId());
+
+      postService.delete(member, middle.getId());
+      commit(middle);
+      assertThat(postService.find(member, temp.getId(), null).getPreviousPost().getPostId())
+          .isEqualTo(first.getId());
+    }
+
+    /**
+     * 테스트 트랜잭션은 커밋되지 않으므로, 커밋 후 실행되는 색인 갱신을 직접 호출한다.
+     */
+    private void commit(Post post) {
+      postNavigationService.onPostChanged(new PostChangedEvent(post.getId(), category.getId()));
+    }
+
     @Test
     @DisplayName("이전, 혹은 다음 게시글이 없을 경우 null로 조회된다.")
     public void 이전_혹은_다음_게시글이_없을_경우_null로_조회된다() throws Exception {
@@ -361,11 +422,14 @@ public class PostServiceTest extends IntegrationTest {
     @DisplayName("게시글 썸네일 수정은 성공한다.")
     public void should_success_when_updateThumbnail() throws Exception {
       post = postTestHelper.builder().member(member).build();
-      postId = postService.create(post, category.getId(), thumbnail, null);
+      // 같은 내용의 파일은 공유되므로, 다른 게시글이 참조하지 않는 이미지를 기존 썸네일로 쓴다.
+      postId = postService.create(post, category.getId(), thumbnailTestHelper.getSmallThumbnailFile(), null);
+      thumbnailUtil.processPendingThumbnails();
       Thumbnail oldThumbnail = post.getThumbnail();
 
       MockMultipartFile newThumbnailFile = thumbnailTestHelper.getThumbnailFile();
       postService.updatePostThumbnail(member, postId, newThumbnailFile);
+      thumbnailUtil.processPendingThumbnails();
       Thumbnail newThumbnail = post.getThumbnail();
 
       checkDoesNotExist(oldThumbnail);
@@ -502,6 +566,33 @@ public class PostServiceTest extends IntegrationTest {
       assertThat(member.isLike(post)).isFalse();
       assertThat(member.isDislike(post)).isFalse();
     }
+
+    @Test
+    @DisplayName("게시글 좋아요 싫어요는 게시글의 좋아요, 싫어요 수에 반영되어야 한다.")
+    public void 게시글_좋아요_싫어요는_게시글의_좋아요_싫어요_수에_반영되어야_한다() throws Exception {
+      postService.like(member, postId);
+      postService.dislike(member, postId);
+      em.flush();
+      em.clear();
+
+      Post findPost = postRepository.findById(postId).orElseThrow();
+      assertThat(findPost.getLikeCount()).isEqualTo(1);
+      assertThat(findPost.getDislikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("어긋난 게시글 좋아요 수는 보정 작업으로 실제 좋아요 수와 같아져야 한다.")
+    public void 어긋난_게시글_좋아요_수는_보정_작업으로_실제_좋아요_수와_같아져야_한다() throws Exception {
+      postService.like(member, postId);
+      postRepository.increaseLikeCount(postId, 5);
+      em.flush();
+
+      postCounterService.reconcile();
+      em.clear();
+
+      Post findPost = postRepository.findById(postId).orElseThrow();
+      assertThat(findPost.getLikeCount()).isEqualTo(1);
+    }
   }
 
   @Nested
@@ -511,7 +602,7 @@ public class PostServiceTest extends IntegrationTest {
     @Test
     @DisplayName("게시글 파일 삭제는 성공해야 한다.")
     public void 게시글_파일_삭제는_성공해야_한다() throws Exception {
-      postService.addPostFiles(member, postId, List.of(thumbnail));
+      postService.addPostFiles(member, postId, List.of(thumbnailTestHelper.getSmallThumbnailFile()));
 
       FileEntity beforeFile = postHasFileRepository.findByPost(post)
           .orElseThrow()
@@ -554,6 +645,8 @@ public class PostServiceTest extends IntegrationTest {
     @DisplayName("제목 검색은 대소문자 구분 없이 조회되어야 한다.")
     public void 제목_검색은_대소문자_구분_없이_조회되어야_한다() throws Exception {
       postTestHelper.builder().category(category).title("ABCD").build();
+      em.flush();
+      postSearchService.rebuild();
 
       Page<PostResponse> posts = postService.getPosts(category.getId(), "title", "abc", PageRequest.of(0, 10));
 
@@ -564,6 +657,8 @@ public class PostServiceTest extends IntegrationTest {
     @DisplayName("내용 검색은 대소문자 구분 없이 조회되어야 한다.")
     public void 내용_검색은_대소문자_구분_없이_조회되어야_한다() throws Exception {
       Long postId = postTestHelper.builder().category(category).content("ABCD").build().getId();
+      em.flush();
+      postSearchService.rebuild();
 
       Page<PostResponse> posts = postService.getPosts(category.getId(), "content", "abc", PageRequest.of(0, 10));
 
@@ -575,11 +670,106 @@ public class PostServiceTest extends IntegrationTest {
     public void 제목_or_내용_검색은_대소문자_구분_없이_모두_조회되어야_한다() throws Exception {
       Long postId1 = postTestHelper.builder().category(category).title("ABCD").build().getId();
       Long postId2 = postTestHelper.builder().category(category).content("BCD").build().getId();
+      em.flush();
+      postSearchService.rebuild();
 
       Page<PostResponse> posts = postService.getPosts(category.getId(), "title+content", "bc", PageRequest.of(0, 10));
 
       assertThat(posts.getContent().stream().map(PostResponse::getId).toList()).contains(postId1);
       assertThat(posts.getContent().stream().map(PostResponse::getId).toList()).contains(postId2);
     }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 중복이나 누락 없이 최신순으로 조회되어야 한다.")
+    public void 커서로_이어서_조회하면_중복이나_누락_없이_최신순으로_조회되어야_한다() throws Exception {
+      List<Long> postIds = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        postIds.add(postTestHelper.builder().category(category).build().getId());
+      }
+      em.flush();
+      em.clear();
+
+      List<Long> foundIds = new ArrayList<>();
+      PostSliceResponse slice = postService.getPostsByCursor(category.getId(), null, null, 2, true);
+      foundIds.addAll(slice.posts().stream().map(PostResponse::getId).toList());
+      while (slice.hasNext()) {
+        slice = postService.getPostsByCursor(category.getId(), slice.nextCursorRegisterTime(), slice.nextCursorId(),
+            2, false);
+        foundIds.addAll(slice.posts().stream().map(PostResponse::getId).toList());
+      }
+
+      assertThat(foundIds).doesNotHaveDuplicates();
+      assertThat(foundIds).containsAll(postIds);
+      Collections.reverse(postIds);
+      assertThat(foundIds.subList(0, postIds.size())).containsExactlyElementsOf(postIds);
+    }
+  }
+
+  @Nested
+  @DisplayName("게시글 목록 조회 쿼리 수")
+  class PostListQueryCount {
+
+    /**
+     * 목록마다 시드하는 게시글 수. 한 페이지(10개)를 다 채워야 게시글마다 나가는 쿼리가 드러난다.
+     */
+    private static final int POST_COUNT = 15;
+    private static final int MAX_QUERY_COUNT = 3;
+
+    private Category category;
+    private Member writer;
+
+    @BeforeEach
+    void setUp() {
+      category = getCategoryBy(자유게시판);
+      writer = memberTestHelper.generate();
+      for (int i = 0; i < POST_COUNT; i++) {
+        postTestHelper.builder().category(category).member(memberTestHelper.generate()).build();
+        postTestHelper.builder().category(category).member(writer).build();
+        postTestHelper.builder().category(category).member(writer).isTemp(true).build();
+      }
+      em.flush();
+      em.clear();
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회는 게시글 수와 관계없이 일정한 쿼리 수로 조회되어야 한다.")
+    public void 게시글_목록_조회는_게시글_수와_관계없이_일정한_쿼리_수로_조회되어야_한다() throws Exception {
+      long queryCount = countQueries(() -> postService.getPosts(category.getId(), null, null, PageRequest.of(0, 10)));
+
+      assertThat(queryCount).isLessThanOrEqualTo(MAX_QUERY_COUNT);
+    }
+
+    @Test
+    @DisplayName("회원의 게시글 목록 조회는 게시글 수와 관계없이 일정한 쿼리 수로 조회되어야 한다.")
+    public void 회원의_게시글_목록_조회는_게시글_수와_관계없이_일정한_쿼리_수로_조회되어야_한다() throws Exception {
+      long queryCount = countQueries(() -> postService.getMemberPosts(writer.getId(), PageRequest.of(0, 10)));
+
+      assertThat(queryCount).isLessThanOrEqualTo(MAX_QUERY_COUNT);
+    }
+
+    @Test
+    @DisplayName("회원의 임시글 목록 조회는 게시글 수와 관계없이 일정한 쿼리 수로 조회되어야 한다.")
+    public void 회원의_임시글_목록_조회는_게시글_수와_관계없이_일정한_쿼리_수로_조회되어야_한다() throws Exception {
+      Member findWriter = memberRepository.findById(writer.getId()).orElseThrow();
+
+      long queryCount = countQueries(() -> postService.getTempPosts(findWriter, PageRequest.of(0, 10)));
+
+      assertThat(queryCount).isLessThanOrEqualTo(MAX_QUERY_COUNT);
+    }
+
+    private long countQueries(Runnable runnable) {
+      Statistics statistics = em.getEntityManagerFactory()
+          .unwrap(SessionFactory.class)
+          .getStatistics();
+      boolean statisticsEnabled = statistics.isStatisticsEnabled();
+      statistics.setStatisticsEnabled(true);
+      statistics.clear();
+      try {
+        runnable.run();
+        return statistics.getPrepareStatementCount();
+      } finally {
+        statistics.setStatisticsEnabled(statisticsEnabled);
+      }
+    }
   }
 }
@@ -0,0 +1,90 @@
+package com.keeper.homepage.domain.post.application;
+
+import static com.keeper.homepage.domain.post.entity.category.Category.CategoryType.자유게시판;
+import static com.keeper.homepage.domain.post.entity.category.Category.getCategoryBy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.keeper.homepage.IntegrationTest;
+import com.keeper.homepage.domain.member.entity.Member;
+import com.keeper.homepage.domain.post.dto.response.MainPostResponse;
+import com.keeper.homepage.domain.post.entity.Post;
+import com.keeper.homepage.domain.post.entity.category.Category;
+import com.keeper.homepage.domain.post.event.PostChangedEvent;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class PostTrendServiceTest extends IntegrationTest {
+
+  private Member member;
+  private Category category;
+
+  @BeforeEach
+  void setUp() {
+    member = memberTestHelper.generate();
+    category = getCategoryBy(자유게시판);
+  }
+
+  private List<Long> getTrendPostIds() {
+    return postTrendService.getTrendPosts(Integer.MAX_VALUE)
+        .stream()
+        .map(MainPostResponse::getId)
+        .toList();
+  }
+
+  @Nested
+  @DisplayName("인기글 갱신")
+  class Register {
+
+    @Test
+    @DisplayName("커밋되지 않은 게시글은 인기글에 등록되지 않아야 한다.")
+    public void should_notRegister_when_notCommitted() throws Exception {
+      Post post = Post.builder()
+          .member(member)
+          .title("커밋되지 않은 게시글")
+          .content("내용")
+          .ipAddress("0.0.0.0")
+          .allowComment(true)
+          .isNotice(false)
+          .isSecret(false)
+          .isTemp(false)
+          .build();
+      long postId = postService.create(post, category.getId(), null, null);
+
+      assertThat(getTrendPostIds()).doesNotContain(postId);
+    }
+
+    @Test
+    @DisplayName("커밋된 게시글은 등록되고, 삭제가 커밋되면 제외되어야 한다.")
+    public void should_registerAndRemove_when_committed() throws Exception {
+      Post post = postTestHelper.builder().member(member).category(category).build();
+      PostChangedEvent event = new PostChangedEvent(post.getId(), category.getId());
+
+      postTrendService.onPostChanged(event);
+      assertThat(getTrendPostIds()).contains(post.getId());
+
+      postRepository.delete(post);
+      em.flush();
+      postTrendService.onPostChanged(event);
+      assertThat(getTrendPostIds()).doesNotContain(post.getId());
+    }
+
+    @Test
+    @DisplayName("좋아요는 커밋된 뒤에 DB 의 개수로 점수에 반영되어야 한다.")
+    public void should_applyLikeCount_when_committed() throws Exception {
+      Post older = postTestHelper.builder().member(member).category(category).build();
+      Post newer = postTestHelper.builder().member(member).category(category).build();
+      postTrendService.onPostChanged(new PostChangedEvent(older.getId(), category.getId()));
+      postTrendService.onPostChanged(new PostChangedEvent(newer.getId(), category.getId()));
+      assertThat(getTrendPostIds()).containsSubsequence(newer.getId(), older.getId());
+
+      postService.like(memberTestHelper.generate(), older.getId());
+      assertThat(getTrendPostIds()).containsSubsequence(newer.getId(), older.getId());
+
+      postTrendService.onPostChanged(new PostChangedEvent(older.getId(), category.getId()));
+      assertThat(getTrendPostIds()).containsSubsequence(older.getId(), newer.getId());
+    }
+  }
+}
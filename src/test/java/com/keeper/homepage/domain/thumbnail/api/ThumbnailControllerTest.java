@@ -0,0 +1,76 @@
+package com.keeper.homepage.domain.thumbnail.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.keeper.homepage.IntegrationTest;
+import com.keeper.homepage.domain.thumbnail.entity.Thumbnail;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+public class ThumbnailControllerTest extends IntegrationTest {
+
+  private Thumbnail thumbnail;
+
+  @BeforeEach
+  void setUp() {
+    thumbnail = thumbnailTestHelper.generateThumbnail();
+  }
+
+  @Nested
+  @DisplayName("크기별 썸네일 조회 테스트")
+  class GetThumbnailVariant {
+
+    @Test
+    @DisplayName("지원하는 크기일 경우 해당 크기의 썸네일을 응답한다.")
+    public void should_returnVariant_when_supportedWidth() throws Exception {
+      byte[] body = mockMvc.perform(get("/thumbnails/{width}/" + thumbnail.getPath(), 128))
+          .andExpect(status().isOk())
+          .andExpect(content().contentType(MediaType.IMAGE_JPEG))
+          .andExpect(header().exists(CACHE_CONTROL))
+          .andDo(document("get-thumbnail-variant",
+              pathParameters(
+                  parameterWithName("width").description("썸네일 가로 크기 (64, 128, 200 중 하나)")
+              ),
+              responseHeaders(
+                  headerWithName(CACHE_CONTROL).description("크기별 썸네일은 바뀌지 않으므로 오래 캐시할 수 있습니다.")
+              )))
+          .andReturn()
+          .getResponse()
+          .getContentAsByteArray();
+
+      BufferedImage image = ImageIO.read(new ByteArrayInputStream(body));
+      assertThat(image.getWidth()).isEqualTo(128);
+      assertThat(image.getHeight()).isEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 크기일 경우 실패한다.")
+    public void should_fail_when_unsupportedWidth() throws Exception {
+      mockMvc.perform(get("/thumbnails/{width}/" + thumbnail.getPath(), 100))
+          .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 썸네일일 경우 실패한다.")
+    public void should_fail_when_thumbnailNotFound() throws Exception {
+      mockMvc.perform(get("/thumbnails/{width}/keeper_files/thumbnail/none.jpeg", 64))
+          .andExpect(status().isNotFound());
+    }
+  }
+}
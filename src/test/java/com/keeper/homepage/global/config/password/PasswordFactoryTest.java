@@ -0,0 +1,68 @@
+package com.keeper.homepage.global.config.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HexFormat;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordFactoryTest {
+
+  private static final String RAW_PASSWORD = "password123";
+
+  private final PasswordEncoder passwordEncoder = PasswordFactory.getPasswordEncoder();
+
+  @Test
+  @DisplayName("현재 알고리즘으로 해시한 비밀번호는 다시 해시하지 않아야 한다.")
+  void should_notUpgrade_when_currentAlgorithm() {
+    String encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+
+    assertThat(encodedPassword).startsWith("{bcrypt}");
+    assertThat(passwordEncoder.matches(RAW_PASSWORD, encodedPassword)).isTrue();
+    assertThat(passwordEncoder.matches("wrong123", encodedPassword)).isFalse();
+    assertThat(passwordEncoder.upgradeEncoding(encodedPassword)).isFalse();
+  }
+
+  @Test
+  @DisplayName("이전 홈페이지의 PBKDF2-SHA256 비밀번호는 비교할 수 있고 다시 해시해야 한다.")
+  void should_matchAndUpgrade_when_pbkdf2Sha256() throws Exception {
+    String encodedPassword = encodeWithPbkdf2Sha256(RAW_PASSWORD, "salt", 1000);
+
+    assertThat(passwordEncoder.matches(RAW_PASSWORD, encodedPassword)).isTrue();
+    assertThat(passwordEncoder.matches("wrong123", encodedPassword)).isFalse();
+    assertThat(passwordEncoder.upgradeEncoding(encodedPassword)).isTrue();
+  }
+
+  @Test
+  @DisplayName("이전 홈페이지의 MD5 비밀번호는 비교할 수 있고 다시 해시해야 한다.")
+  void should_matchAndUpgrade_when_md5() throws Exception {
+    String encodedPassword = HexFormat.of().formatHex(MessageDigest.getInstance("MD5")
+        .digest(RAW_PASSWORD.getBytes()));
+
+    assertThat(passwordEncoder.matches(RAW_PASSWORD, encodedPassword)).isTrue();
+    assertThat(passwordEncoder.matches("wrong123", encodedPassword)).isFalse();
+    assertThat(passwordEncoder.upgradeEncoding(encodedPassword)).isTrue();
+  }
+
+  @Test
+  @DisplayName("알 수 없는 형식의 해시는 비교에 실패해야 한다.")
+  void should_notMatch_when_unknownFormat() {
+    assertThat(passwordEncoder.matches(RAW_PASSWORD, RAW_PASSWORD)).isFalse();
+    assertThat(passwordEncoder.matches(RAW_PASSWORD, "{unknown}" + RAW_PASSWORD)).isFalse();
+    assertThat(passwordEncoder.matches(RAW_PASSWORD, null)).isFalse();
+  }
+
+  private static String encodeWithPbkdf2Sha256(String password, String salt, int iterations) throws Exception {
+    byte[] hash = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256")
+        .generateSecret(new PBEKeySpec(password.toCharArray(), salt.getBytes(StandardCharsets.UTF_8), iterations, 256))
+        .getEncoded();
+    return "pbkdf2_sha256:%d:%s:%s".formatted(iterations, salt,
+        Base64.getEncoder().encodeToString(hash).substring(0, 32));
+  }
+}
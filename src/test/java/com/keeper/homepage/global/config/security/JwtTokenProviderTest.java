@@ -1,14 +1,24 @@
 package com.keeper.homepage.global.config.security;
 
 import static com.keeper.homepage.global.config.security.data.JwtType.ACCESS_TOKEN;
+import static com.keeper.homepage.global.config.security.data.JwtValidationType.VALID;
+import static com.keeper.homepage.global.config.security.data.JwtValidationType.WRONG_SIGNATURE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.keeper.homepage.domain.member.entity.job.MemberJob.MemberJobType;
+import com.keeper.homepage.global.config.security.data.JwtPayload;
+import com.keeper.homepage.global.config.security.data.TokenValidationResultDto;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.servlet.http.Cookie;
+import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -58,4 +68,55 @@ class JwtTokenProviderTest {
         .collect(Collectors.toList());
     assertThat(authorities).containsAll(List.of("ROLE_회원", "ROLE_회장"));
   }
+
+  @Test
+  void verify_cachesVerifiedToken() {
+    String accessToken = jwtTokenProvider.createAccessToken(ACCESS_TOKEN, 1L, MemberJobType.ROLE_회원);
+
+    JwtPayload payload = jwtTokenProvider.verify(accessToken);
+
+    assertThat(payload.getAuthId()).isEqualTo(1L);
+    assertThat(payload.roles()).containsExactly("ROLE_회원");
+    assertThat(jwtTokenProvider.verify(accessToken)).isSameAs(payload);
+  }
+
+  @Test
+  void verify_throwsExpiredJwtException_when_expiredToken() {
+    Date issuedAt = new Date(System.currentTimeMillis() - 2000);
+    String expiredToken = Jwts.builder()
+        .setSubject("1")
+        .claim("roles", "ROLE_회원")
+        .setIssuedAt(issuedAt)
+        .setExpiration(new Date(issuedAt.getTime() + 1000))
+        .signWith(jwtTokenProvider.secretKey, SignatureAlgorithm.HS256)
+        .compact();
+
+    assertThatThrownBy(() -> jwtTokenProvider.verify(expiredToken))
+        .isInstanceOf(ExpiredJwtException.class);
+  }
+
+  @Test
+  void tryCheckTokenValid_returnsPayload_when_validToken() {
+    String accessToken = jwtTokenProvider.createAccessToken(ACCESS_TOKEN, 1L, MemberJobType.ROLE_회원);
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setCookies(new Cookie(ACCESS_TOKEN.getTokenName(), accessToken));
+
+    TokenValidationResultDto result = jwtTokenProvider.tryCheckTokenValid(request, ACCESS_TOKEN);
+
+    assertThat(result.getResultType()).isEqualTo(VALID);
+    assertThat(result.getPayload().getAuthId()).isEqualTo(1L);
+  }
+
+  @Test
+  void tryCheckTokenValid_returnsWrongSignature_when_signedWithOtherKey() {
+    JwtTokenProvider otherProvider = new JwtTokenProvider(TEST_SECRET_KEY.toLowerCase());
+    String accessToken = otherProvider.createAccessToken(ACCESS_TOKEN, 1L, MemberJobType.ROLE_회원);
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setCookies(new Cookie(ACCESS_TOKEN.getTokenName(), accessToken));
+
+    TokenValidationResultDto result = jwtTokenProvider.tryCheckTokenValid(request, ACCESS_TOKEN);
+
+    assertThat(result.getResultType()).isEqualTo(WRONG_SIGNATURE);
+    assertThat(result.getPayload()).isNull();
+  }
 }
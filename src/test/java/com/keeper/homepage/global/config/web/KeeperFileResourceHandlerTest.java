@@ -0,0 +1,129 @@
+package com.keeper.homepage.global.config.web;
+
+import static com.keeper.homepage.global.util.file.server.FileServerConstants.DEFAULT_FILE_PATH;
+import static com.keeper.homepage.global.util.file.server.FileServerConstants.ROOT_PATH;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.VARY;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.keeper.homepage.IntegrationTest;
+import com.keeper.homepage.domain.file.entity.FileEntity;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+class KeeperFileResourceHandlerTest extends IntegrationTest {
+
+  private FileEntity fileEntity;
+  private String fileUrl;
+
+  @BeforeEach
+  void setUp() {
+    fileEntity = fileUtil.saveFile(thumbnailTestHelper.getSmallThumbnailFile()).orElseThrow();
+    fileUrl = "/" + fileEntity.getFilePath().replace(File.separator, "/");
+  }
+
+  @Nested
+  @DisplayName("업로드 파일 조회")
+  class GetKeeperFile {
+
+    private Path textFile;
+    private Path gzipFile;
+
+    @AfterEach
+    void tearDown() throws IOException {
+      if (textFile != null) {
+        Files.deleteIfExists(textFile);
+        Files.deleteIfExists(gzipFile);
+      }
+    }
+
+    @Test
+    @DisplayName("업로드 파일은 immutable 로 캐시하도록 응답해야 한다.")
+    public void should_respondImmutable_when_getKeeperFile() throws Exception {
+      mockMvc.perform(get(fileUrl))
+          .andExpect(status().isOk())
+          .andExpect(content().contentType(MediaType.IMAGE_PNG))
+          .andExpect(header().string(CACHE_CONTROL, containsString("immutable")))
+          .andExpect(header().exists(ETAG));
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 304 를 응답해야 한다.")
+    public void should_respondNotModified_when_eTagMatches() throws Exception {
+      String eTag = mockMvc.perform(get(fileUrl))
+          .andReturn()
+          .getResponse()
+          .getHeader(ETAG);
+
+      mockMvc.perform(get(fileUrl)
+              .header(IF_NONE_MATCH, eTag))
+          .andExpect(status().isNotModified())
+          .andExpect(header().string(CACHE_CONTROL, containsString("immutable")));
+    }
+
+    @Test
+    @DisplayName("미리 압축된 파일이 있으면 압축된 파일을 응답해야 한다.")
+    public void should_respondPrecompressed_when_gzipExists() throws Exception {
+      // 메타데이터가 캐시되지 않은 새 파일로 확인한다.
+      textFile = Path.of(DEFAULT_FILE_PATH, UUID.randomUUID() + ".txt");
+      gzipFile = Path.of(textFile + ".gz");
+      Files.writeString(textFile, "keeper");
+      Files.write(gzipFile, new byte[]{1, 2, 3});
+      String textFileUrl = "/" + textFile.toString().substring(ROOT_PATH.length() + 1).replace(File.separator, "/");
+
+      mockMvc.perform(get(textFileUrl)
+              .header(ACCEPT_ENCODING, "gzip, deflate"))
+          .andExpect(status().isOk())
+          .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+          .andExpect(header().string(CONTENT_ENCODING, "gzip"))
+          .andExpect(header().string(VARY, containsString(ACCEPT_ENCODING)))
+          .andExpect(content().bytes(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    @DisplayName("캐시된 파일이 삭제되면 ETag 가 같아도 404 를 응답해야 한다.")
+    public void should_respondNotFound_when_cachedFileDeleted() throws Exception {
+      textFile = Path.of(DEFAULT_FILE_PATH, UUID.randomUUID() + ".txt");
+      gzipFile = Path.of(textFile + ".gz");
+      Files.writeString(textFile, "keeper");
+      String textFileUrl = "/" + textFile.toString().substring(ROOT_PATH.length() + 1).replace(File.separator, "/");
+      String eTag = mockMvc.perform(get(textFileUrl))
+          .andExpect(status().isOk())
+          .andReturn()
+          .getResponse()
+          .getHeader(ETAG);
+
+      Files.delete(textFile);
+
+      mockMvc.perform(get(textFileUrl)
+              .header(IF_NONE_MATCH, eTag))
+          .andExpect(status().isNotFound());
+      mockMvc.perform(get(textFileUrl))
+          .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("상위 경로로 벗어나는 요청은 404 를 응답해야 한다.")
+    public void should_respondNotFound_when_pathTraversal() throws Exception {
+      mockMvc.perform(get("/keeper_files/../build.gradle.kts"))
+          .andExpect(status().isNotFound());
+    }
+  }
+}
@@ -1,10 +1,14 @@
 package com.keeper.homepage.global.util.file;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.keeper.homepage.IntegrationTest;
 import com.keeper.homepage.domain.file.entity.FileEntity;
+import com.keeper.homepage.global.util.file.exception.FileSaveFailedException;
 import java.io.File;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -48,6 +52,53 @@ class FileServerUtilTest extends IntegrationTest {
     }
   }
 
+  @Nested
+  @DisplayName("여러 파일 저장 테스트")
+  class SaveFiles {
+
+    @Test
+    @DisplayName("여러 파일을 저장하면 요청 순서대로 저장되어야 한다.")
+    void should_saveInOrder_when_saveFiles() {
+      List<FileEntity> result = fileUtil.saveFiles(thumbnailTestHelper.getThumbnailFile(),
+          thumbnailTestHelper.getSmallThumbnailFile(), thumbnailTestHelper.getThumbnailFile());
+
+      assertThat(result).hasSize(3);
+      assertThat(result).extracting(FileEntity::getFileName)
+          .containsExactly("testImage_210x210.png", "testImage_1x1.png", "testImage_210x210.png");
+      assertThat(result).extracting(FileEntity::getId).doesNotContainNull().doesNotHaveDuplicates();
+      result.forEach(fileEntity -> assertThat(new File(fileEntity.getFilePath())).exists());
+    }
+
+    @Test
+    @DisplayName("같은 내용의 파일은 디스크에 한 번만 저장되어 같은 경로를 공유해야 한다.")
+    void should_sharePath_when_saveSameContent() {
+      List<FileEntity> result = fileUtil.saveFiles(thumbnailTestHelper.getThumbnailFile(),
+          thumbnailTestHelper.getThumbnailFile(), thumbnailTestHelper.getSmallThumbnailFile());
+
+      assertThat(result.get(0).getFilePath()).isEqualTo(result.get(1).getFilePath());
+      assertThat(result.get(0).getFilePath()).isNotEqualTo(result.get(2).getFilePath());
+      assertThat(result.get(0).getId()).isNotEqualTo(result.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("파일 중에 null이 있으면 아무 파일도 저장하지 않고 FileSaveFailedException을 던진다.")
+    void should_throwFileSaveFailedException_when_containsNull() {
+      assertThatThrownBy(() -> fileUtil.storeFiles(Arrays.asList(thumbnailTestHelper.getThumbnailFile(), null)))
+          .isInstanceOf(FileSaveFailedException.class);
+    }
+
+    @Test
+    @DisplayName("디스크에만 저장된 파일은 성공적으로 삭제되어야 한다.")
+    void should_deleteSuccessfully_when_deleteStoredFiles() {
+      List<StoredFile> storedFiles = fileUtil.storeFiles(List.of(thumbnailTestHelper.getThumbnailFile()));
+      assertThat(new File(storedFiles.get(0).filePath())).exists();
+
+      fileUtil.deleteStoredFiles(storedFiles);
+
+      assertThat(new File(storedFiles.get(0).filePath())).doesNotExist();
+    }
+  }
+
   @Nested
   @DisplayName("파일 삭제 테스트")
   class DeleteFile {
@@ -65,5 +116,18 @@ class FileServerUtilTest extends IntegrationTest {
       Optional<FileEntity> result = fileRepository.findById(fileEntity.getId());
       assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("같은 내용의 파일을 참조하는 Entity 가 남아있으면 디스크에서 삭제되지 않아야 한다.")
+    void should_keepFile_when_otherEntityReferencesSameContent() {
+      FileEntity fileEntity = fileUtil.saveFile(thumbnailTestHelper.getThumbnailFile()).orElseThrow();
+      FileEntity otherFileEntity = fileUtil.saveFile(thumbnailTestHelper.getThumbnailFile()).orElseThrow();
+
+      fileUtil.deleteFileAndEntity(fileEntity);
+      assertThat(new File(otherFileEntity.getFilePath())).exists();
+
+      fileUtil.deleteFileAndEntity(otherFileEntity);
+      assertThat(new File(otherFileEntity.getFilePath())).doesNotExist();
+    }
   }
 }
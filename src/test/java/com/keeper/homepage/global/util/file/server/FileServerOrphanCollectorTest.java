@@ -0,0 +1,78 @@
+package com.keeper.homepage.global.util.file.server;
+
+import static com.keeper.homepage.global.util.file.server.FileServerConstants.DEFAULT_FILE_PATH;
+import static com.keeper.homepage.global.util.file.server.FileServerConstants.ROOT_PATH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.keeper.homepage.IntegrationTest;
+import com.keeper.homepage.domain.file.entity.FileEntity;
+import com.keeper.homepage.global.util.file.server.FileServerOrphanCollector.CollectResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class FileServerOrphanCollectorTest extends IntegrationTest {
+
+  @Autowired
+  private FileServerOrphanCollector fileServerOrphanCollector;
+
+  private static void makeOld(Path path) throws IOException {
+    Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+  }
+
+  @Nested
+  @DisplayName("고아 파일 정리 테스트")
+  class Collect {
+
+    @Test
+    @DisplayName("참조되지 않는 오래된 파일은 격리되어야 한다.")
+    void should_quarantine_when_fileIsNotReferenced() throws IOException {
+      Path orphan = Files.writeString(Paths.get(DEFAULT_FILE_PATH, UUID.randomUUID() + ".txt"), "orphan");
+      makeOld(orphan);
+
+      CollectResult result = fileServerOrphanCollector.collect();
+
+      assertThat(orphan).doesNotExist();
+      assertThat(result.quarantinedCount()).isPositive();
+      assertThat(result.quarantinedBytes()).isGreaterThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("참조되는 파일과 최근에 저장된 파일은 격리되지 않아야 한다.")
+    void should_keep_when_fileIsReferencedOrRecent() throws IOException {
+      FileEntity fileEntity = fileUtil.saveFile(thumbnailTestHelper.getSmallThumbnailFile()).orElseThrow();
+      Path referenced = Paths.get(ROOT_PATH, fileEntity.getFilePath());
+      makeOld(referenced);
+      Path recent = Files.writeString(Paths.get(DEFAULT_FILE_PATH, UUID.randomUUID() + ".txt"), "recent");
+
+      fileServerOrphanCollector.collect();
+
+      assertThat(referenced).exists();
+      assertThat(recent).exists();
+      Files.delete(recent);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 격리 파일은 삭제되고 회수한 용량을 알려야 한다.")
+    void should_deleteAndReportReclaimedBytes_when_quarantineExpired() throws IOException {
+      Path expired = Paths.get(FileServerOrphanCollector.QUARANTINE_PATH, "2000-01-01", UUID.randomUUID() + ".txt");
+      Files.createDirectories(expired.getParent());
+      Files.writeString(expired, "expired");
+
+      CollectResult result = fileServerOrphanCollector.collect();
+
+      assertThat(expired.getParent()).doesNotExist();
+      assertThat(result.deletedCount()).isPositive();
+      assertThat(result.reclaimedBytes()).isGreaterThanOrEqualTo(7);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.keeper.homepage.global.util.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalTokenBucketTest {
+
+  private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final LocalTokenBucket localTokenBucket = new LocalTokenBucket(2, 1);
+
+  @Test
+  @DisplayName("토큰을 모두 쓰면 다음 토큰이 찰 때까지 거절해야 한다.")
+  void should_reject_when_tokensExhausted() {
+    assertThat(localTokenBucket.tryConsume("127.0.0.1", 0)).isZero();
+    assertThat(localTokenBucket.tryConsume("127.0.0.1", 0)).isZero();
+    assertThat(localTokenBucket.tryConsume("127.0.0.1", 0)).isEqualTo(1000);
+    assertThat(localTokenBucket.tryConsume("127.0.0.1", ONE_SECOND / 2)).isEqualTo(500);
+    assertThat(localTokenBucket.tryConsume("127.0.0.1", ONE_SECOND)).isZero();
+  }
+
+  @Test
+  @DisplayName("키마다 토큰을 따로 세야 한다.")
+  void should_countSeparately_when_differentKey() {
+    localTokenBucket.tryConsume("127.0.0.1", 0);
+    localTokenBucket.tryConsume("127.0.0.1", 0);
+
+    assertThat(localTokenBucket.tryConsume("127.0.0.1", 0)).isPositive();
+    assertThat(localTokenBucket.tryConsume("127.0.0.2", 0)).isZero();
+  }
+
+  @Test
+  @DisplayName("오래 쉬어도 토큰은 용량까지만 차야 한다.")
+  void should_notExceedCapacity_when_idleForLong() {
+    localTokenBucket.tryConsume("127.0.0.1", 0);
+
+    long later = 100 * ONE_SECOND;
+    assertThat(localTokenBucket.tryConsume("127.0.0.1", later)).isZero();
+    assertThat(localTokenBucket.tryConsume("127.0.0.1", later)).isZero();
+    assertThat(localTokenBucket.tryConsume("127.0.0.1", later)).isPositive();
+  }
+}
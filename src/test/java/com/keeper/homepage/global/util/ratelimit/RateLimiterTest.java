@@ -0,0 +1,79 @@
+package com.keeper.homepage.global.util.ratelimit;
+
+import static com.keeper.homepage.global.util.ratelimit.RateLimitPolicy.SIGN_IN_IP;
+import static com.keeper.homepage.global.util.ratelimit.RateLimitPolicy.SIGN_IN_LOGIN_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.keeper.homepage.IntegrationTest;
+import com.keeper.homepage.global.error.RateLimitException;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+
+class RateLimiterTest extends IntegrationTest {
+
+  private static final String IP = "127.0.0.1";
+
+  @Autowired
+  private StringRedisTemplate redisTemplate;
+
+  private RateLimiter limiter;
+  private String loginId;
+  private String ip;
+
+  @BeforeEach
+  void setUp() {
+    limiter = new RateLimiter(redisTemplate, new MockEnvironment()
+        .withProperty("rate-limit.sign-in-login-id.limit", "2")
+        .withProperty("rate-limit.sign-in-ip.limit", "3"));
+    loginId = UUID.randomUUID().toString();
+    ip = UUID.randomUUID().toString();
+  }
+
+  @AfterEach
+  void tearDown() {
+    redisTemplate.delete("rateLimit:" + SIGN_IN_LOGIN_ID.getName() + ":" + loginId);
+    redisTemplate.delete("rateLimit:" + SIGN_IN_IP.getName() + ":" + ip);
+  }
+
+  @Test
+  @DisplayName("허용 횟수를 초과하면 초과한 정책과 Retry-After 를 담아 거절해야 한다.")
+  void should_throwRateLimitException_when_limitExceeded() {
+    limiter.acquire(IP, SIGN_IN_LOGIN_ID.key(loginId), SIGN_IN_IP.key(ip));
+    limiter.acquire(IP, SIGN_IN_LOGIN_ID.key(loginId), SIGN_IN_IP.key(ip));
+
+    assertThatThrownBy(() -> limiter.acquire(IP, SIGN_IN_LOGIN_ID.key(loginId), SIGN_IN_IP.key(ip)))
+        .isInstanceOfSatisfying(RateLimitException.class, e -> {
+          assertThat(e.getFieldName()).isEqualTo(SIGN_IN_LOGIN_ID.getName());
+          assertThat(e.getRetryAfterSeconds()).isBetween(1L, SIGN_IN_LOGIN_ID.getDefaultWindowSeconds());
+        });
+  }
+
+  @Test
+  @DisplayName("거절된 요청은 다른 키의 횟수에 포함되지 않아야 한다.")
+  void should_notCountOtherKeys_when_rejected() {
+    limiter.acquire(IP, SIGN_IN_LOGIN_ID.key(loginId), SIGN_IN_IP.key(ip));
+    limiter.acquire(IP, SIGN_IN_LOGIN_ID.key(loginId), SIGN_IN_IP.key(ip));
+    assertThatThrownBy(() -> limiter.acquire(IP, SIGN_IN_LOGIN_ID.key(loginId), SIGN_IN_IP.key(ip)))
+        .isInstanceOf(RateLimitException.class);
+
+    assertThatNoException().isThrownBy(() -> limiter.acquire(IP, SIGN_IN_IP.key(ip)));
+  }
+
+  @Test
+  @DisplayName("대소문자와 앞뒤 공백이 달라도 같은 키로 세야 한다.")
+  void should_countSameKey_when_caseOrWhitespaceDiffers() {
+    limiter.acquire(IP, SIGN_IN_LOGIN_ID.key(loginId));
+    limiter.acquire(IP, SIGN_IN_LOGIN_ID.key(" " + loginId.toUpperCase() + " "));
+
+    assertThatThrownBy(() -> limiter.acquire(IP, SIGN_IN_LOGIN_ID.key(loginId)))
+        .isInstanceOf(RateLimitException.class);
+  }
+}
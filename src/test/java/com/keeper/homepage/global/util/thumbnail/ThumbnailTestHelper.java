@@ -18,7 +18,9 @@ public class ThumbnailTestHelper {
   ThumbnailUtil thumbnailUtil;
 
   public Thumbnail generateThumbnail() {
-    return thumbnailUtil.saveThumbnail(getThumbnailFile()).orElseThrow();
+    Thumbnail thumbnail = thumbnailUtil.saveThumbnail(getThumbnailFile()).orElseThrow();
+    thumbnailUtil.processPendingThumbnails();
+    return thumbnail;
   }
 
   public MockMultipartFile getThumbnailFile() {
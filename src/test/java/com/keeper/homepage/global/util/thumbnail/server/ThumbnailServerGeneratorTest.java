@@ -0,0 +1,34 @@
+package com.keeper.homepage.global.util.thumbnail.server;
+
+import static com.keeper.homepage.global.util.thumbnail.ThumbnailType.DEFAULT;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerGenerator.MAX_DECODED_PIXELS;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerGenerator.getDecodedPixels;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerGenerator.getSubsampling;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ThumbnailServerGeneratorTest {
+
+  @Test
+  @DisplayName("디코딩 간격은 썸네일 크기의 2배 이상을 남기도록 정해져야 한다.")
+  void should_keepTwiceThumbnailSize_when_normalImage() {
+    int subsampling = getSubsampling(4000, 3000, DEFAULT);
+
+    assertThat(subsampling).isEqualTo(7);
+    assertThat(4000 / subsampling).isGreaterThanOrEqualTo(DEFAULT.getWidthPixel() * 2);
+    assertThat(3000 / subsampling).isGreaterThanOrEqualTo(DEFAULT.getHeightPixel() * 2);
+  }
+
+  @Test
+  @DisplayName("가로세로 비율이 극단적인 이미지도 디코딩 결과가 메모리 상한을 넘지 않아야 한다.")
+  void should_notExceedDecodedPixels_when_extremeAspectRatio() {
+    int width = 200_000;
+    int height = 399;
+
+    int subsampling = getSubsampling(width, height, DEFAULT);
+
+    assertThat(getDecodedPixels(width, height, subsampling)).isLessThanOrEqualTo(MAX_DECODED_PIXELS);
+  }
+}
@@ -1,22 +1,35 @@
 package com.keeper.homepage.global.util.thumbnail.server;
 
 import static com.keeper.homepage.global.util.file.server.FileServerConstants.ROOT_PATH;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerConstants.PENDING_THUMBNAIL_FULL_PATH;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerConstants.PENDING_THUMBNAIL_PATH;
 import static java.io.File.separator;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.keeper.homepage.IntegrationTest;
 import com.keeper.homepage.domain.thumbnail.entity.Thumbnail;
+import com.keeper.homepage.domain.thumbnail.entity.Thumbnail.ThumbnailStatus;
+import com.keeper.homepage.global.util.thumbnail.ThumbnailType;
+import com.keeper.homepage.global.util.thumbnail.ThumbnailUtil;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.imageio.ImageIO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mock.web.MockMultipartFile;
 
 class ThumbnailServerUtilTest extends IntegrationTest {
@@ -32,6 +45,7 @@ class ThumbnailServerUtilTest extends IntegrationTest {
           "testImage_210x210.png", "image/png",
           new FileInputStream("src/test/resources/images/testImage_210x210.png"));
       Thumbnail savedThumbnail = thumbnailUtil.saveThumbnail(validMultipartFile).orElseThrow();
+      thumbnailUtil.processPendingThumbnails();
       String filePath = savedThumbnail.getFileEntity().getFilePath();
       Path fileFullPath = Path.of(ROOT_PATH + separator + filePath);
       Path thumbnailFullPath = Path.of(ROOT_PATH + separator + savedThumbnail.getPath());
@@ -61,6 +75,7 @@ class ThumbnailServerUtilTest extends IntegrationTest {
     @DisplayName("썸네일 파일이 유효한 경우 저장은 성공해야 한다.")
     void should_saveSuccessfully_when_validMultipartFile() {
       Thumbnail result = thumbnailUtil.saveThumbnail(validMultipartFile).orElseThrow();
+      thumbnailUtil.processPendingThumbnails();
       assertThat(result).isNotNull();
       deleteTestFile(result);
     }
@@ -70,6 +85,7 @@ class ThumbnailServerUtilTest extends IntegrationTest {
     void should_resizingWell_when_validMultipartFile() throws IOException {
       Thumbnail savedThumbnailEntity = thumbnailUtil.saveThumbnail(validMultipartFile)
           .orElseThrow();
+      thumbnailUtil.processPendingThumbnails();
       File result = new File(ROOT_PATH + separator + savedThumbnailEntity.getPath());
 
       assertThat(result).exists();
@@ -98,4 +114,95 @@ class ThumbnailServerUtilTest extends IntegrationTest {
       assertThat(thumbnailFile.delete()).isTrue();
     }
   }
+
+  @Nested
+  @DisplayName("썸네일 생성 작업 테스트")
+  class JobTest {
+
+    @Test
+    @DisplayName("썸네일은 대기 상태로 저장되고 작업을 처리하면 준비 상태가 되어야 한다.")
+    void should_becomeReady_when_processPendingThumbnails() {
+      Thumbnail thumbnail = thumbnailUtil.saveThumbnail(thumbnailTestHelper.getSmallThumbnailFile()).orElseThrow();
+
+      assertThat(thumbnail.getStatus()).isEqualTo(ThumbnailStatus.PENDING);
+      assertThat(thumbnail.getPath()).isEqualTo(PENDING_THUMBNAIL_PATH);
+      assertThat(new File(PENDING_THUMBNAIL_FULL_PATH)).exists();
+
+      assertThat(thumbnailUtil.processPendingThumbnails()).isEqualTo(1);
+
+      assertThat(thumbnail.getStatus()).isEqualTo(ThumbnailStatus.READY);
+      assertThat(thumbnail.getPath()).isNotEqualTo(PENDING_THUMBNAIL_PATH);
+      assertThat(new File(ROOT_PATH + separator + thumbnail.getPath())).exists();
+    }
+
+    @Test
+    @DisplayName("원본 이미지를 읽지 못하면 대기 상태를 유지하고 나중에 다시 시도해야 한다.")
+    void should_retryLater_when_sourceIsMissing() throws IOException {
+      Thumbnail thumbnail = thumbnailUtil.saveThumbnail(thumbnailTestHelper.getSmallThumbnailFile()).orElseThrow();
+      Files.delete(Path.of(ROOT_PATH, thumbnail.getFileEntity().getFilePath()));
+
+      assertThat(thumbnailUtil.processPendingThumbnails()).isEqualTo(1);
+      assertThat(thumbnailUtil.processPendingThumbnails()).isZero();
+
+      assertThat(thumbnail.getStatus()).isEqualTo(ThumbnailStatus.PENDING);
+      assertThat(thumbnail.getPath()).isEqualTo(PENDING_THUMBNAIL_PATH);
+    }
+
+    @Test
+    @DisplayName("대기 중인 썸네일을 삭제해도 대기 중 이미지는 삭제되지 않아야 한다.")
+    void should_keepPendingImage_when_deletePendingThumbnail() {
+      Thumbnail thumbnail = thumbnailUtil.saveThumbnail(thumbnailTestHelper.getSmallThumbnailFile()).orElseThrow();
+
+      thumbnailUtil.deleteFileAndEntity(thumbnail);
+
+      assertThat(new File(PENDING_THUMBNAIL_FULL_PATH)).exists();
+      assertThat(thumbnailUtil.processPendingThumbnails()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("크기별 썸네일 테스트")
+  class VariantTest {
+
+    @Autowired
+    private ThumbnailServerVariantCache thumbnailServerVariantCache;
+
+    @Test
+    @DisplayName("같은 크기별 썸네일을 동시에 요청해도 한 번만 생성되어야 한다.")
+    void should_generateOnce_when_requestConcurrently() throws Exception {
+      Thumbnail thumbnail = thumbnailTestHelper.generateThumbnail();
+      Path source = Path.of(ROOT_PATH, thumbnail.getFileEntity().getFilePath());
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+
+      List<Future<Path>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(() -> thumbnailServerVariantCache.getOrGenerate(thumbnail.getId(), source,
+            ThumbnailType.SMALL)));
+      }
+      Set<Path> variants = new HashSet<>();
+      for (Future<Path> result : results) {
+        variants.add(result.get());
+      }
+      executor.shutdown();
+
+      assertThat(variants).hasSize(1);
+      BufferedImage image = ImageIO.read(variants.iterator().next().toFile());
+      assertThat(image.getWidth()).isEqualTo(64);
+      assertThat(image.getHeight()).isEqualTo(64);
+
+      thumbnailUtil.deleteFileAndEntity(thumbnail);
+      assertThat(variants.iterator().next()).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("srcset은 작은 크기부터 크기별 썸네일 경로를 나열해야 한다.")
+    void should_listVariantPaths_when_getSrcset() {
+      String srcset = ThumbnailUtil.getSrcset("keeper_files/thumbnail/a.jpeg");
+
+      assertThat(srcset).isEqualTo("thumbnails/64/keeper_files/thumbnail/a.jpeg 64w, "
+          + "thumbnails/128/keeper_files/thumbnail/a.jpeg 128w, "
+          + "keeper_files/thumbnail/a.jpeg 200w");
+      assertThat(ThumbnailUtil.getSrcset(null)).isNull();
+    }
+  }
 }
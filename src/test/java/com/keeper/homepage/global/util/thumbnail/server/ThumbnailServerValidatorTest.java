@@ -1,15 +1,24 @@
 package com.keeper.homepage.global.util.thumbnail.server;
 
-import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerValidator.checkInvalidImageFile;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerValidator.DEFAULT_MAX_PIXELS;
+import static com.keeper.homepage.global.util.thumbnail.server.ThumbnailServerValidator.getValidImageReader;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.util.FileCopyUtils;
 
 class ThumbnailServerValidatorTest {
 
@@ -20,10 +29,53 @@ class ThumbnailServerValidatorTest {
         "fakeImage.png", "image/png",
         new FileInputStream("src/test/resources/images/fakeImage.png"));
 
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    FileCopyUtils.copy(fakeImageFile.getInputStream(), outputStream);
+    try (ImageInputStream imageInputStream = new MemoryCacheImageInputStream(fakeImageFile.getInputStream())) {
+      assertThatThrownBy(() -> getValidImageReader(imageInputStream, fakeImageFile.getOriginalFilename(),
+          DEFAULT_MAX_PIXELS))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  @DisplayName("이미지 파일일 경우 헤더만 읽어도 이미지 크기를 알 수 있어야 한다.")
+  void should_readSize_when_imageFile() throws IOException {
+    try (ImageInputStream imageInputStream = new MemoryCacheImageInputStream(
+        new FileInputStream("src/test/resources/images/testImage_210x210.png"))) {
+      ImageReader reader = getValidImageReader(imageInputStream, "testImage_210x210.png", DEFAULT_MAX_PIXELS);
+
+      assertThat(reader.getWidth(0)).isEqualTo(210);
+      assertThat(reader.getHeight(0)).isEqualTo(210);
+      reader.dispose();
+    }
+  }
 
-    assertThatThrownBy(() -> checkInvalidImageFile(outputStream.toByteArray(), fakeImageFile.getOriginalFilename()))
-        .isInstanceOf(IllegalArgumentException.class);
+  @Test
+  @DisplayName("헤더의 해상도가 픽셀 상한을 넘을 경우 디코딩하지 않고 Exception을 발생시킨다.")
+  void should_reject_when_declaredPixelsExceedBudget() throws IOException {
+    byte[] png = createPngDeclaring(20000, 20000);
+
+    try (ImageInputStream imageInputStream = new MemoryCacheImageInputStream(new ByteArrayInputStream(png))) {
+      assertThatThrownBy(() -> getValidImageReader(imageInputStream, "bomb.png", DEFAULT_MAX_PIXELS))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("20000x20000");
+    }
+  }
+
+  /**
+   * 1x1 PNG 의 IHDR 청크에 적힌 크기만 바꾼다. 실제 픽셀 데이터는 1x1 그대로이다.
+   */
+  private static byte[] createPngDeclaring(int width, int height) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+    ByteBuffer png = ByteBuffer.wrap(outputStream.toByteArray());
+    int ihdrType = 12;
+    int ihdrData = 16;
+    int ihdrLength = 13;
+    png.putInt(ihdrData, width);
+    png.putInt(ihdrData + 4, height);
+    CRC32 crc = new CRC32();
+    crc.update(png.array(), ihdrType, 4 + ihdrLength);
+    png.putInt(ihdrData + ihdrLength, (int) crc.getValue());
+    return png.array();
   }
 }